@@ -0,0 +1,100 @@
+package com.gathering.auth.infra;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.DirectFieldAccessor;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * JWT 검증 경로 벤치마크
+ * 요청마다 파서를 새로 만들고 같은 토큰을 여러 번 검증하던 기존 방식과
+ * 미리 만든 파서로 한 번만 검증하는 방식의 요청당 CPU 비용 비교
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtTokenProviderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+	private static final String SECRET = "benchmarkSecretKeyForJwtTokenGenerationMustBeLongEnoughForHS256";
+	private static final String TSID = "0ABCDEFGHJKMN";
+
+	private JwtTokenProvider jwtTokenProvider;
+	private SecretKey key;
+	private String accessToken;
+	private String refreshToken;
+
+	@Setup
+	public void setUp() {
+		jwtTokenProvider = new JwtTokenProvider();
+		DirectFieldAccessor accessor = new DirectFieldAccessor(jwtTokenProvider);
+		accessor.setPropertyValue("secretKey", SECRET);
+		accessor.setPropertyValue("accessTokenValidityInSeconds", 3600L);
+		accessor.setPropertyValue("refreshTokenValidityInSeconds", 7776000L);
+		jwtTokenProvider.init();
+
+		key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+		accessToken = jwtTokenProvider.createAccessToken(TSID);
+		refreshToken = jwtTokenProvider.createRefreshToken(TSID, UUID.randomUUID().toString());
+	}
+
+	/**
+	 * 기존 인증 필터: validateAccessToken + getTsidFromToken (파서 생성 2회, 서명 검증 2회)
+	 */
+	@Benchmark
+	public String filterLegacy() {
+		parseWithNewParser(accessToken);
+		return parseWithNewParser(accessToken).getSubject();
+	}
+
+	/**
+	 * 개선된 인증 필터: verifyAccessToken 1회
+	 */
+	@Benchmark
+	public String filterSingleParse() {
+		return jwtTokenProvider.verifyAccessToken(accessToken).getSubject();
+	}
+
+	/**
+	 * 기존 토큰 갱신: validateRefreshToken + getTsidFromToken + getJtiFromToken (서명 검증 3회)
+	 */
+	@Benchmark
+	public String refreshLegacy() {
+		parseWithNewParser(refreshToken);
+		String tsid = parseWithNewParser(refreshToken).getSubject();
+		String jti = parseWithNewParser(refreshToken).getId();
+		return tsid + jti;
+	}
+
+	/**
+	 * 개선된 토큰 갱신: verifyRefreshToken 1회
+	 */
+	@Benchmark
+	public String refreshSingleParse() {
+		VerifiedToken verifiedToken = jwtTokenProvider.verifyRefreshToken(refreshToken);
+		return verifiedToken.getSubject() + verifiedToken.getJti();
+	}
+
+	private Claims parseWithNewParser(String token) {
+		return Jwts.parser()
+			.verifyWith(key)
+			.build()
+			.parseSignedClaims(token)
+			.getPayload();
+	}
+}
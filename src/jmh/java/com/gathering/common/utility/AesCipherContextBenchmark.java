@@ -0,0 +1,64 @@
+package com.gathering.common.utility;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * AES 요청 필드 복호화 처리량 벤치마크
+ * 호출마다 키/Cipher를 생성하는 CryptoUtil과 키/Cipher를 재사용하는 AesCipherContext(ECB, GCM) 비교
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=AesCipherContextBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class AesCipherContextBenchmark {
+
+	private static final String AES_KEY = "gatheringkey1234";
+	private static final String PLAIN = "Campaign2024!";
+
+	private AesCipherContext cipherContext;
+	private String legacyEncrypted;
+	private String v1Encrypted;
+
+	@Setup
+	public void setUp() throws Exception {
+		cipherContext = new AesCipherContext(AES_KEY, true);
+		legacyEncrypted = CryptoUtil.encryptAES(PLAIN, AES_KEY);
+		v1Encrypted = cipherContext.encrypt(PLAIN);
+	}
+
+	@Benchmark
+	public String decryptPerCall() throws Exception {
+		return CryptoUtil.decryptAES(legacyEncrypted, AES_KEY);
+	}
+
+	@Benchmark
+	public String decryptLegacyReused() throws Exception {
+		return cipherContext.decrypt(legacyEncrypted);
+	}
+
+	@Benchmark
+	public String decryptV1Reused() throws Exception {
+		return cipherContext.decrypt(v1Encrypted);
+	}
+
+	@Benchmark
+	public String encryptPerCall() throws Exception {
+		return CryptoUtil.encryptAES(PLAIN, AES_KEY);
+	}
+
+	@Benchmark
+	public String encryptV1Reused() throws Exception {
+		return cipherContext.encrypt(PLAIN);
+	}
+}
@@ -0,0 +1,116 @@
+package com.gathering.gathering.domain.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.gathering.gathering.domain.model.GatheringParticipantEntity;
+import com.gathering.gathering.domain.model.ParticipantRole;
+import com.github.f4b6a3.tsid.TsidCreator;
+
+/**
+ * 모임 참여자 대량 저장 벤치마크 (결과 단위: 초당 저장 행 수)
+ * 행마다 INSERT를 실행하는 방식과 JdbcTemplate 배치(batch_size 단위 전송)를 비교
+ *
+ * 기본은 H2 인메모리 DB이며, MySQL에서 rewriteBatchedStatements 효과를 보려면 JDBC URL을 지정
+ * 실행: ./gradlew jmh -Pjmh.includes=GatheringParticipantBulkInsertBenchmark
+ *   -Pjmh.jvmArgsAppend="-Dbenchmark.jdbc.url=jdbc:mysql://localhost:3306/gathering?rewriteBatchedStatements=true
+ *   -Dbenchmark.jdbc.username=... -Dbenchmark.jdbc.password=..."
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GatheringParticipantBulkInsertBenchmark {
+
+	private static final int ROWS = 100_000;
+	private static final int BATCH_SIZE = 500;
+
+	private static final String CREATE_TABLE_SQL = """
+		CREATE TABLE IF NOT EXISTS gathering_participants (
+			tsid CHAR(13) NOT NULL PRIMARY KEY,
+			gathering_tsid CHAR(13) NOT NULL,
+			user_tsid CHAR(13) NOT NULL,
+			role VARCHAR(20) NOT NULL,
+			joined_at TIMESTAMP NOT NULL,
+			CONSTRAINT uk_gathering_user UNIQUE (gathering_tsid, user_tsid)
+		)
+		""";
+
+	private static final String INSERT_SQL = """
+		INSERT INTO gathering_participants (tsid, gathering_tsid, user_tsid, role, joined_at)
+		VALUES (?, ?, ?, ?, ?)
+		""";
+
+	private JdbcTemplate jdbcTemplate;
+	private GatheringParticipantBulkRepositoryImpl bulkRepository;
+	private List<GatheringParticipantEntity> participants;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:bulk;DB_CLOSE_DELAY=-1"),
+			System.getProperty("benchmark.jdbc.username", "sa"),
+			System.getProperty("benchmark.jdbc.password", ""));
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute(CREATE_TABLE_SQL);
+
+		bulkRepository = new GatheringParticipantBulkRepositoryImpl(jdbcTemplate);
+		new DirectFieldAccessor(bulkRepository).setPropertyValue("batchSize", BATCH_SIZE);
+	}
+
+	/**
+	 * 매 호출마다 새 TSID로 참여자를 만들고 테이블을 비워 PK/유니크 충돌 없이 같은 조건으로 측정
+	 */
+	@Setup(Level.Invocation)
+	public void setUpInvocation() {
+		jdbcTemplate.execute("TRUNCATE TABLE gathering_participants");
+
+		String gatheringTsid = TsidCreator.getTsid().toString();
+		participants = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			participants.add(GatheringParticipantEntity.builder()
+				.tsid(TsidCreator.getTsid().toString())
+				.gatheringTsid(gatheringTsid)
+				.userTsid(TsidCreator.getTsid().toString())
+				.role(ParticipantRole.MEMBER)
+				.build());
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public int rowByRowInsert() {
+		Timestamp now = Timestamp.from(Instant.now());
+		int inserted = 0;
+		for (GatheringParticipantEntity participant : participants) {
+			inserted += jdbcTemplate.update(INSERT_SQL,
+				participant.getTsid(),
+				participant.getGatheringTsid(),
+				participant.getUserTsid(),
+				participant.getRole().name(),
+				now);
+		}
+		return inserted;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public List<String> batchInsert() {
+		return bulkRepository.bulkInsert(participants);
+	}
+}
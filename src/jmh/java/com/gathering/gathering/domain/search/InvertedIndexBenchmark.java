@@ -0,0 +1,111 @@
+package com.gathering.gathering.domain.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.gathering.gathering.domain.model.GatheringCategory;
+
+/**
+ * 모임 검색 색인 조회 벤치마크 (결과 단위: 검색 1회당 마이크로초)
+ * 무작위 한글 음절로 만든 어휘에서 Zipf 분포로 단어를 뽑아 모임 DOCUMENTS개를 색인한 뒤 검색
+ * - rare: 어휘 하위권 단어 (포스팅 리스트가 짧음)
+ * - common: 최상위 단어 (대부분의 문서에 등장하는 바이그램, 색인의 최악 조건)
+ * - twoTerms: 상위권 단어 + 중위권 단어 (AND 교집합)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=InvertedIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InvertedIndexBenchmark {
+
+	private static final int VOCABULARY_SIZE = 20_000;
+	private static final int NAME_WORDS = 3;
+	private static final int DESCRIPTION_WORDS = 20;
+	private static final int SEARCH_LIMIT = 20;
+
+	@Param({"100000", "1000000"})
+	private int documents;
+
+	private InvertedIndex index;
+	private String[] vocabulary;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(42);
+		vocabulary = new String[VOCABULARY_SIZE];
+		for (int i = 0; i < VOCABULARY_SIZE; i++) {
+			vocabulary[i] = randomWord(random);
+		}
+
+		double[] cumulative = zipfCumulative(VOCABULARY_SIZE);
+		GatheringCategory[] categories = GatheringCategory.values();
+		index = new InvertedIndex();
+		for (int i = 0; i < documents; i++) {
+			index.upsert(new SearchDocument(
+				String.format("%013d", i),
+				sentence(random, cumulative, NAME_WORDS),
+				sentence(random, cumulative, DESCRIPTION_WORDS),
+				categories[i % categories.length],
+				null));
+		}
+	}
+
+	@Benchmark
+	public List<SearchHit> rare() {
+		return index.search(vocabulary[VOCABULARY_SIZE - 1], null, null, SEARCH_LIMIT);
+	}
+
+	@Benchmark
+	public List<SearchHit> common() {
+		return index.search(vocabulary[0], null, null, SEARCH_LIMIT);
+	}
+
+	@Benchmark
+	public List<SearchHit> twoTerms() {
+		return index.search(vocabulary[1] + " " + vocabulary[VOCABULARY_SIZE / 100], null, null, SEARCH_LIMIT);
+	}
+
+	private static String randomWord(SplittableRandom random) {
+		int length = 2 + random.nextInt(2);
+		StringBuilder word = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			word.append((char)random.nextInt('가', '힣' + 1));
+		}
+		return word.toString();
+	}
+
+	private String sentence(SplittableRandom random, double[] cumulative, int words) {
+		StringBuilder sentence = new StringBuilder();
+		for (int i = 0; i < words; i++) {
+			int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+			sentence.append(vocabulary[Math.min(rank < 0 ? -rank - 1 : rank, VOCABULARY_SIZE - 1)]).append(' ');
+		}
+		return sentence.toString();
+	}
+
+	private static double[] zipfCumulative(int size) {
+		double[] cumulative = new double[size];
+		double sum = 0;
+		for (int i = 0; i < size; i++) {
+			sum += 1.0 / (i + 1);
+			cumulative[i] = sum;
+		}
+		for (int i = 0; i < size; i++) {
+			cumulative[i] /= sum;
+		}
+		return cumulative;
+	}
+}
@@ -0,0 +1,71 @@
+package com.gathering.user.application;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 회원가입 형식 검증 벤치마크
+ * 기존 String.matches(호출마다 Pattern 컴파일) / 미리 컴파일한 Pattern / 단일 순회 검사 비교
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=UserFormatRulesBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserFormatRulesBenchmark {
+
+	private static final String EMAIL_REGEX = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
+	private static final String PASSWORD_REGEX = "^(?=.*\\d)(?=.*[!@#$%^&*])[a-zA-Z0-9!@#$%^&*]{8,}$";
+	private static final String PHONE_NUMBER_REGEX = "^\\d{10,11}$";
+
+	private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
+	private static final Pattern PASSWORD_PATTERN = Pattern.compile(PASSWORD_REGEX);
+	private static final Pattern PHONE_NUMBER_PATTERN = Pattern.compile(PHONE_NUMBER_REGEX);
+
+	/**
+	 * valid: 모두 통과 / invalid: 비밀번호 끝에서 실패 (정규식 lookahead 백트래킹 최악 경로)
+	 */
+	@Param({"valid", "invalid"})
+	private String input;
+
+	private String email;
+	private String password;
+	private String phoneNumber;
+
+	@Setup
+	public void setUp() {
+		email = "campaign.user+2024@example.co.kr";
+		phoneNumber = "01012345678";
+		password = "valid".equals(input) ? "Campaign2024!" : "Campaignpasswordwithoutdigitsorspecials";
+	}
+
+	@Benchmark
+	public boolean stringMatches() {
+		return email.matches(EMAIL_REGEX)
+			& password.matches(PASSWORD_REGEX)
+			& phoneNumber.matches(PHONE_NUMBER_REGEX);
+	}
+
+	@Benchmark
+	public boolean precompiledPattern() {
+		return EMAIL_PATTERN.matcher(email).matches()
+			& PASSWORD_PATTERN.matcher(password).matches()
+			& PHONE_NUMBER_PATTERN.matcher(phoneNumber).matches();
+	}
+
+	@Benchmark
+	public boolean singlePassScanner() {
+		return UserFormatRules.isValidEmail(email)
+			& UserFormatRules.isValidPassword(password)
+			& UserFormatRules.isValidPhoneNumber(phoneNumber);
+	}
+}
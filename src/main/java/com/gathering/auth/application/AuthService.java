@@ -1,12 +1,16 @@
 package com.gathering.auth.application;
 
+import java.util.UUID;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.gathering.auth.domain.AuthenticatedUser;
 import com.gathering.auth.infra.AuthConstants;
 import com.gathering.auth.infra.JwtTokenProvider;
+import com.gathering.auth.infra.VerifiedToken;
 import com.gathering.auth.presentation.dto.LoginRequest;
 import com.gathering.auth.presentation.dto.LoginResponse;
 import com.gathering.auth.presentation.dto.RefreshResponse;
@@ -32,6 +36,7 @@ public class AuthService {
 	private final JwtTokenProvider jwtTokenProvider;
 	private final RefreshTokenService refreshTokenService;
 	private final UsersRepository usersRepository;
+	private final PrincipalCacheService principalCacheService;
 
 	@Value("${jwt.access-token-validity-in-seconds}")
 	private long accessTokenValidityInSeconds;
@@ -62,40 +67,58 @@ public class AuthService {
 	}
 
 	/**
-	 * 토큰 갱신 처리 (OAuth 2.0 스타일)
-	 * RefreshToken을 검증하고 새로운 AccessToken 발급
+	 * 토큰 갱신 처리 (OAuth 2.0 스타일, RefreshToken 교체)
+	 * RefreshToken을 검증하고 새로운 AccessToken과 새 RefreshToken 발급
 	 * - AccessToken: 응답 본문에 포함
-	 * - RefreshToken: 변경 없음 (90일 유효기간)
+	 * - RefreshToken: 새 JTI로 교체하여 HTTP-only 쿠키로 재설정 (기존 토큰은 폐기)
+	 * - 이미 교체된 RefreshToken이 다시 사용되면 탈취로 보고 같은 패밀리의 토큰 전체 취소
 	 *
 	 * @param request HttpServletRequest (쿠키에서 RefreshToken 추출)
+	 * @param response HttpServletResponse (새 RefreshToken 쿠키 설정)
 	 * @return 새로운 AccessToken 정보
 	 * @throws BusinessException RefreshToken이 유효하지 않은 경우
 	 */
-	public RefreshResponse refresh(HttpServletRequest request) {
+	public RefreshResponse refresh(HttpServletRequest request, HttpServletResponse response) {
 		// 1. 쿠키에서 RefreshToken 추출
 		String refreshToken = CookieUtil.getCookie(request, AuthConstants.REFRESH_TOKEN_COOKIE)
 			.orElseThrow(() -> new BusinessException(ErrorCode.REFRESH_TOKEN_MISSING));
 
-		// 2. RefreshToken JWT 검증 (상세 예외 발생)
-		jwtTokenProvider.validateRefreshToken(refreshToken);
+		// 2. RefreshToken JWT 검증 (상세 예외 발생, 한 번만 파싱)
+		VerifiedToken verifiedToken = jwtTokenProvider.verifyRefreshToken(refreshToken).orElseThrow();
+
+		// 3. 검증된 토큰에서 TSID, JTI, 패밀리 ID 추출
+		String tsid = verifiedToken.getSubject();
+		String jti = verifiedToken.getJti();
+		String familyId = verifiedToken.getFamilyId();
+
+		// 4. 새로운 AccessToken 생성 (클레임 인증 모드에서 사용자가 없으면 교체 전에 실패하여 기존 RefreshToken 유지)
+		String newAccessToken = createAccessToken(tsid);
 
-		// 3. 토큰에서 TSID와 JTI 추출
-		String tsid = jwtTokenProvider.getTsidFromToken(refreshToken);
-		String jti = jwtTokenProvider.getJtiFromToken(refreshToken);
+		// 5. 같은 패밀리로 새 RefreshToken 생성 후 Redis에서 원자적으로 교체 (1회 왕복)
+		String newJti = UUID.randomUUID().toString();
+		String newRefreshToken = jwtTokenProvider.createRefreshToken(tsid, newJti, familyId);
 
-		// 4. Redis에 저장된 RefreshToken과 비교 (멀티 디바이스 지원)
-		if (!refreshTokenService.validateRefreshToken(tsid, jti, refreshToken)) {
-			// Redis에 토큰이 없으면 로그아웃되었거나 TTL이 만료된 것
-			log.warn("RefreshToken이 Redis에 없음 (로그아웃 또는 TTL 만료): tsid={}, jti={}", tsid, jti);
+		RefreshTokenService.RotationResult result = refreshTokenService.rotateRefreshToken(
+			tsid, jti, familyId, refreshToken, newJti, newRefreshToken);
+
+		if (result != RefreshTokenService.RotationResult.ROTATED) {
+			// 로그아웃/TTL 만료로 토큰이 없거나, 이미 교체된 토큰이 재사용된 경우
+			log.warn("RefreshToken 갱신 거부: tsid={}, jti={}, result={}", tsid, jti, result);
+			CookieUtil.deleteCookie(response, AuthConstants.REFRESH_TOKEN_COOKIE);
 			throw new BusinessException(ErrorCode.REFRESH_TOKEN_REVOKED);
 		}
 
-		// 5. 새로운 AccessToken 생성 (RefreshToken은 재사용)
-		String newAccessToken = jwtTokenProvider.createAccessToken(tsid);
+		// 6. 새 RefreshToken을 HTTP-only 쿠키로 설정
+		CookieUtil.addSecureCookie(
+			response,
+			AuthConstants.REFRESH_TOKEN_COOKIE,
+			newRefreshToken,
+			(int)refreshTokenValidityInSeconds
+		);
 
-		log.info("토큰 갱신 완료: tsid={}, jti={}", tsid, jti);
+		log.info("토큰 갱신 완료: tsid={}, jti={}, newJti={}", tsid, jti, newJti);
 
-		// 6. 새로운 AccessToken은 응답 본문으로 반환
+		// 7. 새로운 AccessToken은 응답 본문으로 반환
 		return RefreshResponse.builder()
 			.accessToken(newAccessToken)
 			.tokenType(TOKEN_TYPE)
@@ -120,21 +143,20 @@ public class AuthService {
 			return;
 		}
 
-		try {
-			// 2. RefreshToken JWT 검증 (상세 예외 발생)
-			jwtTokenProvider.validateRefreshToken(refreshToken);
-		} catch (BusinessException ex) {
-			log.warn("유효하지 않은 RefreshToken으로 로그아웃 시도: {}", ex.getMessage());
+		// 2. RefreshToken JWT 검증 (한 번만 파싱)
+		VerifiedToken verifiedToken = jwtTokenProvider.verifyRefreshToken(refreshToken);
+		if (!verifiedToken.isValid()) {
+			log.warn("유효하지 않은 RefreshToken으로 로그아웃 시도: {}", verifiedToken.getErrorCode().getMessage());
 			CookieUtil.deleteCookie(response, AuthConstants.REFRESH_TOKEN_COOKIE);
 			return;
 		}
 
 		// 2. 토큰에서 TSID와 JTI 추출
-		String tsid = jwtTokenProvider.getTsidFromToken(refreshToken);
-		String jti = jwtTokenProvider.getJtiFromToken(refreshToken);
+		String tsid = verifiedToken.getSubject();
+		String jti = verifiedToken.getJti();
 
 		// 3. Redis에서 해당 RefreshToken 삭제 (특정 기기만 로그아웃)
-		refreshTokenService.deleteRefreshToken(tsid, jti);
+		refreshTokenService.deleteRefreshToken(tsid, jti, verifiedToken.getFamilyId());
 		log.info("로그아웃 완료: tsid={}, jti={}", tsid, jti);
 
 		// 4. RefreshToken 쿠키 삭제
@@ -144,14 +166,13 @@ public class AuthService {
 	public LoginResponse login(HttpServletResponse response, String tsid) {
 
 		// 2. JWT 토큰 생성
-		String accessToken = jwtTokenProvider.createAccessToken(tsid);
-		String refreshToken = jwtTokenProvider.createRefreshToken(tsid);
-
-		// 3. RefreshToken에서 JTI 추출
-		String jti = jwtTokenProvider.getJtiFromToken(refreshToken);
+		// 3. JTI를 먼저 정해 RefreshToken 생성 (생성 직후 토큰을 다시 파싱하지 않음, 로그인마다 새 패밀리 시작)
+		String accessToken = createAccessToken(tsid);
+		String jti = UUID.randomUUID().toString();
+		String refreshToken = jwtTokenProvider.createRefreshToken(tsid, jti, jti);
 
 		// 4. RefreshToken을 Redis에 저장
-		refreshTokenService.saveRefreshToken(tsid, jti, refreshToken);
+		refreshTokenService.saveRefreshToken(tsid, jti, jti, refreshToken);
 
 		// 5. RefreshToken을 HTTP-only 쿠키로 설정
 		CookieUtil.addSecureCookie(
@@ -169,6 +190,23 @@ public class AuthService {
 			.build();
 	}
 
+	/**
+	 * 액세스 토큰 생성
+	 * 클레임 인증 모드에서는 사용자 상태와 권한을 클레임으로 포함하므로 발급 시점에 한 번만 사용자 정보를 조회
+	 *
+	 * @param tsid 사용자 고유 ID
+	 * @return 액세스 토큰
+	 */
+	private String createAccessToken(String tsid) {
+		if (!jwtTokenProvider.isClaimsAuthenticationEnabled()) {
+			return jwtTokenProvider.createAccessToken(tsid);
+		}
+
+		AuthenticatedUser user = principalCacheService.getAuthenticatedUser(tsid)
+			.orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+		return jwtTokenProvider.createAccessToken(user);
+	}
+
 	/**
 	 * 현재 로그인한 사용자의 TSID 추출
 	 * Authorization 헤더에서 Access Token을 읽어 JWT를 파싱하여 TSID 반환
@@ -186,6 +224,11 @@ public class AuthService {
 			throw new BusinessException(ErrorCode.ACCESS_TOKEN_MISSING);
 		}
 
+		// 인증 필터에서 이미 검증한 토큰이 있으면 재사용
+		if (request.getAttribute(AuthConstants.VERIFIED_TOKEN_ATTRIBUTE) instanceof VerifiedToken verifiedToken) {
+			return verifiedToken.getSubject();
+		}
+
 		String accessToken = bearerToken.substring(AuthConstants.BEARER_PREFIX.length());
 
 		// JWT에서 TSID 추출
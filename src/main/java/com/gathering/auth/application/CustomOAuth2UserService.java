@@ -98,13 +98,9 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 			return null;
 		}
 
-		Optional<String> tsid = redisAdapter.get(AuthConstants.OAUTH_LINK_PREFIX + state);
-		if (tsid.isPresent()) {
-			// 일회성 사용 후 삭제
-			redisAdapter.delete(AuthConstants.OAUTH_LINK_PREFIX + state);
-			return tsid.get();
-		}
-		return null;
+		// 일회성 값이므로 조회와 삭제를 한 번에 처리 (GETDEL)
+		return redisAdapter.getAndDelete(AuthConstants.OAUTH_LINK_PREFIX + state)
+			.orElse(null);
 	}
 
 	/**
@@ -0,0 +1,191 @@
+package com.gathering.auth.application;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 메타데이터 쓰기 지연(write-behind) 서비스
+ * 로그인 성공/실패 시 user_security의 last_login_at, failed_login_count를 바로 쓰지 않고 메모리에 모았다가 주기적으로 일괄 반영
+ * - 같은 사용자의 이벤트는 하나로 합침 (마지막 성공 시각, 성공 이후 실패 횟수)
+ * - 사용자 수 기준으로 대기열 크기를 제한하고, 초과 시 새 사용자의 이벤트는 버림 (로그인 자체는 영향 없음)
+ * - JDBC 배치 UPDATE로 반영하며, 종료 시 남은 이벤트를 반영
+ * 메타데이터는 통계/표시용이므로 비정상 종료 시 마지막 주기의 이벤트 유실을 허용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoginMetadataService {
+
+	/**
+	 * 로그인 성공이 있었던 사용자: 마지막 성공 시각 기록, 실패 횟수는 성공 이후 실패 횟수로 초기화
+	 * 사용자는 이메일로 식별 (인증 이벤트에는 이메일만 있음)
+	 */
+	private static final String SUCCESS_UPDATE_SQL = """
+		UPDATE user_security
+		SET last_login_at = ?, failed_login_count = ?
+		WHERE user_tsid = (SELECT tsid FROM users WHERE email = ?)
+		""";
+
+	/**
+	 * 실패만 있었던 사용자: 실패 횟수 누적
+	 */
+	private static final String FAILURE_UPDATE_SQL = """
+		UPDATE user_security
+		SET failed_login_count = failed_login_count + ?
+		WHERE user_tsid = (SELECT tsid FROM users WHERE email = ?)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${auth.login-metadata.max-pending-users}")
+	private int maxPendingUsers;
+
+	@Value("${auth.login-metadata.batch-size}")
+	private int batchSize;
+
+	private final ConcurrentMap<String, PendingLoginMetadata> pendingByEmail = new ConcurrentHashMap<>();
+	private final LongAdder droppedCount = new LongAdder();
+
+	/**
+	 * 사용자별로 합쳐진 로그인 이벤트
+	 * @param lastLoginAt 마지막 로그인 성공 시각 (성공이 없었으면 null, 있으면 실패 횟수 초기화)
+	 * @param failedCount 마지막 성공 이후(성공이 없었으면 전체) 실패 횟수
+	 */
+	record PendingLoginMetadata(Instant lastLoginAt, int failedCount) {
+
+		static PendingLoginMetadata success(Instant loginAt) {
+			return new PendingLoginMetadata(loginAt, 0);
+		}
+
+		static PendingLoginMetadata failure() {
+			return new PendingLoginMetadata(null, 1);
+		}
+
+		PendingLoginMetadata withFailure() {
+			return new PendingLoginMetadata(lastLoginAt, failedCount + 1);
+		}
+	}
+
+	@EventListener
+	public void onSuccess(AuthenticationSuccessEvent event) {
+		if (event.getAuthentication() instanceof UsernamePasswordAuthenticationToken authentication) {
+			PendingLoginMetadata success = PendingLoginMetadata.success(Instant.ofEpochMilli(event.getTimestamp()));
+			merge(authentication.getName(), success, pending -> success);
+		}
+	}
+
+	@EventListener
+	public void onFailure(AuthenticationFailureBadCredentialsEvent event) {
+		if (event.getAuthentication() instanceof UsernamePasswordAuthenticationToken authentication) {
+			merge(authentication.getName(), PendingLoginMetadata.failure(), PendingLoginMetadata::withFailure);
+		}
+	}
+
+	/**
+	 * 대기 중인 사용자 수 (모니터링용)
+	 */
+	public int getPendingCount() {
+		return pendingByEmail.size();
+	}
+
+	/**
+	 * 대기열 초과로 버린 이벤트 수 (모니터링용)
+	 */
+	public long getDroppedCount() {
+		return droppedCount.sum();
+	}
+
+	/**
+	 * 대기 중인 이벤트를 배치 단위로 DB에 반영
+	 * 키를 하나씩 제거하며 꺼내므로 반영 중에 들어온 이벤트는 다음 주기에 반영됨
+	 */
+	@Scheduled(fixedDelayString = "${auth.login-metadata.flush-interval-millis}")
+	public void flush() {
+		List<Object[]> successBatch = new ArrayList<>(batchSize);
+		List<Object[]> failureBatch = new ArrayList<>(batchSize);
+		int flushedCount = 0;
+		for (String email : pendingByEmail.keySet()) {
+			PendingLoginMetadata pending = pendingByEmail.remove(email);
+			if (pending == null) {
+				continue;
+			}
+
+			if (pending.lastLoginAt() != null) {
+				successBatch.add(new Object[] {Timestamp.from(pending.lastLoginAt()), pending.failedCount(), email});
+				if (successBatch.size() >= batchSize) {
+					flushedCount += executeBatch(SUCCESS_UPDATE_SQL, successBatch);
+				}
+			} else {
+				failureBatch.add(new Object[] {pending.failedCount(), email});
+				if (failureBatch.size() >= batchSize) {
+					flushedCount += executeBatch(FAILURE_UPDATE_SQL, failureBatch);
+				}
+			}
+		}
+		flushedCount += executeBatch(SUCCESS_UPDATE_SQL, successBatch);
+		flushedCount += executeBatch(FAILURE_UPDATE_SQL, failureBatch);
+
+		if (flushedCount > 0) {
+			log.debug("로그인 메타데이터 반영: users={}, dropped={}", flushedCount, droppedCount.sum());
+		}
+	}
+
+	/**
+	 * 종료 시 남은 이벤트 반영
+	 */
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	private void merge(String email, PendingLoginMetadata initial, UnaryOperator<PendingLoginMetadata> update) {
+		PendingLoginMetadata existing = pendingByEmail.get(email);
+		if (existing == null && pendingByEmail.size() >= maxPendingUsers) {
+			droppedCount.increment();
+			return;
+		}
+		pendingByEmail.merge(email, initial, (current, ignored) -> update.apply(current));
+	}
+
+	/**
+	 * JDBC 배치 UPDATE 실행 후 배치 비우기
+	 * DB 오류 시 해당 배치는 버림 (로그인 메타데이터는 재시도하지 않음)
+	 * @return 반영한 사용자 수
+	 */
+	private int executeBatch(String sql, List<Object[]> batch) {
+		if (batch.isEmpty()) {
+			return 0;
+		}
+
+		int size = batch.size();
+		try {
+			jdbcTemplate.batchUpdate(sql, batch);
+			return size;
+		} catch (DataAccessException e) {
+			log.warn("로그인 메타데이터 반영 실패: users={}, message={}", size, e.getMessage());
+			return 0;
+		} finally {
+			batch.clear();
+		}
+	}
+}
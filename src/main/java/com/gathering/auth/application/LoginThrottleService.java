@@ -0,0 +1,242 @@
+package com.gathering.auth.application;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.gathering.auth.infra.AuthConstants;
+import com.gathering.common.adapter.RedisAdapter;
+import com.gathering.common.exception.ErrorCode;
+import com.gathering.common.exception.RetryableException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 시도 제한 서비스
+ * 이메일별/IP별 슬라이딩 윈도우 실패 횟수를 Redis Lua 스크립트로 원자적으로 기록하고, 한도를 넘으면 점진적으로 잠금
+ * - 잠금 시간은 잠금이 반복될 때마다 2배 (최대 잠금 시간까지)
+ * - 잠긴 대상은 로컬 캐시(near-cache)에도 보관하여 Redis 조회/BCrypt 해싱 없이 바로 거부
+ * - Redis 장애 시에는 로그인을 막지 않음 (fail-open)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoginThrottleService {
+
+	private static final String EMAIL_SUBJECT = "email:";
+	private static final String IP_SUBJECT = "ip:";
+
+	private static final RedisScript<Long> RECORD_FAILURE_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/record_login_failure.lua"), Long.class);
+
+	private final RedisAdapter redisAdapter;
+
+	@Value("${auth.login-throttle.enabled}")
+	private boolean enabled;
+
+	@Value("${auth.login-throttle.window-seconds}")
+	private long windowSeconds;
+
+	@Value("${auth.login-throttle.email.max-failures}")
+	private int emailMaxFailures;
+
+	@Value("${auth.login-throttle.ip.max-failures}")
+	private int ipMaxFailures;
+
+	@Value("${auth.login-throttle.lock.base-seconds}")
+	private long lockBaseSeconds;
+
+	@Value("${auth.login-throttle.lock.max-seconds}")
+	private long lockMaxSeconds;
+
+	@Value("${auth.login-throttle.lock.level-ttl-seconds}")
+	private long lockLevelTtlSeconds;
+
+	@Value("${auth.login-throttle.near-cache.maximum-size}")
+	private long nearCacheMaximumSize;
+
+	/**
+	 * 잠긴 대상 → 잠금 해제 시각(epoch ms), 잠금 해제 시각에 자동 제거
+	 */
+	private Cache<String, Long> lockedUntilCache;
+
+	@PostConstruct
+	public void init() {
+		this.lockedUntilCache = Caffeine.newBuilder()
+			.maximumSize(nearCacheMaximumSize)
+			.expireAfter(new LockExpiry())
+			.build();
+	}
+
+	/**
+	 * 로그인 시도 허용 여부 확인 (비밀번호 검증 전에 호출)
+	 * 1. 로컬 캐시에서 잠금 확인 (네트워크 왕복 없음)
+	 * 2. Redis에서 이메일/IP 잠금을 한 번에 조회 (MGET 1회), 잠겨 있으면 로컬 캐시에 기록
+	 * @param email 로그인 이메일
+	 * @param ip 클라이언트 IP
+	 * @throws RetryableException 잠긴 경우 (429 + Retry-After)
+	 */
+	public void checkAllowed(String email, String ip) {
+		if (!enabled) {
+			return;
+		}
+
+		String emailSubject = emailSubject(email);
+		String ipSubject = IP_SUBJECT + ip;
+		long now = System.currentTimeMillis();
+
+		long lockedUntil = Math.max(
+			lockedUntil(lockedUntilCache.getIfPresent(emailSubject)),
+			lockedUntil(lockedUntilCache.getIfPresent(ipSubject)));
+		if (lockedUntil > now) {
+			throw throttled(lockedUntil, now);
+		}
+
+		try {
+			Map<String, String> locks = redisAdapter.multiGet(List.of(
+				key(AuthConstants.LOGIN_LOCK_PREFIX, emailSubject),
+				key(AuthConstants.LOGIN_LOCK_PREFIX, ipSubject)
+			));
+			lockedUntil = Math.max(
+				cacheLock(emailSubject, locks.get(key(AuthConstants.LOGIN_LOCK_PREFIX, emailSubject))),
+				cacheLock(ipSubject, locks.get(key(AuthConstants.LOGIN_LOCK_PREFIX, ipSubject))));
+		} catch (DataAccessException e) {
+			log.warn("로그인 잠금 조회 실패, 제한 없이 진행: message={}", e.getMessage());
+			return;
+		}
+
+		if (lockedUntil > now) {
+			throw throttled(lockedUntil, now);
+		}
+	}
+
+	/**
+	 * 로그인 실패 기록 (이메일/IP 각각 Lua 스크립트 1회)
+	 * @param email 로그인 이메일
+	 * @param ip 클라이언트 IP
+	 */
+	public void recordFailure(String email, String ip) {
+		if (!enabled) {
+			return;
+		}
+
+		try {
+			recordFailure(emailSubject(email), emailMaxFailures);
+			recordFailure(IP_SUBJECT + ip, ipMaxFailures);
+		} catch (DataAccessException e) {
+			log.warn("로그인 실패 기록 실패: message={}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 로그인 성공 시 이메일의 실패 기록과 잠금 단계 초기화
+	 * IP 기록은 유지 (한 IP에서 여러 계정을 대입하는 공격은 성공 1회로 초기화되지 않아야 함)
+	 * @param email 로그인 이메일
+	 */
+	public void recordSuccess(String email) {
+		if (!enabled) {
+			return;
+		}
+
+		String emailSubject = emailSubject(email);
+		try {
+			redisAdapter.delete(List.of(
+				key(AuthConstants.LOGIN_FAILURE_PREFIX, emailSubject),
+				key(AuthConstants.LOGIN_LOCK_LEVEL_PREFIX, emailSubject)
+			));
+		} catch (DataAccessException e) {
+			log.warn("로그인 실패 기록 초기화 실패: message={}", e.getMessage());
+		}
+	}
+
+	private void recordFailure(String subject, int maxFailures) {
+		Long lockMillis = redisAdapter.executeScript(
+			RECORD_FAILURE_SCRIPT,
+			List.of(
+				key(AuthConstants.LOGIN_FAILURE_PREFIX, subject),
+				key(AuthConstants.LOGIN_LOCK_PREFIX, subject),
+				key(AuthConstants.LOGIN_LOCK_LEVEL_PREFIX, subject)
+			),
+			String.valueOf(TimeUnit.SECONDS.toMillis(windowSeconds)),
+			String.valueOf(maxFailures),
+			UUID.randomUUID().toString(),
+			String.valueOf(TimeUnit.SECONDS.toMillis(lockBaseSeconds)),
+			String.valueOf(TimeUnit.SECONDS.toMillis(lockMaxSeconds)),
+			String.valueOf(TimeUnit.SECONDS.toMillis(lockLevelTtlSeconds))
+		);
+
+		if (lockMillis != null && lockMillis > 0) {
+			lockedUntilCache.put(subject, System.currentTimeMillis() + lockMillis);
+			log.warn("로그인 잠금: subject={}, lock={}s", subject, TimeUnit.MILLISECONDS.toSeconds(lockMillis));
+		}
+	}
+
+	/**
+	 * Redis 잠금 값을 로컬 캐시에 기록
+	 * @return 잠금 해제 시각 (잠금 없으면 0)
+	 */
+	private long cacheLock(String subject, String lockedUntilValue) {
+		if (lockedUntilValue == null) {
+			return 0;
+		}
+		long lockedUntil = Long.parseLong(lockedUntilValue);
+		lockedUntilCache.put(subject, lockedUntil);
+		return lockedUntil;
+	}
+
+	private RetryableException throttled(long lockedUntil, long now) {
+		long retryAfterSeconds = Math.max(TimeUnit.MILLISECONDS.toSeconds(lockedUntil - now + 999), 1);
+		return new RetryableException(ErrorCode.LOGIN_THROTTLED, retryAfterSeconds);
+	}
+
+	private static long lockedUntil(Long cached) {
+		return cached != null ? cached : 0;
+	}
+
+	/**
+	 * 대상별 키 (한 스크립트가 다루는 실패/잠금/잠금 단계 키가 같은 클러스터 슬롯에 있도록 대상을 해시 태그로 감쌈)
+	 */
+	private static String key(String prefix, String subject) {
+		return prefix + "{" + subject + "}";
+	}
+
+	private static String emailSubject(String email) {
+		return EMAIL_SUBJECT + email.trim().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * 잠금 해제 시각에 로컬 캐시에서 제거
+	 */
+	private static class LockExpiry implements Expiry<String, Long> {
+
+		@Override
+		public long expireAfterCreate(String key, Long lockedUntil, long currentTime) {
+			Duration remaining = Duration.ofMillis(lockedUntil - System.currentTimeMillis());
+			return Math.max(remaining.toNanos(), 0L);
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Long lockedUntil, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, lockedUntil, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, Long lockedUntil, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,191 @@
+package com.gathering.auth.application;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gathering.common.exception.RetryableException;
+import com.gathering.user.domain.model.UserSecurityEntity;
+import com.gathering.user.domain.model.UsersEntity;
+import com.gathering.user.domain.repository.UserSecurityRepository;
+import com.gathering.user.domain.repository.UsersRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 재해싱 서비스
+ * 로그인에 성공한 사용자의 해시가 오래된 비용/알고리즘이면 대기열에 넣고, 주기적으로 모아서 재해싱 후 일괄 저장
+ * - 로그인 응답은 재해싱을 기다리지 않음 (추가 해싱 1회만큼의 지연 없음)
+ * - 대기열이 가득 차면 이번 재해싱은 생략 (다음 로그인에서 다시 요청됨)
+ * - 해싱 풀이 바쁘면 남은 요청은 대기열에 둔 채 다음 주기로 미룸 (로그인 해싱 우선)
+ * - 재해싱은 전용 스레드 1개에서 실행하여 공용 스케줄러 스레드를 BCrypt 동안 점유하지 않음
+ * - 평문 비밀번호는 재해싱할 때까지만 메모리에 보관
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PasswordRehashService {
+
+	private final PasswordEncoder passwordEncoder;
+	private final UsersRepository usersRepository;
+	private final UserSecurityRepository userSecurityRepository;
+	private final PlatformTransactionManager transactionManager;
+
+	@Value("${auth.password-rehash.queue-capacity}")
+	private int queueCapacity;
+
+	@Value("${auth.password-rehash.batch-size}")
+	private int batchSize;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+
+	private BlockingQueue<PendingRehash> pendingRehashes;
+	private TransactionTemplate transactionTemplate;
+	private ExecutorService rehashExecutor;
+
+	/**
+	 * 재해싱 대기 항목
+	 * @param email 사용자 이메일
+	 * @param rawPassword 로그인에 사용된 평문 비밀번호
+	 * @param currentHash 로그인 시 검증한 저장 해시 (그 사이 비밀번호가 바뀌었는지 확인용)
+	 */
+	record PendingRehash(String email, String rawPassword, String currentHash) {
+	}
+
+	/**
+	 * 재해싱 결과
+	 */
+	private record RehashedPassword(String currentHash, String upgradedHash) {
+	}
+
+	@PostConstruct
+	public void init() {
+		pendingRehashes = new ArrayBlockingQueue<>(queueCapacity);
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		rehashExecutor = Executors.newSingleThreadExecutor(
+			Thread.ofPlatform().name("password-rehash").daemon(true).factory());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		rehashExecutor.shutdown();
+	}
+
+	/**
+	 * 재해싱 요청 (즉시 반환)
+	 * @param email 사용자 이메일
+	 * @param rawPassword 평문 비밀번호
+	 * @param currentHash 현재 저장된 해시
+	 * @return 대기열 등록 여부
+	 */
+	public boolean requestRehash(String email, String rawPassword, String currentHash) {
+		boolean accepted = pendingRehashes.offer(new PendingRehash(email, rawPassword, currentHash));
+		if (!accepted) {
+			log.debug("비밀번호 재해싱 대기열 초과로 생략: email={}", email);
+		}
+		return accepted;
+	}
+
+	/**
+	 * 재해싱 스레드에 대기열 처리를 맡기고 바로 반환 (이전 처리가 진행 중이면 생략)
+	 */
+	@Scheduled(fixedDelayString = "${auth.password-rehash.flush-interval-millis}")
+	public void flush() {
+		if (!running.compareAndSet(false, true)) {
+			return;
+		}
+		rehashExecutor.execute(() -> {
+			try {
+				rehashPending();
+			} finally {
+				running.set(false);
+			}
+		});
+	}
+
+	/**
+	 * 대기열의 재해싱 요청을 배치 단위로 처리 (해싱 풀이 바쁘면 중단)
+	 */
+	void rehashPending() {
+		List<PendingRehash> batch = new ArrayList<>(batchSize);
+		boolean busy = false;
+		while (!busy && pendingRehashes.drainTo(batch, batchSize) > 0) {
+			Map<String, PendingRehash> latestByEmail = new LinkedHashMap<>();
+			batch.forEach(pending -> latestByEmail.put(pending.email(), pending));
+
+			Map<String, RehashedPassword> rehashedByEmail = new LinkedHashMap<>();
+			busy = rehashAll(latestByEmail.values().iterator(), rehashedByEmail);
+			int updatedCount = saveAll(rehashedByEmail);
+			log.info("비밀번호 재해싱 완료: requested={}, updated={}", batch.size(), updatedCount);
+			batch.clear();
+		}
+	}
+
+	/**
+	 * 트랜잭션 밖에서 재해싱 (해싱 중 DB 커넥션을 점유하지 않음)
+	 * 해싱 풀이 바쁘면 해싱하지 못한 요청을 대기열에 되돌리고 중단 (대기열이 가득 차면 다음 로그인 때 다시 요청)
+	 * @return 해싱 풀이 바빠 중단했는지 여부
+	 */
+	private boolean rehashAll(Iterator<PendingRehash> pendings, Map<String, RehashedPassword> rehashedByEmail) {
+		while (pendings.hasNext()) {
+			PendingRehash pending = pendings.next();
+			try {
+				String upgradedHash = passwordEncoder.encode(pending.rawPassword());
+				rehashedByEmail.put(pending.email(), new RehashedPassword(pending.currentHash(), upgradedHash));
+			} catch (RetryableException e) {
+				pendingRehashes.offer(pending);
+				pendings.forEachRemaining(pendingRehashes::offer);
+				log.debug("해싱 풀이 바빠 비밀번호 재해싱을 다음 주기로 미룸: queued={}", pendingRehashes.size());
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 재해싱 결과 저장
+	 * 1. 이메일로 사용자/보안 정보를 한 번에 조회
+	 * 2. 저장 해시가 로그인 시점과 같을 때만 교체 (그 사이 비밀번호 변경 시 덮어쓰지 않음)
+	 * @return 갱신된 사용자 수
+	 */
+	private int saveAll(Map<String, RehashedPassword> rehashedByEmail) {
+		if (rehashedByEmail.isEmpty()) {
+			return 0;
+		}
+
+		Integer updatedCount = transactionTemplate.execute(status -> {
+			Map<String, String> emailByTsid = new LinkedHashMap<>();
+			for (UsersEntity user : usersRepository.findAllByEmailIn(rehashedByEmail.keySet())) {
+				emailByTsid.put(user.getTsid(), user.getEmail());
+			}
+
+			int count = 0;
+			for (UserSecurityEntity security : userSecurityRepository.findAllById(emailByTsid.keySet())) {
+				RehashedPassword rehashed = rehashedByEmail.get(emailByTsid.get(security.getUserTsid()));
+				if (rehashed.currentHash().equals(security.getPasswordHash())) {
+					security.upgradePasswordHash(rehashed.upgradedHash());
+					count++;
+				}
+			}
+			return count;
+		});
+		return updatedCount != null ? updatedCount : 0;
+	}
+}
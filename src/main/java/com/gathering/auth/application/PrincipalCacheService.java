@@ -0,0 +1,163 @@
+package com.gathering.auth.application;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gathering.auth.domain.AuthenticatedUser;
+import com.gathering.auth.infra.AuthConstants;
+import com.gathering.common.adapter.RedisAdapter;
+import com.gathering.user.domain.repository.UsersRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증 사용자 캐시 서비스
+ * JWT 인증 필터가 요청마다 DB를 조회하지 않도록 사용자 TSID 기준으로 인증 정보를 캐싱
+ * - 1단계: 인스턴스 로컬 캐시 (크기 제한, 짧은 TTL)
+ * - 2단계: Redis 캐시 (선택, 인스턴스 간 공유)
+ * - 모두 없을 때만 DB 조회 (users 테이블 PK 조회 1회)
+ * 사용자 정보 변경/탈퇴 시 {@link #evict(String)}로 무효화
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PrincipalCacheService {
+
+	private final UsersRepository usersRepository;
+	private final RedisAdapter redisAdapter;
+	private final ObjectMapper objectMapper;
+
+	@Value("${auth.principal-cache.local.maximum-size}")
+	private long localMaximumSize;
+
+	@Value("${auth.principal-cache.local.ttl-seconds}")
+	private long localTtlSeconds;
+
+	@Value("${auth.principal-cache.redis.enabled}")
+	private boolean redisEnabled;
+
+	@Value("${auth.principal-cache.redis.ttl-seconds}")
+	private long redisTtlSeconds;
+
+	private Cache<String, AuthenticatedUser> localCache;
+
+	@PostConstruct
+	public void init() {
+		this.localCache = Caffeine.newBuilder()
+			.maximumSize(localMaximumSize)
+			.expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+			.build();
+	}
+
+	/**
+	 * 인증 사용자 정보 조회
+	 * 같은 TSID에 대한 동시 캐시 미스는 한 번만 로드됨
+	 *
+	 * @param tsid 사용자 고유 ID
+	 * @return 인증 사용자 정보 (사용자가 없으면 empty)
+	 */
+	public Optional<AuthenticatedUser> getAuthenticatedUser(String tsid) {
+		return Optional.ofNullable(localCache.get(tsid, this::load));
+	}
+
+	/**
+	 * 캐시 무효화
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 무효화하여
+	 * 커밋 전에 다른 요청이 이전 데이터를 다시 캐싱하는 경우를 막음
+	 *
+	 * @param tsid 사용자 고유 ID
+	 */
+	public void evict(String tsid) {
+		evictNow(tsid);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evictNow(tsid);
+				}
+			});
+		}
+	}
+
+	private void evictNow(String tsid) {
+		localCache.invalidate(tsid);
+
+		if (!redisEnabled) {
+			return;
+		}
+
+		try {
+			redisAdapter.delete(createKey(tsid));
+		} catch (DataAccessException e) {
+			log.warn("인증 사용자 캐시 Redis 삭제 실패: tsid={}, message={}", tsid, e.getMessage());
+		}
+	}
+
+	/**
+	 * 로컬 캐시 미스 시 Redis → DB 순으로 조회
+	 * 사용자가 없으면 null 반환 (캐싱하지 않음)
+	 */
+	private AuthenticatedUser load(String tsid) {
+		Optional<AuthenticatedUser> cached = readFromRedis(tsid);
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+
+		AuthenticatedUser user = usersRepository.findById(tsid)
+			.map(AuthenticatedUser::from)
+			.orElse(null);
+
+		if (user != null) {
+			writeToRedis(user);
+		}
+		return user;
+	}
+
+	private Optional<AuthenticatedUser> readFromRedis(String tsid) {
+		if (!redisEnabled) {
+			return Optional.empty();
+		}
+
+		try {
+			Optional<String> json = redisAdapter.get(createKey(tsid));
+			if (json.isEmpty()) {
+				return Optional.empty();
+			}
+			return Optional.of(objectMapper.readValue(json.get(), AuthenticatedUser.class));
+		} catch (JsonProcessingException | DataAccessException e) {
+			// 캐시 계층 장애는 DB 조회로 대체
+			log.warn("인증 사용자 캐시 Redis 조회 실패: tsid={}, message={}", tsid, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private void writeToRedis(AuthenticatedUser user) {
+		if (!redisEnabled) {
+			return;
+		}
+
+		try {
+			String json = objectMapper.writeValueAsString(user);
+			redisAdapter.set(createKey(user.getTsid()), json, Duration.ofSeconds(redisTtlSeconds));
+		} catch (JsonProcessingException | DataAccessException e) {
+			log.warn("인증 사용자 캐시 Redis 저장 실패: tsid={}, message={}", user.getTsid(), e.getMessage());
+		}
+	}
+
+	private String createKey(String tsid) {
+		return AuthConstants.PRINCIPAL_CACHE_PREFIX + tsid;
+	}
+}
@@ -1,11 +1,20 @@
 package com.gathering.auth.application;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import com.gathering.common.adapter.RedisAdapter;
+import com.gathering.common.utility.CryptoUtil;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +24,10 @@ import lombok.extern.slf4j.Slf4j;
  * - RefreshToken 저장/조회/삭제
  * - TTL 자동 관리
  * - JTI를 통한 멀티 디바이스 지원
+ * - 토큰 원문 대신 SHA-256 지문(43자)만 저장
+ * - 사용자별 JTI 인덱스(Set)로 전체 로그아웃 시 KEYS/SCAN 없이 해당 사용자 토큰만 삭제
+ * - 토큰 갱신 시 JTI 교체(rotation), 패밀리의 현재 JTI가 아닌 토큰 제출(재사용) 시 같은 패밀리 토큰 전체 취소
+ * - 토큰/인덱스/패밀리 키는 {사용자 TSID} 해시 태그를 공유하여 Redis Cluster에서도 교체 스크립트가 한 슬롯에서 실행됨
  */
 @Slf4j
 @Service
@@ -26,54 +39,231 @@ public class RefreshTokenService {
 	@Value("${jwt.refresh-token-validity-in-seconds}")
 	private long refreshTokenValidityInSeconds;
 
+	/**
+	 * 해시 태그 도입 이전 형식(레거시 키)으로 저장된 토큰 처리 여부
+	 * - 레거시 키의 토큰 검증/교체(지문 도입 이전의 원문 저장분 포함), 로그아웃/탈퇴 시 레거시 키 삭제(SCAN 포함)
+	 * - 2027-01-15 (해시 태그 배포 후 리프레시 토큰 유효기간 90일 경과) 이후 false로 변경하고 레거시 처리 코드 제거
+	 */
+	@Value("${jwt.refresh-token-index.legacy-scan-enabled}")
+	private boolean legacyScanEnabled;
+
 	private static final String KEY_PREFIX = "refresh_token:";
+	private static final String INDEX_KEY_PREFIX = "refresh_token_index:";
+	private static final String FAMILY_KEY_PREFIX = "refresh_token_family:";
+
+	/**
+	 * 해시 태그 도입 이전에 교체된 레거시 토큰 키에 남아 있는 표시값 (새 형식은 교체 시 기존 토큰 키를 삭제)
+	 */
+	private static final String LEGACY_ROTATED_MARKER = "rotated";
+
+	/**
+	 * 교체 스크립트 결과: 호출 전에 읽은 패밀리의 현재 JTI가 그사이 바뀜 (다시 읽고 재시도)
+	 */
+	private static final long FAMILY_CHANGED = 2L;
+
+	/**
+	 * 패밀리 변경으로 인한 교체 최대 시도 횟수
+	 */
+	private static final int MAX_ROTATION_ATTEMPTS = 2;
+
+	private static final RedisScript<Long> ROTATE_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/rotate_refresh_token.lua"), Long.class);
+
+	/**
+	 * 리프레시 토큰 교체 결과
+	 */
+	public enum RotationResult {
+		ROTATED,
+		NOT_FOUND,
+		REUSE_DETECTED
+	}
 
 	/**
 	 * RefreshToken 저장 (멀티 디바이스 지원)
+	 * 서명된 JWT 전체 대신 고정 길이 지문을 저장하여 Redis 메모리 사용량을 줄임
+	 * 패밀리 키에는 현재 유효한 JTI를 기록하여 교체 가능 여부 확인 및 재사용 감지 시 취소에 사용
 	 * @param tsid 사용자 고유 ID
 	 * @param jti JWT ID (토큰 고유 ID)
+	 * @param familyId 토큰 패밀리 ID
 	 * @param refreshToken 리프레시 토큰
 	 */
-	public void saveRefreshToken(String tsid, String jti, String refreshToken) {
-		String key = createKey(tsid, jti);
-		redisAdapter.set(key, refreshToken, Duration.ofSeconds(refreshTokenValidityInSeconds));
+	public void saveRefreshToken(String tsid, String jti, String familyId, String refreshToken) {
+		Duration ttl = Duration.ofSeconds(refreshTokenValidityInSeconds);
+		redisAdapter.multiSet(Map.of(
+			createKey(tsid, jti), CryptoUtil.sha256Base64Url(refreshToken),
+			createFamilyKey(tsid, familyId), jti
+		), ttl);
+		redisAdapter.addToSet(createIndexKey(tsid), jti, ttl);
 		log.info("RefreshToken 저장 완료: tsid={}, jti={}", tsid, jti);
 	}
 
 	/**
-	 * RefreshToken 조회 및 검증
+	 * RefreshToken 교체 (패밀리 조회 + Lua 스크립트로 Redis 2회 왕복)
+	 * 1. 패밀리의 현재 JTI 조회 (재사용 시 삭제할 현재 토큰 키를 스크립트의 KEYS로 전달하기 위함)
+	 * 2. 패밀리의 현재 JTI가 아닌 토큰이면 재사용으로 보고 패밀리와 현재 토큰 삭제
+	 * 3. 지문이 일치하면 기존 토큰 키를 삭제하고 새 토큰 저장, 인덱스/패밀리 갱신
+	 * 4. 패밀리가 없고 레거시 처리가 활성화된 경우 레거시 키의 토큰으로 교체
+	 * @param tsid 사용자 고유 ID
+	 * @param oldJti 기존 토큰 JTI
+	 * @param familyId 토큰 패밀리 ID
+	 * @param oldRefreshToken 기존 토큰
+	 * @param newJti 새 토큰 JTI
+	 * @param newRefreshToken 새 토큰
+	 * @return 교체 결과
+	 */
+	public RotationResult rotateRefreshToken(String tsid, String oldJti, String familyId, String oldRefreshToken,
+		String newJti, String newRefreshToken) {
+		long result = FAMILY_CHANGED;
+		for (int attempt = 0; attempt < MAX_ROTATION_ATTEMPTS && result == FAMILY_CHANGED; attempt++) {
+			result = executeRotation(tsid, oldJti, familyId, oldRefreshToken, newJti, newRefreshToken);
+		}
+
+		if (result == 0 && legacyScanEnabled) {
+			return rotateLegacyRefreshToken(tsid, oldJti, familyId, oldRefreshToken, newJti, newRefreshToken);
+		}
+		if (result == 0 || result == FAMILY_CHANGED) {
+			return RotationResult.NOT_FOUND;
+		}
+		if (result < 0) {
+			log.warn("RefreshToken 재사용 감지, 패밀리 취소: tsid={}, jti={}, familyId={}", tsid, oldJti, familyId);
+			return RotationResult.REUSE_DETECTED;
+		}
+		log.info("RefreshToken 교체 완료: tsid={}, oldJti={}, newJti={}", tsid, oldJti, newJti);
+		return RotationResult.ROTATED;
+	}
+
+	/**
+	 * 패밀리의 현재 JTI를 읽은 뒤 교체 스크립트 실행
+	 * @return 스크립트 결과 (패밀리가 없으면 0)
+	 */
+	private long executeRotation(String tsid, String oldJti, String familyId, String oldRefreshToken,
+		String newJti, String newRefreshToken) {
+		String familyKey = createFamilyKey(tsid, familyId);
+		Optional<String> activeJti = redisAdapter.get(familyKey);
+		if (activeJti.isEmpty()) {
+			return 0;
+		}
+		Long result = redisAdapter.executeScript(
+			ROTATE_SCRIPT,
+			List.of(
+				createKey(tsid, oldJti),
+				createKey(tsid, newJti),
+				createIndexKey(tsid),
+				familyKey,
+				createKey(tsid, activeJti.get())
+			),
+			CryptoUtil.sha256Base64Url(oldRefreshToken),
+			oldJti,
+			newJti,
+			CryptoUtil.sha256Base64Url(newRefreshToken),
+			String.valueOf(refreshTokenValidityInSeconds),
+			activeJti.get()
+		);
+		return result != null ? result : 0;
+	}
+
+	/**
+	 * 레거시 키의 토큰으로 교체 (레거시 처리 활성화 시에만)
+	 * 레거시 키는 해시 태그가 없어 스크립트에서 함께 다룰 수 없으므로 GETDEL로 한 번만 사용되게 하고 새 형식으로 저장
+	 * 레거시 키에 교체 표시가 남아 있으면(해시 태그 도입 이전에 교체된 토큰의 재사용) 레거시 패밀리 키를 삭제
+	 */
+	private RotationResult rotateLegacyRefreshToken(String tsid, String oldJti, String familyId,
+		String oldRefreshToken, String newJti, String newRefreshToken) {
+		Optional<String> stored = redisAdapter.getAndDelete(createLegacyKey(tsid, oldJti));
+		if (stored.isEmpty()) {
+			return RotationResult.NOT_FOUND;
+		}
+		if (LEGACY_ROTATED_MARKER.equals(stored.get())) {
+			redisAdapter.delete(createLegacyFamilyKey(familyId));
+			log.warn("레거시 RefreshToken 재사용 감지, 패밀리 취소: tsid={}, jti={}, familyId={}", tsid, oldJti, familyId);
+			return RotationResult.REUSE_DETECTED;
+		}
+		if (!matches(stored.get(), oldRefreshToken)) {
+			return RotationResult.NOT_FOUND;
+		}
+
+		redisAdapter.removeFromSet(createLegacyIndexKey(tsid), oldJti);
+		saveRefreshToken(tsid, newJti, familyId, newRefreshToken);
+		log.info("레거시 RefreshToken 교체 완료: tsid={}, oldJti={}, newJti={}", tsid, oldJti, newJti);
+		return RotationResult.ROTATED;
+	}
+
+	/**
+	 * RefreshToken 조회 및 검증 (지문 비교, 상수 시간)
+	 * 토큰이 없고 레거시 처리가 활성화된 경우 레거시 키의 토큰으로 검증
 	 * @param tsid 사용자 고유 ID
 	 * @param jti JWT ID (토큰 고유 ID)
 	 * @param refreshToken 검증할 토큰
 	 * @return 유효 여부
 	 */
 	public boolean validateRefreshToken(String tsid, String jti, String refreshToken) {
-		String key = createKey(tsid, jti);
-		return redisAdapter.get(key)
-			.map(storedToken -> storedToken.equals(refreshToken))
+		Optional<String> stored = redisAdapter.get(createKey(tsid, jti));
+		if (stored.isPresent()) {
+			return isEqual(stored.get(), CryptoUtil.sha256Base64Url(refreshToken));
+		}
+		if (!legacyScanEnabled) {
+			return false;
+		}
+		return redisAdapter.get(createLegacyKey(tsid, jti))
+			.map(storedValue -> matches(storedValue, refreshToken))
 			.orElse(false);
 	}
 
+	/**
+	 * 레거시 키에 저장된 값과 토큰 비교 (지문 도입 이전에 저장된 원문 포함)
+	 * JWT 원문은 '.'을 포함하고 Base64 URL 지문은 포함하지 않으므로 저장 형식을 구분할 수 있음
+	 */
+	private boolean matches(String storedValue, String refreshToken) {
+		String expected = storedValue.indexOf('.') >= 0 ? refreshToken : CryptoUtil.sha256Base64Url(refreshToken);
+		return isEqual(storedValue, expected);
+	}
+
+	private static boolean isEqual(String storedValue, String expected) {
+		return MessageDigest.isEqual(
+			storedValue.getBytes(StandardCharsets.UTF_8),
+			expected.getBytes(StandardCharsets.UTF_8)
+		);
+	}
+
 	/**
 	 * RefreshToken 삭제 (로그아웃 시 사용)
 	 * @param tsid 사용자 고유 ID
 	 * @param jti JWT ID (토큰 고유 ID)
+	 * @param familyId 토큰 패밀리 ID
 	 */
-	public void deleteRefreshToken(String tsid, String jti) {
-		String key = createKey(tsid, jti);
-		boolean deleted = redisAdapter.delete(key);
-		log.info("RefreshToken 삭제: tsid={}, jti={}, deleted={}", tsid, jti, deleted);
+	public void deleteRefreshToken(String tsid, String jti, String familyId) {
+		List<String> keys = legacyScanEnabled
+			? List.of(createKey(tsid, jti), createFamilyKey(tsid, familyId),
+				createLegacyKey(tsid, jti), createLegacyFamilyKey(familyId))
+			: List.of(createKey(tsid, jti), createFamilyKey(tsid, familyId));
+		long deletedCount = redisAdapter.delete(keys);
+		redisAdapter.removeFromSet(createIndexKey(tsid), jti);
+		log.info("RefreshToken 삭제: tsid={}, jti={}, deletedCount={}", tsid, jti, deletedCount);
 	}
 
 	/**
 	 * 사용자의 모든 RefreshToken 삭제 (회원 탈퇴 시 사용)
 	 * 멀티 디바이스 환경에서 해당 사용자의 모든 디바이스 토큰을 삭제
+	 * 1. 인덱스에 기록된 JTI로 토큰 키를 구성하여 한 번에 삭제 (디바이스 수에 비례)
+	 * 2. 인덱스 삭제
+	 * 3. 레거시 처리가 활성화된 경우 레거시 인덱스와 레거시 키의 토큰을 SCAN으로 삭제
 	 * @param tsid 사용자 고유 ID
 	 * @return 삭제된 토큰 개수
 	 */
 	public long deleteAllRefreshTokensByTsid(String tsid) {
-		String pattern = KEY_PREFIX + tsid + ":*";
-		long deletedCount = redisAdapter.deleteByPattern(pattern);
+		String indexKey = createIndexKey(tsid);
+		Set<String> jtis = redisAdapter.getSetMembers(indexKey);
+		List<String> keys = jtis.stream()
+			.map(jti -> createKey(tsid, jti))
+			.toList();
+
+		long deletedCount = redisAdapter.delete(keys);
+		redisAdapter.delete(indexKey);
+
+		if (legacyScanEnabled) {
+			redisAdapter.delete(createLegacyIndexKey(tsid));
+			deletedCount += redisAdapter.deleteByPattern(KEY_PREFIX + tsid + ":*");
+		}
 		log.info("사용자의 모든 RefreshToken 삭제: tsid={}, deletedCount={}", tsid, deletedCount);
 		return deletedCount;
 	}
@@ -85,6 +275,44 @@ public class RefreshTokenService {
 	 * @return Redis 키
 	 */
 	private String createKey(String tsid, String jti) {
+		return KEY_PREFIX + hashTag(tsid) + ":" + jti;
+	}
+
+	/**
+	 * 사용자별 JTI 인덱스 키 생성
+	 * @param tsid 사용자 고유 ID
+	 * @return Redis 키
+	 */
+	private String createIndexKey(String tsid) {
+		return INDEX_KEY_PREFIX + hashTag(tsid);
+	}
+
+	/**
+	 * 토큰 패밀리 키 생성 (값: 패밀리의 현재 JTI)
+	 * @param tsid 사용자 고유 ID
+	 * @param familyId 토큰 패밀리 ID
+	 * @return Redis 키
+	 */
+	private String createFamilyKey(String tsid, String familyId) {
+		return FAMILY_KEY_PREFIX + hashTag(tsid) + ":" + familyId;
+	}
+
+	/**
+	 * Redis Cluster 해시 태그 (중괄호 안의 사용자 TSID로만 슬롯을 계산하여 사용자의 키를 한 슬롯에 모음)
+	 */
+	private static String hashTag(String tsid) {
+		return "{" + tsid + "}";
+	}
+
+	private String createLegacyKey(String tsid, String jti) {
 		return KEY_PREFIX + tsid + ":" + jti;
 	}
+
+	private String createLegacyIndexKey(String tsid) {
+		return INDEX_KEY_PREFIX + tsid;
+	}
+
+	private String createLegacyFamilyKey(String familyId) {
+		return FAMILY_KEY_PREFIX + familyId;
+	}
 }
@@ -0,0 +1,140 @@
+package com.gathering.auth.application;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.gathering.auth.infra.AuthConstants;
+import com.gathering.common.adapter.RedisAdapter;
+import com.gathering.common.exception.ErrorCode;
+import com.gathering.common.exception.RetryableException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 취소 목록 관리 서비스 (클레임 인증 모드용)
+ * 클레임 인증 모드에서는 요청 시 DB를 조회하지 않으므로, 탈퇴한 사용자의 액세스 토큰이
+ * 만료 전까지 계속 통과하지 않도록 취소된 TSID를 Redis에 기록
+ * - Redis 키 TTL = 액세스 토큰 유효기간 (그 이후에는 기존 토큰이 모두 만료되므로 기록 불필요)
+ * - 조회 결과는 짧은 시간 로컬에 캐싱하여 요청마다 Redis를 호출하지 않음
+ * - Redis 장애 시 연속 실패가 시작된 후 유예 시간 동안은 통과시키고(fail-open),
+ *   유예 시간이 지나면 503으로 거부 (fail-closed, 장기 장애 중 탈퇴 사용자의 토큰이 계속 통과하지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserRevocationService {
+
+	private final RedisAdapter redisAdapter;
+
+	@Value("${jwt.access-token-validity-in-seconds}")
+	private long accessTokenValidityInSeconds;
+
+	@Value("${auth.revocation.local.maximum-size}")
+	private long localMaximumSize;
+
+	@Value("${auth.revocation.local.ttl-seconds}")
+	private long localTtlSeconds;
+
+	@Value("${auth.revocation.redis-failure-grace-seconds}")
+	private long redisFailureGraceSeconds;
+
+	@Value("${auth.revocation.retry-after-seconds}")
+	private long retryAfterSeconds;
+
+	private Cache<String, Boolean> localCache;
+
+	/**
+	 * 연속된 Redis 조회 실패 중 첫 실패 시각 (장애 유예 시간 계산용, 실패 중이 아니면 0, 조회 성공 시 초기화)
+	 * 동시에 첫 실패가 기록되어도 시각 차이가 작으므로 별도로 동기화하지 않음
+	 */
+	private volatile long firstFailureMillis;
+
+	@PostConstruct
+	public void init() {
+		this.localCache = Caffeine.newBuilder()
+			.maximumSize(localMaximumSize)
+			.expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+			.build();
+	}
+
+	/**
+	 * 사용자 취소 (회원 탈퇴 시 사용)
+	 * 다른 인스턴스에는 로컬 캐시 TTL 이내에 반영됨
+	 *
+	 * @param tsid 사용자 고유 ID
+	 */
+	public void revoke(String tsid) {
+		localCache.put(tsid, Boolean.TRUE);
+		redisAdapter.set(createKey(tsid), "1", Duration.ofSeconds(accessTokenValidityInSeconds));
+		log.info("사용자 취소 등록: tsid={}", tsid);
+	}
+
+	/**
+	 * 현재 트랜잭션이 커밋된 후 사용자 취소 (롤백되면 취소하지 않음, 트랜잭션 밖에서는 즉시 취소)
+	 * 커밋 후 Redis 기록에 실패하면 이 인스턴스의 로컬 캐시에만 반영되므로 에러 로그를 남김
+	 *
+	 * @param tsid 사용자 고유 ID
+	 */
+	public void revokeAfterCommit(String tsid) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			revoke(tsid);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				try {
+					revoke(tsid);
+				} catch (DataAccessException e) {
+					log.error("사용자 취소 등록 실패 (다른 인스턴스에는 토큰 만료 전까지 반영되지 않음): tsid={}, message={}",
+						tsid, e.getMessage());
+				}
+			}
+		});
+	}
+
+	/**
+	 * 취소된 사용자인지 확인
+	 * Redis 장애 시 유예 시간 이내면 취소되지 않은 것으로 보고 통과 (결과는 캐싱하지 않음)
+	 *
+	 * @param tsid 사용자 고유 ID
+	 * @return 취소 여부
+	 * @throws RetryableException Redis 장애가 유예 시간보다 오래 지속된 경우 (503 + Retry-After)
+	 */
+	public boolean isRevoked(String tsid) {
+		try {
+			return localCache.get(tsid, key -> {
+				boolean revoked = redisAdapter.get(createKey(key)).isPresent();
+				firstFailureMillis = 0;
+				return revoked;
+			});
+		} catch (DataAccessException e) {
+			long now = System.currentTimeMillis();
+			if (firstFailureMillis == 0) {
+				firstFailureMillis = now;
+			}
+			long unavailableMillis = now - firstFailureMillis;
+			if (unavailableMillis <= redisFailureGraceSeconds * 1000) {
+				log.warn("취소 목록 조회 실패, 유예 시간 이내이므로 통과: tsid={}, unavailableMillis={}, message={}",
+					tsid, unavailableMillis, e.getMessage());
+				return false;
+			}
+			log.error("취소 목록 조회 실패, 유예 시간 초과로 거부: tsid={}, unavailableMillis={}, message={}",
+				tsid, unavailableMillis, e.getMessage());
+			throw new RetryableException(ErrorCode.REVOCATION_CHECK_UNAVAILABLE, retryAfterSeconds);
+		}
+	}
+
+	private String createKey(String tsid) {
+		return AuthConstants.REVOKED_USER_PREFIX + tsid;
+	}
+}
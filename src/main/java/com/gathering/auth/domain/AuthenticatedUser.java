@@ -0,0 +1,63 @@
+package com.gathering.auth.domain;
+
+import java.util.List;
+
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.gathering.auth.infra.AuthConstants;
+import com.gathering.user.domain.model.UserStatus;
+import com.gathering.user.domain.model.UsersEntity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * JWT 인증 시 SecurityContext에 올라가는 사용자 정보
+ * 요청마다 DB를 조회하지 않도록 캐시에 저장되는 값이므로 비밀번호 해시 등 민감 정보는 포함하지 않음
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)  // Jackson 역직렬화용
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AuthenticatedUser {
+
+	private String tsid;
+	private String email;
+	private UserStatus status;
+	private List<String> authorities;
+
+	/**
+	 * 사용자 엔티티로부터 인증 사용자 정보 생성
+	 * 현재는 기본 권한만 부여, 추후 권한 시스템 구현 시 확장
+	 */
+	public static AuthenticatedUser from(UsersEntity user) {
+		return new AuthenticatedUser(
+			user.getTsid(),
+			user.getEmail(),
+			user.getStatus(),
+			List.of(AuthConstants.DEFAULT_ROLE)
+		);
+	}
+
+	/**
+	 * 액세스 토큰 클레임으로부터 인증 사용자 정보 생성 (클레임 인증 모드)
+	 * 토큰에는 개인정보를 싣지 않으므로 email은 비어 있음
+	 */
+	public static AuthenticatedUser fromClaims(String tsid, UserStatus status, List<String> authorities) {
+		return new AuthenticatedUser(tsid, null, status, List.copyOf(authorities));
+	}
+
+	/**
+	 * Spring Security UserDetails로 변환
+	 * JWT로 이미 인증된 요청이므로 credentials는 비워둠
+	 * 클레임 인증 모드에서는 email이 없으므로 TSID를 username으로 사용
+	 */
+	public UserDetails toUserDetails() {
+		return User.withUsername(email != null ? email : tsid)
+			.password("")
+			.authorities(authorities.toArray(String[]::new))
+			.build();
+	}
+}
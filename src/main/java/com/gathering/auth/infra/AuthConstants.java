@@ -16,11 +16,38 @@ public final class AuthConstants {
 	 */
 	public static final String BEARER_PREFIX = "Bearer ";
 
+	/**
+	 * 인증 필터에서 검증한 액세스 토큰을 보관하는 요청 속성 이름
+	 */
+	public static final String VERIFIED_TOKEN_ATTRIBUTE = "com.gathering.auth.verifiedToken";
+
 	/**
 	 * 쿠키 이름
 	 */
 	public static final String REFRESH_TOKEN_COOKIE = "refreshToken";
 
+	/**
+	 * 기본 권한
+	 */
+	public static final String DEFAULT_ROLE = "ROLE_USER";
+
+	/**
+	 * 인증 사용자 캐시 (Redis)
+	 */
+	public static final String PRINCIPAL_CACHE_PREFIX = "auth:principal:";
+
+	/**
+	 * 취소된 사용자 (클레임 인증 모드에서 탈퇴 반영용)
+	 */
+	public static final String REVOKED_USER_PREFIX = "auth:revoked:";
+
+	/**
+	 * 로그인 시도 제한 (Redis, 키는 접두사 + {대상})
+	 */
+	public static final String LOGIN_FAILURE_PREFIX = "auth:login:failures:";
+	public static final String LOGIN_LOCK_PREFIX = "auth:login:lock:";
+	public static final String LOGIN_LOCK_LEVEL_PREFIX = "auth:login:lock-level:";
+
 	/**
 	 * OAuth 연동 관련
 	 */
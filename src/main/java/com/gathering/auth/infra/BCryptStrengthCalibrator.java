@@ -0,0 +1,64 @@
+package com.gathering.auth.infra;
+
+import java.time.Duration;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BCrypt 비용(strength) 측정기
+ * 실행 중인 인스턴스에서 직접 해싱 시간을 측정하여 목표 지연 시간을 넘지 않는 가장 높은 비용을 선택
+ * 인스턴스 타입이 바뀌어도 로그인 해싱 지연이 목표 근처로 유지됨
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BCryptStrengthCalibrator {
+
+	private static final String SAMPLE_PASSWORD = "calibration-Password1!";
+	private static final int SAMPLES_PER_STRENGTH = 3;
+
+	/**
+	 * 목표 지연 시간 이내의 최대 비용 측정
+	 * 1. 최소 비용부터 1씩 올리며 해싱 시간 측정 (비용 +1마다 시간 2배)
+	 * 2. 목표를 넘는 비용이 나오면 직전 비용 반환
+	 * 3. 최소 비용도 목표를 넘으면 최소 비용 사용
+	 * @param target 해싱 1회 목표 지연 시간
+	 * @param minStrength 최소 비용
+	 * @param maxStrength 최대 비용
+	 * @return 선택된 비용
+	 */
+	public static int calibrate(Duration target, int minStrength, int maxStrength) {
+		// JIT 워밍업
+		new BCryptPasswordEncoder(minStrength).encode(SAMPLE_PASSWORD);
+
+		int selected = minStrength;
+		for (int strength = minStrength; strength <= maxStrength; strength++) {
+			long elapsedNanos = measureNanos(strength);
+			log.info("BCrypt 비용 측정: strength={}, elapsed={}ms", strength, elapsedNanos / 1_000_000);
+			if (elapsedNanos > target.toNanos()) {
+				break;
+			}
+			selected = strength;
+		}
+
+		log.info("BCrypt 비용 선택: strength={}, target={}ms", selected, target.toMillis());
+		return selected;
+	}
+
+	/**
+	 * 여러 번 측정한 값 중 최솟값 (GC/스케줄링 잡음 제외)
+	 */
+	private static long measureNanos(int strength) {
+		BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+		long min = Long.MAX_VALUE;
+		for (int i = 0; i < SAMPLES_PER_STRENGTH; i++) {
+			long start = System.nanoTime();
+			encoder.encode(SAMPLE_PASSWORD);
+			min = Math.min(min, System.nanoTime() - start);
+		}
+		return min;
+	}
+}
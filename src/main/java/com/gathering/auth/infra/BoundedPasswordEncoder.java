@@ -0,0 +1,113 @@
+package com.gathering.auth.infra;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.gathering.common.exception.ErrorCode;
+import com.gathering.common.exception.RetryableException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 해싱 전용 스레드 풀에서 실행하는 PasswordEncoder
+ * BCrypt는 CPU를 오래 점유하므로 동시 해싱 수를 CPU 코어 수로 제한하고, 대기열이 가득 차면 즉시 503으로 거부
+ * - 로그인 폭주 시에도 해싱을 기다리는 요청 스레드 수가 (풀 크기 + 대기열 크기)를 넘지 않아 다른 API가 스레드를 확보할 수 있음
+ * - 요청 스레드는 결과를 기다리기만 하며, 가상 스레드로 실행되면 대기 중 캐리어 스레드를 점유하지 않음
+ * - AuthenticationManager(DaoAuthenticationProvider)와 UserService 모두 이 빈을 사용하므로 호출부 변경 없음
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+	private final PasswordEncoder delegate;
+	private final ThreadPoolExecutor executor;
+	private final long retryAfterSeconds;
+
+	/**
+	 * @param delegate 실제 해싱을 수행하는 PasswordEncoder
+	 * @param poolSize 해싱 스레드 수
+	 * @param queueCapacity 대기열 크기 (초과 시 거부)
+	 * @param retryAfterSeconds 거부 시 Retry-After 헤더 값
+	 */
+	public BoundedPasswordEncoder(PasswordEncoder delegate, int poolSize, int queueCapacity, long retryAfterSeconds) {
+		this.delegate = delegate;
+		this.retryAfterSeconds = retryAfterSeconds;
+		this.executor = new ThreadPoolExecutor(
+			poolSize,
+			poolSize,
+			0L,
+			TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+			new ThreadPoolExecutor.AbortPolicy()
+		);
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return execute(() -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return execute(() -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	/**
+	 * 해시 접두사만 확인하므로 요청 스레드에서 바로 실행
+	 */
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	/**
+	 * 대기열에서 해싱을 기다리는 작업 수 (모니터링용)
+	 */
+	public int getQueuedTaskCount() {
+		return executor.getQueue().size();
+	}
+
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+
+	/**
+	 * 해싱 스레드 풀에 작업 제출 후 결과 대기
+	 * 1. 대기열이 가득 차면 RetryableException (503 + Retry-After)
+	 * 2. 작업에서 발생한 런타임 예외는 그대로 전달
+	 */
+	private <T> T execute(Callable<T> task) {
+		Future<T> future;
+		try {
+			future = executor.submit(task);
+		} catch (RejectedExecutionException e) {
+			log.warn("비밀번호 해싱 대기열 초과: active={}, queued={}",
+				executor.getActiveCount(), getQueuedTaskCount());
+			throw new RetryableException(ErrorCode.PASSWORD_HASHING_BUSY, retryAfterSeconds);
+		}
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("비밀번호 해싱 대기 중 인터럽트가 발생했습니다", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+}
@@ -55,6 +55,6 @@ public class CustomUserDetailsService implements UserDetailsService {
 	 * 현재는 기본 권한만 부여, 추후 권한 시스템 구현 시 확장
 	 */
 	private Collection<? extends GrantedAuthority> getAuthorities() {
-		return Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"));
+		return Collections.singleton(new SimpleGrantedAuthority(AuthConstants.DEFAULT_ROLE));
 	}
 }
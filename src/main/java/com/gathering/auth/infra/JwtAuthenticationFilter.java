@@ -1,23 +1,24 @@
 package com.gathering.auth.infra;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.gathering.common.exception.BusinessException;
+import com.gathering.auth.application.PrincipalCacheService;
+import com.gathering.auth.application.UserRevocationService;
+import com.gathering.auth.domain.AuthenticatedUser;
 import com.gathering.common.exception.ErrorCode;
 import com.gathering.common.exception.ErrorResponse;
-import com.gathering.user.domain.model.UsersEntity;
-import com.gathering.user.domain.repository.UsersRepository;
+import com.gathering.common.exception.RetryableException;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -38,8 +39,8 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final JwtTokenProvider jwtTokenProvider;
-	private final UserDetailsService userDetailsService;
-	private final UsersRepository usersRepository;
+	private final PrincipalCacheService principalCacheService;
+	private final UserRevocationService userRevocationService;
 	private static final ObjectMapper objectMapper = new ObjectMapper();
 
 	@Override
@@ -55,57 +56,91 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 			return;
 		}
 
+		VerifiedToken token;
 		try {
-			// 3. 액세스 토큰 검증 (BusinessException 발생)
-			jwtTokenProvider.validateAccessToken(jwt);
-		} catch (BusinessException e) {
-			// validateAccessToken()에서 발생한 BusinessException 처리
-			ErrorCode errorCode = e.getErrorCode();
+			// 3. 액세스 토큰 검증 (한 번의 파싱으로 검증 + 클레임 추출)
+			token = jwtTokenProvider.verifyAccessToken(jwt);
+		} catch (Exception e) {
+			// 기타 예상치 못한 예외
+			log.error("JWT 인증 처리 중 예상치 못한 오류: ", e);
+			sendErrorResponse(response, ErrorCode.AUTHENTICATION_FAILED);
+			return;
+		}
+
+		if (!token.isValid()) {
+			ErrorCode errorCode = token.getErrorCode();
 			log.debug("JWT 인증 실패: {} - {}", errorCode.name(), errorCode.getMessage());
 
 			// 상세한 에러 응답 전송
 			sendErrorResponse(response, errorCode);
 			return; // 필터 체인 중단!
+		}
 
-		} catch (Exception e) {
-			// 기타 예상치 못한 예외
-			log.error("JWT 인증 처리 중 예상치 못한 오류: ", e);
-			sendErrorResponse(response, ErrorCode.AUTHENTICATION_FAILED);
+		// 4. 토큰에서 사용자 TSID 추출 (재파싱 없음)
+		String tsid = token.getSubject();
+
+		// 5. 클레임 인증 모드에서는 DB를 보지 않으므로 탈퇴 등으로 취소된 사용자인지 확인
+		try {
+			if (jwtTokenProvider.isClaimsAuthenticationEnabled() && userRevocationService.isRevoked(tsid)) {
+				log.debug("취소된 사용자의 액세스 토큰: {}", tsid);
+				sendErrorResponse(response, ErrorCode.ACCESS_TOKEN_REVOKED);
+				return;
+			}
+		} catch (RetryableException e) {
+			// 취소 목록 장애가 유예 시간보다 길어진 경우 (503 + Retry-After)
+			response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+			sendErrorResponse(response, e.getErrorCode());
 			return;
 		}
 
-		// 4. 토큰에서 사용자 TSID 추출
-		String tsid = jwtTokenProvider.getTsidFromToken(jwt);
-
-		// 5. TSID로 사용자 조회하여 이메일 가져오기
-		UsersEntity user = usersRepository.findById(tsid).orElse(null);
+		// 6. 인증 사용자 정보 구성 (클레임 또는 캐시)
+		AuthenticatedUser user = resolveAuthenticatedUser(token);
 		if (user == null) {
 			log.debug("사용자를 찾을 수 없습니다: {}", tsid);
 			sendErrorResponse(response, ErrorCode.AUTHENTICATION_FAILED);
 			return;
 		}
 
-		String email = user.getEmail();
+		// 7. UserDetails 생성 (DB 조회 없음)
+		UserDetails userDetails = user.toUserDetails();
 
-		// 6. UserDetailsService를 통해 사용자 정보 로드
-		UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-
-		// 7. Authentication 객체 생성
+		// 8. Authentication 객체 생성
 		UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null,
 			userDetails.getAuthorities());
 
-		// 8. 요청 정보 추가 (IP, Session ID 등)
+		// 9. 요청 정보 추가 (IP, Session ID 등)
 		authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-		// 9. SecurityContext에 인증 정보 설정
+		// 10. SecurityContext에 인증 정보 설정
 		SecurityContextHolder.getContext().setAuthentication(authentication);
 
-		log.debug("JWT 인증 성공: {}", email);
+		// 검증된 토큰을 요청 속성에 보관하여 컨트롤러에서 다시 파싱하지 않도록 함
+		request.setAttribute(AuthConstants.VERIFIED_TOKEN_ATTRIBUTE, token);
+
+		log.debug("JWT 인증 성공: {}", userDetails.getUsername());
 
-		// 10. 다음 필터로 요청 전달
+		// 11. 다음 필터로 요청 전달
 		filterChain.doFilter(request, response);
 	}
 
+	/**
+	 * 인증 사용자 정보 구성
+	 * - 클레임 인증 모드: 액세스 토큰 클레임만으로 구성 (UsersRepository, UserDetailsService 미사용)
+	 * - 기본 모드 또는 모드 전환 이전에 발급된 토큰: 인증 사용자 캐시에서 조회
+	 *
+	 * @return 인증 사용자 정보 (사용자가 없으면 null)
+	 */
+	private AuthenticatedUser resolveAuthenticatedUser(VerifiedToken token) {
+		if (jwtTokenProvider.isClaimsAuthenticationEnabled()) {
+			Optional<AuthenticatedUser> claimsUser = token.getClaimsUser();
+			if (claimsUser.isPresent()) {
+				return claimsUser.get();
+			}
+		}
+
+		return principalCacheService.getAuthenticatedUser(token.getSubject()).orElse(null);
+	}
+
 	/**
 	 * 에러 응답을 JSON 형식으로 전송
 	 */
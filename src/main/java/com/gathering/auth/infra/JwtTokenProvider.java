@@ -1,8 +1,11 @@
 package com.gathering.auth.infra;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import javax.crypto.SecretKey;
@@ -10,11 +13,17 @@ import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.gathering.auth.domain.AuthenticatedUser;
 import com.gathering.common.exception.BusinessException;
-import com.gathering.common.exception.ErrorCode;
+import com.gathering.user.domain.model.UserStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -30,6 +39,13 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class JwtTokenProvider {
 
+	private static final String CLAIM_STATUS = "status";
+	private static final String CLAIM_ROLES = "roles";
+	private static final String CLAIM_FAMILY_ID = "fid";
+
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
 	@Value("${jwt.secret}")
 	private String secretKey;
 
@@ -39,11 +55,51 @@ public class JwtTokenProvider {
 	@Value("${jwt.refresh-token-validity-in-seconds}")
 	private long refreshTokenValidityInSeconds;
 
+	/**
+	 * 클레임 인증 모드 여부
+	 * 활성화 시 액세스 토큰에 사용자 상태와 권한을 담고, 인증 필터는 DB 조회 없이 클레임만으로 인증
+	 */
+	@Value("${jwt.claims-authentication.enabled}")
+	private boolean claimsAuthenticationEnabled;
+
+	/**
+	 * 검증된 액세스 토큰 캐시 최대 크기 (0이면 캐시 비활성화)
+	 */
+	@Value("${jwt.verified-token-cache.maximum-size}")
+	private long verifiedTokenCacheMaximumSize;
+
 	private SecretKey key;
 
+	/**
+	 * 서명 검증용 파서 (불변, 스레드 안전)
+	 * 요청마다 파서를 새로 만들지 않도록 초기화 시점에 한 번만 생성
+	 */
+	private JwtParser parser;
+
+	/**
+	 * 검증된 액세스 토큰 캐시 (토큰 해시 -> 검증 결과)
+	 * 클라이언트는 만료 전까지 같은 액세스 토큰을 반복해서 보내므로 HMAC 검증과 JSON 파싱을 생략
+	 * - 키: 토큰 문자열의 64비트 해시 (긴 토큰 문자열 대신 long으로 조회)
+	 * - 값: 원본 토큰을 함께 보관하여 해시 충돌 시 다른 토큰의 검증 결과를 반환하지 않도록 비교
+	 * - 만료: 엔트리별로 토큰의 exp 시점에 제거
+	 * - 검증에 성공한 토큰만 저장 (잘못된 토큰으로 캐시를 채우지 못하도록)
+	 */
+	private Cache<Long, CachedToken> verifiedTokenCache;
+
 	@PostConstruct
 	public void init() {
 		this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+		this.parser = Jwts.parser()
+			.verifyWith(key)
+			.build();
+
+		if (verifiedTokenCacheMaximumSize > 0) {
+			this.verifiedTokenCache = Caffeine.newBuilder()
+				.maximumSize(verifiedTokenCacheMaximumSize)
+				.expireAfter(new TokenExpiry())
+				.recordStats()
+				.build();
+		}
 	}
 
 	/**
@@ -61,24 +117,95 @@ public class JwtTokenProvider {
 			.compact();
 	}
 
+	/**
+	 * 클레임 인증 모드용 액세스 토큰 생성
+	 * 사용자 상태와 권한을 클레임으로 포함 (email 등 개인정보는 포함하지 않음)
+	 */
+	public String createAccessToken(AuthenticatedUser user) {
+		Instant now = Instant.now();
+		Instant expiryDate = now.plusSeconds(accessTokenValidityInSeconds);
+
+		return Jwts.builder()
+			.subject(user.getTsid())
+			.claim(CLAIM_STATUS, user.getStatus().name())
+			.claim(CLAIM_ROLES, user.getAuthorities())
+			.issuedAt(Date.from(now))
+			.expiration(Date.from(expiryDate))
+			.signWith(key)
+			.compact();
+	}
+
 	/**
 	 * 리프레시 토큰 생성 (JTI 포함)
 	 * JTI를 통해 멀티 디바이스 지원
 	 */
 	public String createRefreshToken(String tsid) {
+		return createRefreshToken(tsid, UUID.randomUUID().toString());
+	}
+
+	/**
+	 * 지정한 JTI로 리프레시 토큰 생성 (새 토큰 패밀리 시작)
+	 * 호출자가 JTI를 이미 알고 있으므로 생성 직후 토큰을 다시 파싱할 필요가 없음
+	 */
+	public String createRefreshToken(String tsid, String jti) {
+		return createRefreshToken(tsid, jti, jti);
+	}
+
+	/**
+	 * 지정한 JTI와 패밀리 ID로 리프레시 토큰 생성
+	 * 패밀리 ID는 로그인 시 정해지고 토큰 교체(rotation) 후에도 유지되어, 재사용 감지 시 패밀리 전체를 취소하는 데 사용
+	 */
+	public String createRefreshToken(String tsid, String jti, String familyId) {
 		Instant now = Instant.now();
 		Instant expiryDate = now.plusSeconds(refreshTokenValidityInSeconds);
-		String jti = UUID.randomUUID().toString();
 
 		return Jwts.builder()
 			.subject(tsid)
 			.id(jti)  // JTI 추가
+			.claim(CLAIM_FAMILY_ID, familyId)
 			.issuedAt(Date.from(now))
 			.expiration(Date.from(expiryDate))
 			.signWith(key)
 			.compact();
 	}
 
+	/**
+	 * 액세스 토큰 검증 (한 번의 파싱으로 검증 + 클레임 추출)
+	 * 예외를 던지지 않고 검증 결과를 반환하므로 호출자가 실패 처리 방식을 선택
+	 *
+	 * @param token 검증할 액세스 토큰
+	 * @return 검증 결과
+	 */
+	public VerifiedToken verifyAccessToken(String token) {
+		if (verifiedTokenCache == null || token == null) {
+			return verify(token, TokenType.ACCESS);
+		}
+
+		// 1. 캐시 조회 (원본 토큰까지 일치해야 적중)
+		long hash = hash(token);
+		CachedToken cached = verifiedTokenCache.getIfPresent(hash);
+		if (cached != null && cached.token().equals(token)) {
+			return cached.verifiedToken();
+		}
+
+		// 2. 서명 검증 후 성공한 경우에만 저장
+		VerifiedToken verifiedToken = verify(token, TokenType.ACCESS);
+		if (verifiedToken.isValid()) {
+			verifiedTokenCache.put(hash, new CachedToken(token, verifiedToken));
+		}
+		return verifiedToken;
+	}
+
+	/**
+	 * 리프레시 토큰 검증 (한 번의 파싱으로 검증 + 클레임 추출)
+	 *
+	 * @param token 검증할 리프레시 토큰
+	 * @return 검증 결과
+	 */
+	public VerifiedToken verifyRefreshToken(String token) {
+		return verify(token, TokenType.REFRESH);
+	}
+
 	/**
 	 * 토큰에서 TSID 추출
 	 */
@@ -87,33 +214,55 @@ public class JwtTokenProvider {
 		return claims.getSubject();
 	}
 
-	/**
-	 * 토큰에서 JTI 추출 (리프레시 토큰의 고유 ID)
-	 */
-	public String getJtiFromToken(String token) {
-		Claims claims = getAllClaimsFromToken(token);
-		return claims.getId();
+	public boolean isClaimsAuthenticationEnabled() {
+		return claimsAuthenticationEnabled;
 	}
 
 	/**
-	 * 토큰에서 만료 시간 추출
+	 * 검증된 액세스 토큰 캐시 통계 (적중/미스/제거 횟수)
+	 *
+	 * @return 캐시 통계 (캐시 비활성화 시 empty)
 	 */
-	public Instant getExpirationFromToken(String token) {
-		Claims claims = getAllClaimsFromToken(token);
-		return claims.getExpiration().toInstant();
+	public Optional<CacheStats> getVerifiedTokenCacheStats() {
+		return Optional.ofNullable(verifiedTokenCache).map(Cache::stats);
 	}
 
 	/**
 	 * 토큰에서 모든 Claims 추출
 	 */
 	private Claims getAllClaimsFromToken(String token) {
-		return Jwts.parser()
-			.verifyWith(key)
-			.build()
-			.parseSignedClaims(token)
+		return parser.parseSignedClaims(token)
 			.getPayload();
 	}
 
+	/**
+	 * 리프레시 토큰 패밀리 ID 추출
+	 * 패밀리 ID 도입 이전에 발급된 리프레시 토큰은 JTI를 패밀리 ID로 사용
+	 */
+	private String getFamilyId(Claims claims) {
+		String familyId = claims.get(CLAIM_FAMILY_ID, String.class);
+		return familyId != null ? familyId : claims.getId();
+	}
+
+	/**
+	 * 클레임의 상태/권한으로 인증 사용자 정보 구성
+	 *
+	 * @return 인증 사용자 정보 (클레임이 없으면 null)
+	 */
+	private AuthenticatedUser toClaimsUser(Claims claims) {
+		String status = claims.get(CLAIM_STATUS, String.class);
+		Object roles = claims.get(CLAIM_ROLES);
+
+		if (status == null || !(roles instanceof List<?> roleList)) {
+			return null;
+		}
+
+		List<String> authorities = roleList.stream()
+			.map(String::valueOf)
+			.toList();
+		return AuthenticatedUser.fromClaims(claims.getSubject(), UserStatus.valueOf(status), authorities);
+	}
+
 	/**
 	 * 액세스 토큰 유효성 검증 (상세 예외 발생)
 	 * 클라이언트가 적절한 에러 처리를 할 수 있도록 구체적인 ErrorCode 제공
@@ -122,21 +271,7 @@ public class JwtTokenProvider {
 	 * @throws BusinessException 토큰이 유효하지 않은 경우
 	 */
 	public void validateAccessToken(String token) {
-		try {
-			Jwts.parser()
-				.verifyWith(key)
-				.build()
-				.parseSignedClaims(token);
-		} catch (ExpiredJwtException e) {
-			log.debug("액세스 토큰 만료: {}", e.getMessage());
-			throw new BusinessException(ErrorCode.ACCESS_TOKEN_EXPIRED, e);
-		} catch (SecurityException | MalformedJwtException e) {
-			log.error("액세스 토큰 서명 또는 형식 오류: {}", e.getMessage());
-			throw new BusinessException(ErrorCode.ACCESS_TOKEN_MALFORMED, e);
-		} catch (UnsupportedJwtException | IllegalArgumentException e) {
-			log.error("액세스 토큰 오류: {}", e.getMessage());
-			throw new BusinessException(ErrorCode.ACCESS_TOKEN_MALFORMED, e);
-		}
+		verifyAccessToken(token).orElseThrow();
 	}
 
 	/**
@@ -147,20 +282,71 @@ public class JwtTokenProvider {
 	 * @throws BusinessException 토큰이 유효하지 않은 경우
 	 */
 	public void validateRefreshToken(String token) {
+		verifyRefreshToken(token).orElseThrow();
+	}
+
+	/**
+	 * 토큰 파싱 및 서명 검증
+	 * 실패 원인은 토큰 종류에 맞는 ErrorCode로 변환
+	 */
+	private VerifiedToken verify(String token, TokenType tokenType) {
 		try {
-			Jwts.parser()
-				.verifyWith(key)
-				.build()
-				.parseSignedClaims(token);
+			Claims claims = getAllClaimsFromToken(token);
+			return VerifiedToken.valid(
+				claims.getSubject(),
+				claims.getId(),
+				getFamilyId(claims),
+				claims.getExpiration().toInstant(),
+				toClaimsUser(claims)
+			);
 		} catch (ExpiredJwtException e) {
-			log.debug("리프레시 토큰 만료: {}", e.getMessage());
-			throw new BusinessException(ErrorCode.REFRESH_TOKEN_EXPIRED, e);
+			log.debug("{} 만료: {}", tokenType.getDescription(), e.getMessage());
+			return VerifiedToken.invalid(tokenType.getExpiredErrorCode());
 		} catch (SecurityException | MalformedJwtException e) {
-			log.error("리프레시 토큰 서명 또는 형식 오류: {}", e.getMessage());
-			throw new BusinessException(ErrorCode.REFRESH_TOKEN_MALFORMED, e);
+			log.error("{} 서명 또는 형식 오류: {}", tokenType.getDescription(), e.getMessage());
+			return VerifiedToken.invalid(tokenType.getMalformedErrorCode());
 		} catch (UnsupportedJwtException | IllegalArgumentException e) {
-			log.error("리프레시 토큰 오류: {}", e.getMessage());
-			throw new BusinessException(ErrorCode.REFRESH_TOKEN_MALFORMED, e);
+			log.error("{} 오류: {}", tokenType.getDescription(), e.getMessage());
+			return VerifiedToken.invalid(tokenType.getMalformedErrorCode());
+		}
+	}
+
+	/**
+	 * 토큰 문자열의 64비트 FNV-1a 해시
+	 * 충돌 여부는 캐시 값의 원본 토큰 비교로 확인하므로 암호학적 해시일 필요 없음
+	 */
+	private static long hash(String token) {
+		long hash = FNV_OFFSET_BASIS;
+		for (int i = 0; i < token.length(); i++) {
+			hash ^= token.charAt(i);
+			hash *= FNV_PRIME;
+		}
+		return hash;
+	}
+
+	private record CachedToken(String token, VerifiedToken verifiedToken) {
+	}
+
+	/**
+	 * 엔트리 만료 시점을 토큰의 exp로 지정
+	 * 갱신/조회 시에는 남은 시간을 그대로 유지
+	 */
+	private static class TokenExpiry implements Expiry<Long, CachedToken> {
+
+		@Override
+		public long expireAfterCreate(Long key, CachedToken value, long currentTime) {
+			Duration remaining = Duration.between(Instant.now(), value.verifiedToken().getExpiration());
+			return Math.max(remaining.toNanos(), 0L);
+		}
+
+		@Override
+		public long expireAfterUpdate(Long key, CachedToken value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(Long key, CachedToken value, long currentTime, long currentDuration) {
+			return currentDuration;
 		}
 	}
 }
@@ -1,8 +1,10 @@
 package com.gathering.auth.infra;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -12,16 +14,78 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Configuration
 public class PasswordConfig {
 
+	@Value("${auth.password-hashing.pool-size}")
+	private int poolSize;
+
+	@Value("${auth.password-hashing.queue-capacity}")
+	private int queueCapacity;
+
+	/**
+	 * 요청 처리 스레드 수 (해싱 대기 스레드 수의 상한 계산용)
+	 */
+	@Value("${server.tomcat.threads.max:200}")
+	private int requestThreads;
+
+	@Value("${auth.password-hashing.retry-after-seconds}")
+	private long retryAfterSeconds;
+
+	/**
+	 * BCrypt 비용 (0이면 시작 시 측정하여 결정)
+	 */
+	@Value("${auth.password-hashing.bcrypt.strength}")
+	private int strength;
+
+	@Value("${auth.password-hashing.bcrypt.target-millis}")
+	private long targetMillis;
+
+	@Value("${auth.password-hashing.bcrypt.min-strength}")
+	private int minStrength;
+
+	@Value("${auth.password-hashing.bcrypt.max-strength}")
+	private int maxStrength;
+
 	/**
 	 * PasswordEncoder 빈 등록
 	 * 비밀번호 암호화 및 검증에 사용
+	 * 해싱은 요청 스레드가 아닌 전용 스레드 풀(CPU 코어 수)에서 실행하며, 대기열 초과 시 503 응답
+	 * 해싱을 기다리는 요청 스레드 수(풀 크기 + 대기열 크기)는 전체 요청 스레드 수보다 작아야 하며, 아니면 시작 실패
+	 * 저장된 해시의 알고리즘이 다르거나 비용이 현재 비용보다 낮으면 upgradeEncoding이 true를 반환하여 로그인 시 재해싱 대상이 됨
 	 */
 	@Bean
 	public PasswordEncoder passwordEncoder() {
 		String idForEncode = "bcrypt"; // 신규 가입/변경 시 사용할 기본 알고리즘
 		Map<String, PasswordEncoder> encoders = new HashMap<>();
-		encoders.put("bcrypt", new BCryptPasswordEncoder());
+		encoders.put("bcrypt", new BCryptPasswordEncoder(resolveStrength()));
+
+		int hashingThreads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+		int hashingQueueCapacity = resolveQueueCapacity(hashingThreads);
+		if (hashingThreads + hashingQueueCapacity >= requestThreads) {
+			throw new IllegalStateException(String.format(
+				"비밀번호 해싱 풀 크기(%d) + 대기열 크기(%d)가 요청 스레드 수(server.tomcat.threads.max=%d) 이상입니다",
+				hashingThreads, hashingQueueCapacity, requestThreads));
+		}
+		return new BoundedPasswordEncoder(
+			new DelegatingPasswordEncoder(idForEncode, encoders),
+			hashingThreads,
+			hashingQueueCapacity,
+			retryAfterSeconds
+		);
+	}
+
+	/**
+	 * 대기열 크기 (0이면 요청 스레드의 1/4 중 해싱 스레드를 뺀 나머지, 최소 1)
+	 */
+	private int resolveQueueCapacity(int hashingThreads) {
+		if (queueCapacity > 0) {
+			return queueCapacity;
+		}
+		return Math.max(requestThreads / 4 - hashingThreads, 1);
+	}
 
-		return new DelegatingPasswordEncoder(idForEncode, encoders);
+	private int resolveStrength() {
+		if (strength > 0) {
+			return strength;
+		}
+		return BCryptStrengthCalibrator.calibrate(Duration.ofMillis(targetMillis), minStrength, maxStrength);
 	}
 }
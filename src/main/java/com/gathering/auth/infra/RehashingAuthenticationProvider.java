@@ -0,0 +1,40 @@
+package com.gathering.auth.infra;
+
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.gathering.auth.application.PasswordRehashService;
+
+/**
+ * 로그인 성공 시 오래된 비밀번호 해시를 비동기 재해싱 대기열에 넣는 DaoAuthenticationProvider
+ * 기본 UserDetailsPasswordService 방식은 응답 전에 동기로 재해싱하므로 대신 PasswordRehashService로 위임
+ * AuthenticationProvider 빈이 하나면 AuthenticationConfiguration이 기본 DaoAuthenticationProvider 대신 이 빈을 사용
+ */
+@Component
+public class RehashingAuthenticationProvider extends DaoAuthenticationProvider {
+
+	private final PasswordRehashService passwordRehashService;
+
+	public RehashingAuthenticationProvider(PasswordEncoder passwordEncoder,
+		CustomUserDetailsService userDetailsService, PasswordRehashService passwordRehashService) {
+		super(passwordEncoder);
+		setUserDetailsService(userDetailsService);
+		this.passwordRehashService = passwordRehashService;
+	}
+
+	@Override
+	protected Authentication createSuccessAuthentication(Object principal, Authentication authentication,
+		UserDetails user) {
+		if (authentication.getCredentials() != null && getPasswordEncoder().upgradeEncoding(user.getPassword())) {
+			passwordRehashService.requestRehash(
+				user.getUsername(),
+				authentication.getCredentials().toString(),
+				user.getPassword()
+			);
+		}
+		return super.createSuccessAuthentication(principal, authentication, user);
+	}
+}
@@ -2,6 +2,7 @@ package com.gathering.auth.infra;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -29,6 +30,13 @@ public class SecurityConfig {
 		"/docs/**", "/redoc.html", "/my-info"
 	};
 
+	/**
+	 * 비로그인 사용자도 조회 가능한 URL (GET만 허용)
+	 */
+	private static final String[] PERMIT_ALL_GET_URLS = {
+		"/gatherings", "/gatherings/search", "/gatherings/feed", "/gatherings/trending"
+	};
+
 	private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 	private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 	private final JwtAuthenticationFilter jwtAuthenticationFilter;
@@ -53,9 +61,8 @@ public class SecurityConfig {
 	 * AuthenticationManager 빈 등록
 	 * 로그인 처리 시 인증을 담당하는 핵심 컴포넌트
 	 * AuthenticationConfiguration이 자동으로 다음을 수행합니다:
-	 * - UserDetailsService 를 구현한 빈을 찾아서 DaoAuthenticationProvider에 설정
-	 * - PasswordEncoder 빈을 찾아서 DaoAuthenticationProvider에 설정
-	 * - 구성된 DaoAuthenticationProvider를 AuthenticationManager에 등록
+	 * - AuthenticationProvider 빈(RehashingAuthenticationProvider)을 찾아서 AuthenticationManager에 등록
+	 * - RehashingAuthenticationProvider는 CustomUserDetailsService와 PasswordEncoder 빈으로 구성됨
 	 */
 	@Bean
 	public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration)
@@ -69,6 +76,7 @@ public class SecurityConfig {
 	private void configureAuthorization(HttpSecurity http) throws Exception {
 		http.authorizeHttpRequests(authorize -> authorize
 			.requestMatchers(PERMIT_ALL_URLS).permitAll()
+			.requestMatchers(HttpMethod.GET, PERMIT_ALL_GET_URLS).permitAll()
 			.anyRequest().authenticated()
 		);
 	}
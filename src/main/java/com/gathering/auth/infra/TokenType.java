@@ -0,0 +1,21 @@
+package com.gathering.auth.infra;
+
+import com.gathering.common.exception.ErrorCode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * JWT 토큰 종류
+ * 토큰 종류별로 검증 실패 시 반환할 ErrorCode를 함께 관리
+ */
+@Getter
+@AllArgsConstructor
+public enum TokenType {
+	ACCESS("액세스 토큰", ErrorCode.ACCESS_TOKEN_EXPIRED, ErrorCode.ACCESS_TOKEN_MALFORMED),
+	REFRESH("리프레시 토큰", ErrorCode.REFRESH_TOKEN_EXPIRED, ErrorCode.REFRESH_TOKEN_MALFORMED);
+
+	private final String description;
+	private final ErrorCode expiredErrorCode;
+	private final ErrorCode malformedErrorCode;
+}
@@ -0,0 +1,71 @@
+package com.gathering.auth.infra;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import com.gathering.auth.domain.AuthenticatedUser;
+import com.gathering.common.exception.BusinessException;
+import com.gathering.common.exception.ErrorCode;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서명 검증이 끝난 JWT 토큰 (불변 객체)
+ * 한 번의 파싱/서명 검증 결과를 담아 TSID, JTI, 만료 시간 조회 시 재검증하지 않도록 함
+ * 검증에 실패한 경우 errorCode만 채워짐
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VerifiedToken {
+
+	private final String subject;
+	private final String jti;
+	private final String familyId;
+	private final Instant expiration;
+	private final AuthenticatedUser claimsUser;
+	private final ErrorCode errorCode;
+
+	/**
+	 * 검증 성공 토큰 생성
+	 *
+	 * @param familyId 리프레시 토큰 패밀리 ID (액세스 토큰은 null)
+	 * @param claimsUser 클레임 인증 모드로 발급된 토큰의 사용자 정보 (없으면 null)
+	 */
+	public static VerifiedToken valid(String subject, String jti, String familyId, Instant expiration,
+		AuthenticatedUser claimsUser) {
+		return new VerifiedToken(subject, jti, familyId, expiration, claimsUser, null);
+	}
+
+	/**
+	 * 검증 실패 토큰 생성
+	 */
+	public static VerifiedToken invalid(ErrorCode errorCode) {
+		return new VerifiedToken(null, null, null, null, null, errorCode);
+	}
+
+	public boolean isValid() {
+		return errorCode == null;
+	}
+
+	/**
+	 * 클레임에 담긴 사용자 정보 (클레임 인증 모드로 발급된 토큰만 존재)
+	 */
+	public Optional<AuthenticatedUser> getClaimsUser() {
+		return Optional.ofNullable(claimsUser);
+	}
+
+	/**
+	 * 검증에 실패한 토큰이면 예외 발생
+	 *
+	 * @return 검증 성공 토큰 (자기 자신)
+	 * @throws BusinessException 토큰이 유효하지 않은 경우
+	 */
+	public VerifiedToken orElseThrow() {
+		if (!isValid()) {
+			throw new BusinessException(errorCode);
+		}
+		return this;
+	}
+}
@@ -3,11 +3,13 @@ package com.gathering.auth.presentation.controller;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.gathering.auth.application.AuthService;
+import com.gathering.auth.application.LoginThrottleService;
 import com.gathering.auth.presentation.dto.LoginRequest;
 import com.gathering.auth.presentation.dto.LoginResponse;
 import com.gathering.auth.presentation.dto.RefreshResponse;
@@ -26,22 +28,33 @@ public class AuthController {
 
 	private final AuthService authService;
 	private final AuthenticationManager authenticationManager;
+	private final LoginThrottleService loginThrottleService;
 
 	/**
 	 * 로그인 API (OAuth 2.0 스타일)
 	 * - AccessToken: 응답 본문에 포함
 	 * - RefreshToken: HTTP-only 쿠키로 설정
+	 * - 이메일/IP별 실패 횟수가 한도를 넘으면 비밀번호 검증(BCrypt) 전에 429로 거부
 	 */
 	@PostMapping("/login")
 	public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request,
-		HttpServletResponse response) {
+		HttpServletRequest httpRequest, HttpServletResponse response) {
 
-		authenticationManager.authenticate(
-			new UsernamePasswordAuthenticationToken(
-				request.getEmail(),
-				request.getPassword()
-			)
-		);
+		String clientIp = httpRequest.getRemoteAddr();
+		loginThrottleService.checkAllowed(request.getEmail(), clientIp);
+
+		try {
+			authenticationManager.authenticate(
+				new UsernamePasswordAuthenticationToken(
+					request.getEmail(),
+					request.getPassword()
+				)
+			);
+		} catch (AuthenticationException e) {
+			loginThrottleService.recordFailure(request.getEmail(), clientIp);
+			throw e;
+		}
+		loginThrottleService.recordSuccess(request.getEmail());
 
 		return ResponseEntity.ok(authService.login(request, response));
 	}
@@ -50,11 +63,11 @@ public class AuthController {
 	 * 토큰 갱신 API (OAuth 2.0 스타일)
 	 * RefreshToken을 검증하고 새로운 AccessToken 발급
 	 * - AccessToken: 응답 본문에 포함
-	 * - RefreshToken: 변경 없음 (90일 유효기간)
+	 * - RefreshToken: 새 토큰으로 교체하여 HTTP-only 쿠키로 재설정
 	 */
 	@PostMapping("/refresh")
-	public ResponseEntity<RefreshResponse> refresh(HttpServletRequest request) {
-		return ResponseEntity.ok(authService.refresh(request));
+	public ResponseEntity<RefreshResponse> refresh(HttpServletRequest request, HttpServletResponse response) {
+		return ResponseEntity.ok(authService.refresh(request, response));
 	}
 
 	/**
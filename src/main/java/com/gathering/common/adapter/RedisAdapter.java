@@ -1,10 +1,26 @@
 package com.gathering.common.adapter;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -17,6 +33,11 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class RedisAdapter {
 
+	/**
+	 * SCAN 1회 호출당 조회 힌트 개수 및 삭제 배치 크기
+	 */
+	private static final int SCAN_BATCH_SIZE = 1000;
+
 	private final RedisTemplate<String, String> redisTemplate;
 
 	/**
@@ -29,6 +50,26 @@ public class RedisAdapter {
 		redisTemplate.opsForValue().set(key, value, duration);
 	}
 
+	/**
+	 * 값 저장 (만료 없음, 삭제할 때까지 유지)
+	 * @param key 키
+	 * @param value 값
+	 */
+	public void set(String key, String value) {
+		redisTemplate.opsForValue().set(key, value);
+	}
+
+	/**
+	 * 키가 없을 때만 값 저장 (SET NX, TTL 포함)
+	 * @param key 키
+	 * @param value 값
+	 * @param duration 만료 시간
+	 * @return 저장 여부 (이미 키가 있으면 false)
+	 */
+	public boolean setIfAbsent(String key, String value, Duration duration) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, duration));
+	}
+
 	/**
 	 * 값 조회
 	 * @param key 키
@@ -38,6 +79,64 @@ public class RedisAdapter {
 		return Optional.ofNullable(redisTemplate.opsForValue().get(key));
 	}
 
+	/**
+	 * 여러 값 저장 (TTL 포함, 파이프라인으로 1회 왕복)
+	 * @param values 키-값 목록
+	 * @param duration 만료 시간
+	 */
+	public void multiSet(Map<String, String> values, Duration duration) {
+		if (values.isEmpty()) {
+			return;
+		}
+		executePipelined(operations ->
+			values.forEach((key, value) -> operations.opsForValue().set(key, value, duration)));
+	}
+
+	/**
+	 * 여러 값 저장 (만료 없음, MSET 1회)
+	 * @param values 키-값 목록
+	 */
+	public void multiSet(Map<String, String> values) {
+		if (values.isEmpty()) {
+			return;
+		}
+		redisTemplate.opsForValue().multiSet(values);
+	}
+
+	/**
+	 * 여러 값 조회 (MGET 1회)
+	 * @param keys 키 목록
+	 * @return 존재하는 키의 키-값 Map (없는 키는 포함하지 않음)
+	 */
+	public Map<String, String> multiGet(List<String> keys) {
+		if (keys.isEmpty()) {
+			return Map.of();
+		}
+		List<String> values = redisTemplate.opsForValue().multiGet(keys);
+		if (values == null) {
+			return Map.of();
+		}
+
+		Map<String, String> result = new HashMap<>(keys.size());
+		for (int i = 0; i < keys.size(); i++) {
+			String value = values.get(i);
+			if (value != null) {
+				result.put(keys.get(i), value);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 값 조회 후 삭제 (GETDEL, 원자적)
+	 * 일회성 값을 한 번의 왕복으로 소비할 때 사용하며, 동시에 요청해도 하나의 요청만 값을 얻음
+	 * @param key 키
+	 * @return Optional로 감싼 값
+	 */
+	public Optional<String> getAndDelete(String key) {
+		return Optional.ofNullable(redisTemplate.opsForValue().getAndDelete(key));
+	}
+
 	/**
 	 * 값 삭제
 	 * @param key 키
@@ -48,16 +147,219 @@ public class RedisAdapter {
 	}
 
 	/**
-	 * 패턴과 일치하는 모든 키 삭제
+	 * 여러 키 삭제 (파이프라인으로 1회 왕복)
+	 * 키마다 DEL을 보내므로 키가 서로 다른 클러스터 슬롯에 있어도 동작
+	 * @param keys 삭제할 키 목록
+	 * @return 삭제된 키 개수
+	 */
+	public long delete(Collection<String> keys) {
+		if (keys.isEmpty()) {
+			return 0;
+		}
+		List<Object> results = executePipelined(operations -> keys.forEach(operations::delete));
+		return results.stream()
+			.filter(Boolean.TRUE::equals)
+			.count();
+	}
+
+	/**
+	 * Set에 멤버 추가 후 Set 전체 만료 시간 갱신 (파이프라인으로 1회 왕복)
+	 * @param key Set 키
+	 * @param member 추가할 멤버
+	 * @param duration 만료 시간
+	 */
+	public void addToSet(String key, String member, Duration duration) {
+		executePipelined(operations -> {
+			operations.opsForSet().add(key, member);
+			operations.expire(key, duration);
+		});
+	}
+
+	/**
+	 * Set에서 멤버 제거
+	 * @param key Set 키
+	 * @param member 제거할 멤버
+	 */
+	public void removeFromSet(String key, String member) {
+		redisTemplate.opsForSet().remove(key, member);
+	}
+
+	/**
+	 * Set의 모든 멤버 조회
+	 * @param key Set 키
+	 * @return 멤버 목록 (키가 없으면 빈 Set)
+	 */
+	public Set<String> getSetMembers(String key) {
+		Set<String> members = redisTemplate.opsForSet().members(key);
+		return members != null ? members : Set.of();
+	}
+
+	/**
+	 * 여러 Sorted Set에 같은 멤버를 추가하고 점수 상위 maxSize개만 남김 (파이프라인으로 1회 왕복)
+	 * @param keys Sorted Set 키 목록
+	 * @param member 추가할 멤버 (이미 있으면 점수만 갱신)
+	 * @param score 점수
+	 * @param maxSize Sorted Set별 최대 멤버 수
+	 */
+	public void addToSortedSets(Collection<String> keys, String member, double score, long maxSize) {
+		if (keys.isEmpty()) {
+			return;
+		}
+		executePipelined(operations -> keys.forEach(key -> {
+			operations.opsForZSet().add(key, member, score);
+			operations.opsForZSet().removeRange(key, 0, -maxSize - 1);
+		}));
+	}
+
+	/**
+	 * 여러 Sorted Set에 각각 여러 멤버를 추가하고 점수 상위 maxSize개만 남김 (파이프라인으로 1회 왕복)
+	 * @param scoresByKey Sorted Set 키별 멤버-점수 목록
+	 * @param maxSize Sorted Set별 최대 멤버 수
+	 */
+	public void addAllToSortedSets(Map<String, Map<String, Double>> scoresByKey, long maxSize) {
+		if (scoresByKey.isEmpty()) {
+			return;
+		}
+		executePipelined(operations -> scoresByKey.forEach((key, scores) -> {
+			Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+			scores.forEach((member, score) -> tuples.add(ZSetOperations.TypedTuple.of(member, score)));
+			operations.opsForZSet().add(key, tuples);
+			operations.opsForZSet().removeRange(key, 0, -maxSize - 1);
+		}));
+	}
+
+	/**
+	 * Sorted Set에서 여러 멤버 제거 (ZREM 1회)
+	 * @param key Sorted Set 키
+	 * @param members 제거할 멤버 목록
+	 */
+	public void removeFromSortedSet(String key, Collection<String> members) {
+		if (members.isEmpty()) {
+			return;
+		}
+		redisTemplate.opsForZSet().remove(key, members.toArray());
+	}
+
+	/**
+	 * 여러 Sorted Set에서 같은 멤버 제거 (파이프라인으로 1회 왕복)
+	 * @param keys Sorted Set 키 목록
+	 * @param member 제거할 멤버
+	 */
+	public void removeFromSortedSets(Collection<String> keys, String member) {
+		if (keys.isEmpty()) {
+			return;
+		}
+		executePipelined(operations -> keys.forEach(key -> operations.opsForZSet().remove(key, member)));
+	}
+
+	/**
+	 * Sorted Set을 점수 역순으로 순위 범위 조회 (ZREVRANGE)
+	 * @param key Sorted Set 키
+	 * @param start 시작 순위 (0부터)
+	 * @param end 끝 순위 (포함)
+	 * @return 멤버 목록 (점수 높은 순, 키가 없으면 빈 목록)
+	 */
+	public List<String> getSortedSetReverseRange(String key, long start, long end) {
+		Set<String> members = redisTemplate.opsForZSet().reverseRange(key, start, end);
+		return members != null ? new ArrayList<>(members) : List.of();
+	}
+
+	/**
+	 * Sorted Set을 점수 역순으로 점수 범위 조회 (ZREVRANGEBYSCORE ... LIMIT)
+	 * @param key Sorted Set 키
+	 * @param min 최소 점수 (포함)
+	 * @param max 최대 점수 (포함)
+	 * @param offset 건너뛸 개수
+	 * @param count 최대 조회 개수
+	 * @return 멤버 목록 (점수 높은 순, 키가 없으면 빈 목록)
+	 */
+	public List<String> getSortedSetReverseRangeByScore(String key, double min, double max, long offset, long count) {
+		Set<String> members = redisTemplate.opsForZSet().reverseRangeByScore(key, min, max, offset, count);
+		return members != null ? new ArrayList<>(members) : List.of();
+	}
+
+	/**
+	 * 패턴과 일치하는 모든 키 삭제 (SCAN 기반)
+	 * KEYS는 전체 키를 한 번에 순회하며 Redis를 블로킹하므로 SCAN으로 나누어 조회하고 배치 단위로 삭제
+	 * 키 인덱스가 없는 레거시 데이터 정리용이며, 일반 경로에서는 인덱스 기반 삭제를 사용할 것
 	 * @param pattern 키 패턴 (예: "refresh_token:123456:*")
 	 * @return 삭제된 키 개수
 	 */
 	public long deleteByPattern(String pattern) {
-		Set<String> keys = redisTemplate.keys(pattern);
-		if (keys == null || keys.isEmpty()) {
-			return 0;
+		ScanOptions options = ScanOptions.scanOptions()
+			.match(pattern)
+			.count(SCAN_BATCH_SIZE)
+			.build();
+
+		long deletedCount = 0;
+		List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			while (cursor.hasNext()) {
+				batch.add(cursor.next());
+				if (batch.size() >= SCAN_BATCH_SIZE) {
+					deletedCount += delete(batch);
+					batch.clear();
+				}
+			}
 		}
-		Long deletedCount = redisTemplate.delete(keys);
-		return deletedCount != null ? deletedCount : 0;
+		return deletedCount + delete(batch);
+	}
+
+	/**
+	 * Lua 스크립트 실행 (EVALSHA, 스크립트 캐시에 없으면 EVAL로 재시도)
+	 * 여러 명령을 서버에서 원자적으로 실행하여 조회 후 변경 사이의 경쟁 조건을 없앰
+	 * @param script 실행할 스크립트
+	 * @param keys 스크립트의 KEYS
+	 * @param args 스크립트의 ARGV
+	 * @return 스크립트 실행 결과
+	 */
+	public <T> T executeScript(RedisScript<T> script, List<String> keys, Object... args) {
+		return redisTemplate.execute(script, keys, args);
+	}
+
+	/**
+	 * 키마다 Lua 스크립트 실행 (파이프라인으로 1회 왕복)
+	 * 키마다 따로 실행하므로 키가 서로 다른 클러스터 슬롯에 있어도 동작 (키 사이의 원자성은 보장하지 않음)
+	 * 파이프라인에서는 NOSCRIPT 응답 후 재시도할 수 없으므로 EVALSHA 대신 EVAL로 스크립트 본문을 함께 전송
+	 * @param script 실행할 스크립트 (KEYS[1]만 사용)
+	 * @param keys 키 목록
+	 * @param args 스크립트의 ARGV
+	 * @return 키별 실행 결과 (키 순서)
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> List<T> executeScriptForEachKey(RedisScript<T> script, Collection<String> keys, String... args) {
+		if (keys.isEmpty()) {
+			return List.of();
+		}
+		byte[] body = script.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+		ReturnType returnType = ReturnType.fromJavaType(script.getResultType());
+		return (List<T>)redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			for (String key : keys) {
+				byte[][] keysAndArgs = new byte[args.length + 1][];
+				keysAndArgs[0] = key.getBytes(StandardCharsets.UTF_8);
+				for (int i = 0; i < args.length; i++) {
+					keysAndArgs[i + 1] = args[i].getBytes(StandardCharsets.UTF_8);
+				}
+				connection.scriptingCommands().eval(body, returnType, 1, keysAndArgs);
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * 파이프라인 실행
+	 * 여러 명령을 한 번에 전송하고 응답을 모아서 받음 (원자성은 보장하지 않음)
+	 * @param commands 파이프라인에서 실행할 명령
+	 * @return 명령별 실행 결과 (실행 순서)
+	 */
+	private List<Object> executePipelined(Consumer<RedisOperations<String, String>> commands) {
+		return redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				commands.accept((RedisOperations<String, String>)operations);
+				return null;
+			}
+		});
 	}
 }
@@ -2,28 +2,31 @@ package com.gathering.common.deserializer;
 
 import java.io.IOException;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.gathering.common.utility.CryptoUtil;
+import com.gathering.common.utility.AesCipherContext;
 
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * AES로 암호화된 문자열을 복호화하는 Jackson Deserializer
+ * 키와 Cipher는 AesCipherContext에서 재사용 (v1 GCM, 설정에 따라 레거시 ECB 허용)
  */
 @Slf4j
 @Component
 public class AesEncryptedDeserializer extends JsonDeserializer<String> {
 
-	private static String aesKey;
+	private static volatile AesCipherContext cipherContext;
 
-	@Value("${crypto.aes.key}")
-	public void setAesKey(String key) {
-		AesEncryptedDeserializer.aesKey = key;
+	@Autowired
+	public void setAesKey(@Value("${crypto.aes.key}") String key,
+		@Value("${crypto.aes.legacy-ecb-enabled}") boolean legacyEcbEnabled) {
+		AesEncryptedDeserializer.cipherContext = new AesCipherContext(key, legacyEcbEnabled);
 	}
 
 	@Override
@@ -35,7 +38,7 @@ public class AesEncryptedDeserializer extends JsonDeserializer<String> {
 		}
 
 		try {
-			String decrypted = CryptoUtil.decryptAES(encryptedValue, aesKey);
+			String decrypted = cipherContext.decrypt(encryptedValue);
 			log.debug("AES 암호화된 데이터 복호화 성공");
 			return decrypted;
 		} catch (Exception e) {
@@ -22,6 +22,7 @@ public enum ErrorCode {
 	ACCESS_TOKEN_MISSING(HttpStatus.UNAUTHORIZED, "액세스 토큰이 필요합니다"),
 	ACCESS_TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "액세스 토큰이 만료되었습니다. 토큰을 갱신해주세요"),
 	ACCESS_TOKEN_MALFORMED(HttpStatus.UNAUTHORIZED, "액세스 토큰 형식이 올바르지 않습니다"),
+	ACCESS_TOKEN_REVOKED(HttpStatus.UNAUTHORIZED, "액세스 토큰이 취소되었습니다. 다시 로그인해주세요"),
 
 	// Refresh Token Errors
 	REFRESH_TOKEN_MISSING(HttpStatus.UNAUTHORIZED, "리프레시 토큰이 필요합니다"),
@@ -29,10 +30,25 @@ public enum ErrorCode {
 	REFRESH_TOKEN_MALFORMED(HttpStatus.UNAUTHORIZED, "리프레시 토큰 형식이 올바르지 않습니다"),
 	REFRESH_TOKEN_REVOKED(HttpStatus.UNAUTHORIZED, "리프레시 토큰이 취소되었습니다. 다시 로그인해주세요"),
 
+	// 요청 제한 에러 (429 Too Many Requests)
+	LOGIN_THROTTLED(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요"),
+
+	// 과부하 에러 (503 Service Unavailable)
+	PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"),
+	SEAT_RESERVATION_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "모임 참여를 처리할 수 없습니다. 잠시 후 다시 시도해주세요"),
+	REVOCATION_CHECK_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "인증을 처리할 수 없습니다. 잠시 후 다시 시도해주세요"),
+
 	// 사용자 관련 에러 (404 Not Found)
 	USER_NOT_FOUND(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."),
 	USER_DELETED(HttpStatus.NOT_FOUND, "삭제된 사용자입니다."),
 
+	// 모임 관련 에러
+	GATHERING_NOT_FOUND(HttpStatus.NOT_FOUND, "모임을 찾을 수 없습니다."),
+	GATHERING_NOT_JOINED(HttpStatus.NOT_FOUND, "참여하지 않은 모임입니다."),
+	GATHERING_ALREADY_JOINED(HttpStatus.CONFLICT, "이미 참여한 모임입니다."),
+	GATHERING_FULL(HttpStatus.CONFLICT, "모임 정원이 가득 찼습니다."),
+	GATHERING_OWNER_CANNOT_LEAVE(HttpStatus.BAD_REQUEST, "모임장은 모임을 나갈 수 없습니다."),
+
 	// 유효성 검증 에러 (400 Bad Request)
 	INVALID_EMAIL_FORMAT(HttpStatus.BAD_REQUEST, "올바른 형식의 이메일이 아닙니다."),
 	INVALID_PHONE_NUMBER_FORMAT(HttpStatus.BAD_REQUEST, "올바른 형식의 전화번호가 아닙니다."),
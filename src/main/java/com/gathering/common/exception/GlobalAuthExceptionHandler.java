@@ -1,5 +1,6 @@
 package com.gathering.common.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -29,6 +30,19 @@ public class GlobalAuthExceptionHandler {
 		return ErrorCode.INVALID_CREDENTIALS.toResponseEntity();
 	}
 
+	/**
+	 * 일시적 과부하 예외 처리
+	 * 503 응답에 Retry-After 헤더를 포함
+	 */
+	@ExceptionHandler(RetryableException.class)
+	public ResponseEntity<ErrorResponse> handleRetryableException(RetryableException e) {
+		log.warn("과부하로 요청 거부: {} - retryAfter={}s", e.getErrorCode().name(), e.getRetryAfterSeconds());
+		return ResponseEntity
+			.status(e.getErrorCode().getHttpStatus())
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+			.body(ErrorResponse.from(e.getErrorCode()));
+	}
+
 	/**
 	 * 비즈니스 로직 예외 처리
 	 * - 토큰 관련 에러 (ACCESS_TOKEN_EXPIRED, REFRESH_TOKEN_EXPIRED 등)
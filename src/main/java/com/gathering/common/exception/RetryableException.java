@@ -0,0 +1,18 @@
+package com.gathering.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 일시적인 과부하로 처리하지 못한 요청 예외
+ * 응답에 Retry-After 헤더를 포함하여 클라이언트가 재시도 시점을 알 수 있도록 함
+ */
+@Getter
+public class RetryableException extends BusinessException {
+
+	private final long retryAfterSeconds;
+
+	public RetryableException(ErrorCode errorCode, long retryAfterSeconds) {
+		super(errorCode);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+}
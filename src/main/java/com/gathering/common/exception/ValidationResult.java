@@ -0,0 +1,62 @@
+package com.gathering.common.exception;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 여러 필드의 검증 결과를 한 번에 모으는 객체
+ * 첫 번째 오류에서 예외를 던지지 않고 모든 필드를 검사한 뒤, 호출자가 처리 방식을 선택
+ * (예외 응답은 기존과 같이 첫 번째 오류 코드를 사용)
+ */
+public final class ValidationResult {
+
+	private final List<FieldError> errors = new ArrayList<>(2);
+
+	/**
+	 * 필드 오류
+	 *
+	 * @param field 필드 이름
+	 * @param errorCode 오류 코드
+	 */
+	public record FieldError(String field, ErrorCode errorCode) {
+	}
+
+	public static ValidationResult create() {
+		return new ValidationResult();
+	}
+
+	/**
+	 * 조건을 만족하지 않으면 필드 오류 추가
+	 *
+	 * @param valid 검증 통과 여부
+	 * @param field 필드 이름
+	 * @param errorCode 실패 시 오류 코드
+	 * @return 자기 자신 (연쇄 호출용)
+	 */
+	public ValidationResult check(boolean valid, String field, ErrorCode errorCode) {
+		if (!valid) {
+			errors.add(new FieldError(field, errorCode));
+		}
+		return this;
+	}
+
+	public boolean isValid() {
+		return errors.isEmpty();
+	}
+
+	public List<FieldError> getErrors() {
+		return Collections.unmodifiableList(errors);
+	}
+
+	/**
+	 * 오류가 있으면 첫 번째 오류 코드로 예외 발생
+	 *
+	 * @throws BusinessException 검증에 실패한 필드가 있는 경우
+	 */
+	public void throwIfInvalid() {
+		if (!errors.isEmpty()) {
+			throw new BusinessException(errors.get(0).errorCode());
+		}
+	}
+}
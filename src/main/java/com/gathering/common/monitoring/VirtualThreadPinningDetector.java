@@ -0,0 +1,130 @@
+package com.gathering.common.monitoring;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 고정(pinning) 감지기
+ * JFR jdk.VirtualThreadPinned 이벤트를 구독하여 가상 스레드가 캐리어 스레드를 점유한 채 대기한 위치를 보고
+ * - Java 21에서는 synchronized 블록/메서드 안에서의 블로킹과 네이티브 프레임을 거친 블로킹이 캐리어를 고정함
+ * - 스택에서 애플리케이션 코드(com.gathering)의 첫 프레임을 발생 위치로 묶어 위치별 횟수를 집계
+ * - 위치별 첫 발생은 스택과 함께 WARN, 이후는 주기적으로 요약만 출력
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "monitoring.pinning-detector.enabled", havingValue = "true")
+public class VirtualThreadPinningDetector {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final String APPLICATION_PACKAGE = "com.gathering.";
+	private static final String NATIVE_FRAME_TYPE = "Native";
+
+	/**
+	 * 이 시간 이상 고정된 경우만 기록 (JFR 기본값 20ms)
+	 */
+	@Value("${monitoring.pinning-detector.threshold-millis}")
+	private long thresholdMillis;
+
+	/**
+	 * 첫 발생 로그에 출력할 최대 스택 프레임 수
+	 */
+	@Value("${monitoring.pinning-detector.max-stack-depth}")
+	private int maxStackDepth;
+
+	private final Map<String, LongAdder> pinnedCountBySite = new ConcurrentHashMap<>();
+	private RecordingStream recordingStream;
+
+	@PostConstruct
+	public void init() {
+		recordingStream = new RecordingStream();
+		recordingStream.enable(PINNED_EVENT)
+			.withThreshold(Duration.ofMillis(thresholdMillis))
+			.withStackTrace();
+		recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+		recordingStream.startAsync();
+		log.info("가상 스레드 고정 감지 시작: threshold={}ms", thresholdMillis);
+	}
+
+	@PreDestroy
+	public void close() {
+		recordingStream.close();
+	}
+
+	/**
+	 * 위치별 고정 발생 횟수 (모니터링용)
+	 */
+	public Map<String, Long> getPinnedCounts() {
+		return pinnedCountBySite.entrySet().stream()
+			.collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+	}
+
+	/**
+	 * 위치별 고정 발생 횟수 요약 출력
+	 */
+	@Scheduled(fixedDelayString = "${monitoring.pinning-detector.report-interval-millis}")
+	public void report() {
+		if (!pinnedCountBySite.isEmpty()) {
+			log.warn("가상 스레드 고정 누적 현황: {}", getPinnedCounts());
+		}
+	}
+
+	private void onPinned(RecordedEvent event) {
+		List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+		String site = findPinnedSite(frames);
+
+		LongAdder newCount = new LongAdder();
+		LongAdder count = pinnedCountBySite.putIfAbsent(site, newCount);
+		if (count != null) {
+			count.increment();
+			return;
+		}
+
+		newCount.increment();
+		log.warn("가상 스레드 고정 감지: site={}, duration={}ms, thread={}\n{}",
+			site,
+			event.getDuration().toMillis(),
+			event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+			formatStack(frames));
+	}
+
+	/**
+	 * 고정 발생 위치 결정 (애플리케이션 첫 프레임, 없으면 최상위 프레임)
+	 */
+	private String findPinnedSite(List<RecordedFrame> frames) {
+		return frames.stream()
+			.filter(frame -> frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+			.findFirst()
+			.or(() -> frames.stream().findFirst())
+			.map(this::formatFrame)
+			.orElse("unknown");
+	}
+
+	private String formatStack(List<RecordedFrame> frames) {
+		return frames.stream()
+			.limit(maxStackDepth)
+			.map(frame -> "\tat " + formatFrame(frame))
+			.collect(Collectors.joining("\n"));
+	}
+
+	private String formatFrame(RecordedFrame frame) {
+		String location = frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+			+ ":" + frame.getLineNumber();
+		return NATIVE_FRAME_TYPE.equals(frame.getType()) ? location + " (native)" : location;
+	}
+}
@@ -0,0 +1,147 @@
+package com.gathering.common.utility;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * AES 암복호화 컨텍스트
+ * 키는 생성 시 한 번만 만들고, Cipher는 풀에서 빌려 쓰고 반납하여 호출마다 Cipher.getInstance를 하지 않음
+ * (가상 스레드는 요청마다 새로 만들어지므로 ThreadLocal로는 재사용되지 않음, 풀 크기는 최대 동시 호출 수를 넘지 않음)
+ *
+ * 페이로드 형식
+ * - v1 (AES-GCM): "v1:" + Base64(IV 12바이트 + 암호문 + 인증 태그 16바이트)
+ * - 레거시 (AES-ECB): Base64(암호문), 버전 접두사 없음 (Base64 문자에는 ':'가 없으므로 구분 가능)
+ *
+ * 암호화는 항상 v1 형식으로 하며, 레거시 ECB 복호화는 crypto.aes.legacy-ecb-enabled가 켜진 동안만 허용
+ */
+public final class AesCipherContext {
+
+	public static final String GCM_ALGORITHM = "AES/GCM/NoPadding";
+	public static final String V1_PREFIX = "v1:";
+
+	private static final int GCM_IV_LENGTH = 12;
+	private static final int GCM_TAG_BITS = 128;
+
+	private final SecretKeySpec secretKey;
+	private final boolean legacyEcbEnabled;
+	private final SecureRandom secureRandom = new SecureRandom();
+
+	/**
+	 * ECB 복호화용 Cipher (초기화 후 doFinal마다 재설정되므로 init 1회로 재사용)
+	 */
+	private final Queue<Cipher> legacyDecryptCiphers = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * GCM용 Cipher (IV가 매번 달라 호출마다 init 필요, 인스턴스만 재사용)
+	 */
+	private final Queue<Cipher> gcmCiphers = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * @param key AES 키
+	 * @param legacyEcbEnabled 버전 접두사가 없는 레거시 ECB 암호문 복호화 허용 여부
+	 */
+	public AesCipherContext(String key, boolean legacyEcbEnabled) {
+		this.secretKey = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "AES");
+		this.legacyEcbEnabled = legacyEcbEnabled;
+	}
+
+	/**
+	 * AES-GCM 암호화 (v1 형식)
+	 * @param data 평문
+	 * @return "v1:" 접두사가 붙은 Base64 문자열
+	 */
+	public String encrypt(String data) throws GeneralSecurityException {
+		byte[] iv = new byte[GCM_IV_LENGTH];
+		secureRandom.nextBytes(iv);
+
+		Cipher cipher = borrowGcmCipher();
+		cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_BITS, iv));
+		byte[] encrypted = cipher.doFinal(data.getBytes(StandardCharsets.UTF_8));
+		gcmCiphers.offer(cipher);
+
+		byte[] payload = ByteBuffer.allocate(iv.length + encrypted.length)
+			.put(iv)
+			.put(encrypted)
+			.array();
+		return V1_PREFIX + Base64.getEncoder().encodeToString(payload);
+	}
+
+	/**
+	 * 복호화 (v1 GCM 또는 레거시 ECB)
+	 * GCM은 인증 태그를 검증하므로 변조된 암호문은 AEADBadTagException으로 실패
+	 * 레거시 ECB를 허용하지 않으면 버전 접두사가 없는 암호문은 GeneralSecurityException으로 실패
+	 * @param encrypted 암호문
+	 * @return 평문
+	 */
+	public String decrypt(String encrypted) throws GeneralSecurityException {
+		if (encrypted.startsWith(V1_PREFIX)) {
+			return decryptGcm(Base64.getDecoder().decode(encrypted.substring(V1_PREFIX.length())));
+		}
+		if (!legacyEcbEnabled) {
+			throw new GeneralSecurityException("레거시 ECB 암호문은 허용하지 않습니다");
+		}
+
+		Cipher cipher = borrowLegacyDecryptCipher();
+		byte[] decrypted = cipher.doFinal(Base64.getDecoder().decode(encrypted));
+		legacyDecryptCiphers.offer(cipher);
+		return new String(decrypted, StandardCharsets.UTF_8);
+	}
+
+	private String decryptGcm(byte[] payload) throws GeneralSecurityException {
+		if (payload.length < GCM_IV_LENGTH + GCM_TAG_BITS / Byte.SIZE) {
+			throw new GeneralSecurityException("GCM 페이로드 길이가 올바르지 않습니다");
+		}
+
+		Cipher cipher = borrowGcmCipher();
+		cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_BITS, payload, 0, GCM_IV_LENGTH));
+		byte[] decrypted = cipher.doFinal(payload, GCM_IV_LENGTH, payload.length - GCM_IV_LENGTH);
+		gcmCiphers.offer(cipher);
+		return new String(decrypted, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 풀에서 GCM Cipher를 꺼내고, 없으면 새로 생성
+	 * 실패한 호출의 Cipher는 상태를 알 수 없으므로 반납하지 않음
+	 */
+	private Cipher borrowGcmCipher() {
+		Cipher cipher = gcmCiphers.poll();
+		return cipher != null ? cipher : newCipher(GCM_ALGORITHM);
+	}
+
+	/**
+	 * 풀에서 ECB 복호화 Cipher를 꺼내고, 없으면 새로 생성 후 초기화
+	 */
+	private Cipher borrowLegacyDecryptCipher() {
+		Cipher cipher = legacyDecryptCiphers.poll();
+		if (cipher != null) {
+			return cipher;
+		}
+
+		cipher = newCipher(CryptoUtil.AES_ALGORITHM);
+		try {
+			cipher.init(Cipher.DECRYPT_MODE, secretKey);
+		} catch (GeneralSecurityException e) {
+			// 키 길이가 AES 규격(16/24/32바이트)에 맞지 않는 경우
+			throw new IllegalStateException(e);
+		}
+		return cipher;
+	}
+
+	private static Cipher newCipher(String transformation) {
+		try {
+			return Cipher.getInstance(transformation);
+		} catch (GeneralSecurityException e) {
+			// 모든 JVM 구현체는 AES/ECB/PKCS5Padding, AES/GCM/NoPadding을 지원해야 함
+			throw new IllegalStateException(e);
+		}
+	}
+}
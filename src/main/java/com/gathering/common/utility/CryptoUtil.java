@@ -1,6 +1,9 @@
 package com.gathering.common.utility;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 
 import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
@@ -11,6 +14,22 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CryptoUtil {
 	public static final String AES_ALGORITHM = "AES/ECB/PKCS5Padding";
+	public static final String SHA_256_ALGORITHM = "SHA-256";
+
+	/**
+	 * SHA-256 해시를 URL-safe Base64(패딩 없음, 43자)로 인코딩
+	 * 원문을 저장할 필요 없이 일치 여부만 확인하면 되는 값(토큰 등)의 지문으로 사용
+	 */
+	public static String sha256Base64Url(String data) {
+		try {
+			byte[] digest = MessageDigest.getInstance(SHA_256_ALGORITHM)
+				.digest(data.getBytes(StandardCharsets.UTF_8));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			// 모든 JVM 구현체는 SHA-256을 지원해야 함
+			throw new IllegalStateException(e);
+		}
+	}
 
 	public static String encryptAES(String data, String key) throws Exception {
 		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
@@ -0,0 +1,318 @@
+package com.gathering.gathering.application;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gathering.common.adapter.RedisAdapter;
+import com.gathering.gathering.domain.model.GatheringCategory;
+import com.gathering.gathering.domain.model.GatheringSummary;
+import com.gathering.gathering.domain.repository.GatheringRepository;
+import com.gathering.gathering.presentation.dto.GatheringListResponse;
+import com.gathering.gathering.presentation.dto.GatheringSummaryResponse;
+import com.gathering.region.application.RegionService;
+import com.gathering.region.domain.model.Region;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 홈 피드 서비스
+ * (지역 경로 접두사, 카테고리) 조합마다 모임 TSID를 Redis Sorted Set으로 미리 정렬해 두고,
+ * 모임 카드는 JSON으로 따로 저장하여 피드 조회를 ZREVRANGE 1회 + MGET 1회로 처리 (DB 조회 없음)
+ * - 모임 생성/수정/참여/탈퇴 시 해당 모임이 속한 모든 피드에 점수와 카드를 갱신 (fan-out)
+ * - 점수 = log10(참여자 수 + 1) + 생성 시각(초) / activity-weight-seconds
+ *   (참여자가 10배 많으면 activity-weight-seconds만큼 늦게 생성된 모임과 같은 순위, 시간이 지나도 다시 계산할 필요 없음)
+ * - 피드마다 점수 상위 max-size개만 유지, 카드는 만료 없이 모임 삭제 시까지 유지 (인기 모임도 같은 카드 사용)
+ * - 페이지는 순위(offset) 기준이므로 넘기는 사이에 순위가 바뀌면 일부 모임이 중복/누락될 수 있음 (피드 특성상 허용)
+ * - Redis 장애 시 피드 갱신은 건너뛰고, 조회는 빈 목록 반환 (fail-open)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GatheringFeedService {
+
+	private static final String FEED_PREFIX = "gathering:feed:";
+	private static final String CARD_PREFIX = "gathering:card:";
+
+	/**
+	 * 카드가 없는 모임을 피드에서 제거한 뒤 페이지를 다시 채우는 최대 횟수
+	 */
+	private static final int MAX_FILL_ROUNDS = 3;
+
+	private final RedisAdapter redisAdapter;
+	private final GatheringRepository gatheringRepository;
+	private final RegionService regionService;
+	private final ObjectMapper objectMapper;
+
+	@Value("${gathering.feed.rebuild-on-startup}")
+	private boolean rebuildOnStartup;
+
+	@Value("${gathering.feed.rebuild-batch-size}")
+	private int rebuildBatchSize;
+
+	@Value("${gathering.feed.max-size}")
+	private long maxSize;
+
+	@Value("${gathering.feed.activity-weight-seconds}")
+	private double activityWeightSeconds;
+
+	@Value("${gathering.list.default-size}")
+	private int defaultSize;
+
+	@Value("${gathering.list.max-size}")
+	private int maxPageSize;
+
+	/**
+	 * 애플리케이션 시작 완료 후 별도 스레드에서 피드 재구성 (시작을 지연시키지 않음)
+	 */
+	@Async
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildOnStartup() {
+		if (rebuildOnStartup) {
+			rebuild();
+		}
+	}
+
+	/**
+	 * DB의 전체 모임으로 피드 재구성 (배포 직후 Redis가 비어 있는 경우 등)
+	 * 기존 피드를 지우지 않고 덮어쓰므로 재구성 중에도 피드 조회 가능
+	 * 배치마다 카드 저장(MSET 1회)과 피드 갱신(파이프라인 1회)으로 Redis 왕복 2회
+	 */
+	public void rebuild() {
+		String cursor = GatheringService.FIRST_PAGE_CURSOR;
+		int publishedCount = 0;
+		try {
+			while (true) {
+				List<GatheringSummary> summaries = gatheringRepository.findSummaries(
+					cursor, Limit.of(rebuildBatchSize));
+				publishAllOrThrow(summaries);
+				publishedCount += summaries.size();
+				if (summaries.size() < rebuildBatchSize) {
+					break;
+				}
+				cursor = summaries.get(summaries.size() - 1).tsid();
+			}
+			log.info("홈 피드 재구성 완료: gatherings={}", publishedCount);
+		} catch (DataAccessException e) {
+			log.warn("홈 피드 재구성 실패: published={}, message={}", publishedCount, e.getMessage());
+		}
+	}
+
+	/**
+	 * 모임 카드 저장 및 모임이 속한 모든 피드의 점수 갱신
+	 * 커밋 이후에 호출되므로 실패해도 예외를 던지지 않음 (다음 갱신 또는 재구성 때 반영)
+	 * @param summary 모임 (참여자 수는 최신 값)
+	 */
+	public void publish(GatheringSummary summary) {
+		try {
+			publishOrThrow(summary);
+		} catch (DataAccessException e) {
+			log.warn("홈 피드 갱신 실패: gatheringTsid={}, message={}", summary.tsid(), e.getMessage());
+		}
+	}
+
+	/**
+	 * 모든 피드에서 모임 제거 및 카드 삭제
+	 * @param tsid 모임 TSID
+	 * @param regionTsid 모임 지역 TSID
+	 * @param category 모임 카테고리
+	 */
+	public void remove(String tsid, String regionTsid, GatheringCategory category) {
+		try {
+			redisAdapter.removeFromSortedSets(feedKeys(regionTsid, category), tsid);
+			redisAdapter.delete(CARD_PREFIX + tsid);
+		} catch (DataAccessException e) {
+			log.warn("홈 피드 제거 실패: gatheringTsid={}, message={}", tsid, e.getMessage());
+		}
+	}
+
+	/**
+	 * 피드 조회 (점수순, 순위 기반 페이지네이션)
+	 * 1. 피드에서 남은 크기보다 1건 더 조회하여 다음 페이지 존재 여부 판단 (ZREVRANGE)
+	 * 2. 카드를 한 번에 조회 (MGET)
+	 * 3. 카드가 없는 모임(삭제 반영 중 등)은 피드에서 제거하고 다음 순위로 페이지를 채움 (최대 MAX_FILL_ROUNDS회)
+	 *
+	 * @param regionTsid 지역 필터 (하위 지역 포함, 없으면 전체)
+	 * @param category 카테고리 필터 (없으면 전체)
+	 * @param cursor 이전 페이지의 nextCursor (다음 순위, 없으면 첫 페이지)
+	 * @param size 페이지 크기 (없으면 기본값, 최대값 초과 시 최대값)
+	 * @return 모임 목록
+	 */
+	public GatheringListResponse getFeed(String regionTsid, GatheringCategory category, String cursor,
+		Integer size) {
+		int pageSize = resolvePageSize(size);
+		String key = feedKey(regionTsid, category);
+		long position = parseOffset(cursor);
+
+		List<GatheringSummaryResponse> gatherings = new ArrayList<>(pageSize);
+		boolean hasNext = false;
+		try {
+			for (int round = 0; round < MAX_FILL_ROUNDS && gatherings.size() < pageSize; round++) {
+				int remaining = pageSize - gatherings.size();
+				List<String> tsids = redisAdapter.getSortedSetReverseRange(key, position, position + remaining);
+				hasNext = tsids.size() > remaining;
+				List<String> pageTsids = hasNext ? tsids.subList(0, remaining) : tsids;
+
+				Map<String, String> cards = findCardJson(pageTsids);
+				List<String> danglingTsids = pageTsids.stream()
+					.filter(tsid -> !cards.containsKey(CARD_PREFIX + tsid))
+					.toList();
+				gatherings.addAll(readCards(pageTsids, cards));
+				// 제거한 모임만큼 뒤 순위가 앞당겨지므로 다음 조회 위치는 남은 모임 수만큼만 이동
+				position += pageTsids.size() - danglingTsids.size();
+
+				if (danglingTsids.isEmpty() || !hasNext) {
+					break;
+				}
+				log.info("카드가 없는 모임을 홈 피드에서 제거: feed={}, gatheringTsids={}", key, danglingTsids);
+				redisAdapter.removeFromSortedSet(key, danglingTsids);
+			}
+		} catch (DataAccessException e) {
+			log.warn("홈 피드 조회 실패, 빈 피드 반환: message={}", e.getMessage());
+			return GatheringListResponse.builder()
+				.gatherings(List.of())
+				.hasNext(false)
+				.build();
+		}
+
+		return GatheringListResponse.builder()
+			.gatherings(gatherings)
+			.nextCursor(hasNext ? String.valueOf(position) : null)
+			.hasNext(hasNext)
+			.build();
+	}
+
+	/**
+	 * 모임 카드 조회 (MGET 1회, 카드가 없거나 읽을 수 없는 모임은 제외)
+	 * @param tsids 모임 TSID 목록
+	 * @return 카드 목록 (요청 순서 유지)
+	 */
+	public List<GatheringSummaryResponse> getCards(List<String> tsids) {
+		return readCards(tsids, findCardJson(tsids));
+	}
+
+	private Map<String, String> findCardJson(List<String> tsids) {
+		if (tsids.isEmpty()) {
+			return Map.of();
+		}
+		return redisAdapter.multiGet(tsids.stream().map(tsid -> CARD_PREFIX + tsid).toList());
+	}
+
+	private List<GatheringSummaryResponse> readCards(List<String> tsids, Map<String, String> cards) {
+		List<GatheringSummaryResponse> result = new ArrayList<>(tsids.size());
+		for (String tsid : tsids) {
+			String json = cards.get(CARD_PREFIX + tsid);
+			GatheringSummaryResponse card = json != null ? readCard(tsid, json) : null;
+			if (card != null) {
+				result.add(card);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 카드를 먼저 저장한 뒤 피드에 추가 (피드에 있는 모임의 카드가 없는 구간이 생기지 않도록)
+	 */
+	private void publishOrThrow(GatheringSummary summary) {
+		redisAdapter.set(CARD_PREFIX + summary.tsid(), writeCard(toCard(summary)));
+		redisAdapter.addToSortedSets(feedKeys(summary.regionTsid(), summary.category()), summary.tsid(),
+			score(summary), maxSize);
+	}
+
+	private void publishAllOrThrow(List<GatheringSummary> summaries) {
+		Map<String, String> cards = new HashMap<>();
+		Map<String, Map<String, Double>> scoresByKey = new HashMap<>();
+		for (GatheringSummary summary : summaries) {
+			cards.put(CARD_PREFIX + summary.tsid(), writeCard(toCard(summary)));
+			double score = score(summary);
+			feedKeys(summary.regionTsid(), summary.category()).forEach(key ->
+				scoresByKey.computeIfAbsent(key, k -> new HashMap<>()).put(summary.tsid(), score));
+		}
+		redisAdapter.multiSet(cards);
+		redisAdapter.addAllToSortedSets(scoresByKey, maxSize);
+	}
+
+	private GatheringSummaryResponse toCard(GatheringSummary summary) {
+		String regionName = regionService.findByTsid(summary.regionTsid())
+			.map(Region::name)
+			.orElse(null);
+		return GatheringSummaryResponse.from(summary, regionName);
+	}
+
+	/**
+	 * 모임이 속한 모든 피드 키
+	 */
+	private List<String> feedKeys(String regionTsid, GatheringCategory category) {
+		return GatheringScopes.of(regionService.findByTsid(regionTsid).orElse(null), category).stream()
+			.map(scope -> FEED_PREFIX + scope)
+			.toList();
+	}
+
+	/**
+	 * 조회할 피드 키 (알 수 없는 지역이면 전체 지역 피드)
+	 */
+	private String feedKey(String regionTsid, GatheringCategory category) {
+		Region region = regionTsid != null && !regionTsid.isBlank()
+			? regionService.findByTsid(regionTsid).orElse(null)
+			: null;
+		return FEED_PREFIX + GatheringScopes.single(region, category);
+	}
+
+	private double score(GatheringSummary summary) {
+		double activity = Math.log10(Math.max(summary.participantCount(), 0) + 1);
+		double recency = summary.createdAt() != null
+			? summary.createdAt().getEpochSecond() / activityWeightSeconds
+			: 0;
+		return activity + recency;
+	}
+
+	private String writeCard(GatheringSummaryResponse card) {
+		try {
+			return objectMapper.writeValueAsString(card);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("모임 카드 직렬화 실패: " + card.getTsid(), e);
+		}
+	}
+
+	/**
+	 * 카드 역직렬화 (형식이 바뀐 이전 카드는 건너뛰고 다음 갱신 때 교체됨)
+	 */
+	private GatheringSummaryResponse readCard(String tsid, String json) {
+		try {
+			return objectMapper.readValue(json, GatheringSummaryResponse.class);
+		} catch (JsonProcessingException e) {
+			log.warn("모임 카드 역직렬화 실패: gatheringTsid={}, message={}", tsid, e.getMessage());
+			return null;
+		}
+	}
+
+	private static long parseOffset(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return 0;
+		}
+		try {
+			return Math.max(Long.parseLong(cursor), 0);
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	private int resolvePageSize(Integer size) {
+		if (size == null || size <= 0) {
+			return defaultSize;
+		}
+		return Math.min(size, maxPageSize);
+	}
+}
@@ -0,0 +1,226 @@
+package com.gathering.gathering.application;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.gathering.common.adapter.RedisAdapter;
+import com.gathering.common.exception.BusinessException;
+import com.gathering.common.exception.ErrorCode;
+import com.gathering.common.exception.RetryableException;
+import com.gathering.gathering.domain.model.GatheringEntity;
+import com.gathering.gathering.domain.model.GatheringParticipantEntity;
+import com.gathering.gathering.domain.model.GatheringSummary;
+import com.gathering.gathering.domain.model.ParticipantRole;
+import com.gathering.gathering.domain.repository.GatheringParticipantRepository;
+import com.gathering.gathering.domain.repository.GatheringRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모임 참여/탈퇴 서비스
+ * 정원이 있는 모임은 DB에 저장하기 전에 Redis에서 좌석을 원자적으로 예약하여 초과 참여를 막음
+ * - 인기 모임에 참여 요청이 몰려도 gatherings 행을 잠그지 않음 (정원 확인은 Redis, 참여자 수는 ParticipantCountService)
+ * - 저장 실패/롤백 시 예약한 좌석을 반환 (보상)
+ * - 커밋되면 참여자 수 증감과 함께 홈 피드의 모임 카드/점수 갱신, 참여는 인기 모임 점수에도 반영
+ * - 좌석 수는 처음 예약할 때 DB 참여자 수로 적재하고, 일정 시간 예약이 없으면 만료되어 다시 적재됨
+ * - Redis 장애 시에는 정원을 확인할 수 없으므로 참여를 거부 (fail-closed, 503 + Retry-After)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GatheringParticipationService {
+
+	private static final String SEATS_PREFIX = "gathering:seats:";
+
+	/**
+	 * 좌석 수를 적재한 직후 만료되는 경우를 대비한 예약 시도 횟수
+	 */
+	private static final int MAX_RESERVE_ATTEMPTS = 2;
+
+	private static final long RESERVED = 1;
+	private static final long FULL = 0;
+
+	private static final Runnable NO_OP = () -> {
+	};
+
+	private static final RedisScript<Long> RESERVE_SEAT_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/reserve_gathering_seat.lua"), Long.class);
+	private static final RedisScript<Long> RELEASE_SEAT_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/release_gathering_seat.lua"), Long.class);
+
+	private final GatheringRepository gatheringRepository;
+	private final GatheringParticipantRepository gatheringParticipantRepository;
+	private final ParticipantCountService participantCountService;
+	private final GatheringFeedService gatheringFeedService;
+	private final GatheringTrendingService gatheringTrendingService;
+	private final RedisAdapter redisAdapter;
+
+	@Value("${gathering.participation.seat-ttl-seconds}")
+	private long seatTtlSeconds;
+
+	@Value("${gathering.participation.retry-after-seconds}")
+	private long retryAfterSeconds;
+
+	/**
+	 * 모임 참여
+	 * 1. 이미 참여한 사용자는 좌석을 예약하지 않고 거부
+	 * 2. 정원이 있으면 Redis에서 좌석 예약 (정원 초과 시 거부)
+	 * 3. 참여자 저장 (실패 시 좌석 반환)
+	 * 4. 커밋되면 참여자 수 증가, 홈 피드 갱신, 인기 모임 점수 반영 / 롤백되면 좌석 반환
+	 * @param gatheringTsid 모임 TSID
+	 * @param userTsid 사용자 TSID
+	 */
+	@Transactional
+	public void join(String gatheringTsid, String userTsid) {
+		GatheringEntity gathering = gatheringRepository.findById(gatheringTsid)
+			.orElseThrow(() -> new BusinessException(ErrorCode.GATHERING_NOT_FOUND));
+		if (gatheringParticipantRepository.existsByGatheringTsidAndUserTsid(gatheringTsid, userTsid)) {
+			throw new BusinessException(ErrorCode.GATHERING_ALREADY_JOINED);
+		}
+
+		Integer maxParticipants = gathering.getMaxParticipants();
+		boolean seatReserved = maxParticipants != null;
+		if (seatReserved) {
+			reserveSeat(gatheringTsid, maxParticipants);
+		}
+
+		try {
+			gatheringParticipantRepository.saveAndFlush(GatheringParticipantEntity.builder()
+				.gatheringTsid(gatheringTsid)
+				.userTsid(userTsid)
+				.role(ParticipantRole.MEMBER)
+				.build());
+		} catch (RuntimeException e) {
+			if (seatReserved) {
+				releaseSeat(gatheringTsid);
+			}
+			if (e instanceof DataIntegrityViolationException) {
+				// 같은 사용자의 동시 참여 요청 (uk_gathering_user)
+				throw new BusinessException(ErrorCode.GATHERING_ALREADY_JOINED, e);
+			}
+			throw e;
+		}
+
+		afterCompletion(
+			() -> {
+				participantCountService.increment(gatheringTsid);
+				publishToFeed(gathering);
+				gatheringTrendingService.recordJoin(gathering);
+			},
+			() -> {
+				if (seatReserved) {
+					releaseSeat(gatheringTsid);
+				}
+			});
+	}
+
+	/**
+	 * 모임 탈퇴
+	 * 커밋되면 참여자 수 감소, 좌석 반환, 홈 피드 갱신
+	 * @param gatheringTsid 모임 TSID
+	 * @param userTsid 사용자 TSID
+	 */
+	@Transactional
+	public void leave(String gatheringTsid, String userTsid) {
+		GatheringEntity gathering = gatheringRepository.findById(gatheringTsid)
+			.orElseThrow(() -> new BusinessException(ErrorCode.GATHERING_NOT_FOUND));
+		GatheringParticipantEntity participant = gatheringParticipantRepository
+			.findByGatheringTsidAndUserTsid(gatheringTsid, userTsid)
+			.orElseThrow(() -> new BusinessException(ErrorCode.GATHERING_NOT_JOINED));
+		if (participant.getRole() == ParticipantRole.OWNER) {
+			throw new BusinessException(ErrorCode.GATHERING_OWNER_CANNOT_LEAVE);
+		}
+
+		gatheringParticipantRepository.delete(participant);
+		afterCompletion(
+			() -> {
+				participantCountService.decrement(gatheringTsid);
+				releaseSeat(gatheringTsid);
+				publishToFeed(gathering);
+			},
+			NO_OP);
+	}
+
+	/**
+	 * 좌석 예약
+	 * 좌석 수가 적재되지 않았으면 DB 참여자 수로 적재(SET NX) 후 재시도
+	 * (여러 요청이 동시에 적재해도 하나만 반영되고, 모두 같은 키에서 예약)
+	 */
+	private void reserveSeat(String gatheringTsid, int maxParticipants) {
+		String key = SEATS_PREFIX + gatheringTsid;
+		Duration ttl = Duration.ofSeconds(seatTtlSeconds);
+		try {
+			for (int attempt = 0; attempt < MAX_RESERVE_ATTEMPTS; attempt++) {
+				Long result = redisAdapter.executeScript(
+					RESERVE_SEAT_SCRIPT,
+					List.of(key),
+					String.valueOf(maxParticipants),
+					String.valueOf(ttl.toMillis())
+				);
+				if (result != null && result == RESERVED) {
+					return;
+				}
+				if (result != null && result == FULL) {
+					throw new BusinessException(ErrorCode.GATHERING_FULL);
+				}
+
+				long participantCount = gatheringParticipantRepository.countByGatheringTsid(gatheringTsid);
+				redisAdapter.setIfAbsent(key, String.valueOf(participantCount), ttl);
+			}
+		} catch (DataAccessException e) {
+			log.warn("모임 좌석 예약 실패: gatheringTsid={}, message={}", gatheringTsid, e.getMessage());
+		}
+		throw new RetryableException(ErrorCode.SEAT_RESERVATION_UNAVAILABLE, retryAfterSeconds);
+	}
+
+	/**
+	 * 좌석 반환 (실패 시 좌석 수가 실제보다 많게 남아 정원보다 적게 받을 수 있으나, 만료 후 다시 적재되며 보정됨)
+	 */
+	private void releaseSeat(String gatheringTsid) {
+		try {
+			redisAdapter.executeScript(RELEASE_SEAT_SCRIPT, List.of(SEATS_PREFIX + gatheringTsid));
+		} catch (DataAccessException e) {
+			log.warn("모임 좌석 반환 실패: gatheringTsid={}, message={}", gatheringTsid, e.getMessage());
+		}
+	}
+
+	/**
+	 * 홈 피드 갱신 (참여자 수 = DB 반영분 + 이 인스턴스에서 아직 반영되지 않은 증감분)
+	 */
+	private void publishToFeed(GatheringEntity gathering) {
+		long pendingDelta = participantCountService.getPendingDelta(gathering.getTsid());
+		gatheringFeedService.publish(
+			GatheringSummary.from(gathering, (int)(gathering.getParticipantCount() + pendingDelta)));
+	}
+
+	/**
+	 * 트랜잭션 결과에 따라 실행 (트랜잭션 밖에서 호출되면 바로 커밋된 것으로 처리)
+	 */
+	private void afterCompletion(Runnable onCommit, Runnable onRollback) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			onCommit.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_COMMITTED) {
+					onCommit.run();
+				} else {
+					onRollback.run();
+				}
+			}
+		});
+	}
+}
@@ -0,0 +1,58 @@
+package com.gathering.gathering.application;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.gathering.gathering.domain.model.GatheringCategory;
+import com.gathering.region.domain.model.Region;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 모임 순위 목록(홈 피드, 인기 모임)의 범위 키 "지역 경로:카테고리"
+ * 지역/카테고리가 없는 범위는 ALL (예: "ALL:ALL", "11:SPORTS", "11/11110:ALL")
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class GatheringScopes {
+
+	static final String ALL = "ALL";
+
+	private static final String DELIMITER = ":";
+
+	/**
+	 * 모임이 속한 모든 범위 (전체 지역 + 지역 경로의 모든 접두사) x (전체 카테고리 + 모임 카테고리)
+	 * 예: 종로구(11/11110) 운동 모임 → ALL, 11, 11/11110 각각의 ALL, SPORTS (6개)
+	 * @param region 모임 지역 (알 수 없으면 null, 전체 지역 범위만 포함)
+	 * @param category 모임 카테고리
+	 */
+	static List<String> of(Region region, GatheringCategory category) {
+		List<String> regionScopes = new ArrayList<>();
+		regionScopes.add(ALL);
+		if (region != null) {
+			StringBuilder prefix = new StringBuilder();
+			for (String code : region.path().split(Region.PATH_SEPARATOR)) {
+				if (!prefix.isEmpty()) {
+					prefix.append(Region.PATH_SEPARATOR);
+				}
+				regionScopes.add(prefix.append(code).toString());
+			}
+		}
+
+		List<String> scopes = new ArrayList<>(regionScopes.size() * 2);
+		for (String regionScope : regionScopes) {
+			scopes.add(regionScope + DELIMITER + ALL);
+			scopes.add(regionScope + DELIMITER + category.name());
+		}
+		return scopes;
+	}
+
+	/**
+	 * 조회할 범위 하나
+	 * @param region 지역 필터 (하위 지역 포함, 없으면 전체)
+	 * @param category 카테고리 필터 (없으면 전체)
+	 */
+	static String single(Region region, GatheringCategory category) {
+		return (region != null ? region.path() : ALL) + DELIMITER + (category != null ? category.name() : ALL);
+	}
+}
@@ -0,0 +1,257 @@
+package com.gathering.gathering.application;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gathering.gathering.domain.model.GatheringCategory;
+import com.gathering.gathering.domain.model.GatheringSummary;
+import com.gathering.gathering.domain.repository.GatheringRepository;
+import com.gathering.gathering.domain.search.InvertedIndex;
+import com.gathering.gathering.domain.search.SearchDocument;
+import com.gathering.gathering.domain.search.SearchHit;
+import com.gathering.gathering.presentation.dto.GatheringListResponse;
+import com.gathering.gathering.presentation.dto.GatheringSummaryResponse;
+import com.gathering.region.application.RegionService;
+import com.gathering.region.domain.model.Region;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모임 검색 서비스
+ * 이름/설명 검색은 LIKE '%검색어%'(전체 스캔) 대신 메모리 역색인(InvertedIndex)으로 처리
+ * - 시작 완료 후 별도 스레드에서 gatherings 전체를 TSID 순으로 나누어 읽어 색인 구성
+ * - 커밋한 인스턴스는 GatheringChangeListener가 커밋 직후 반영
+ * - 다른 인스턴스에서 커밋된 변경은 주기적으로 updated_at 이후 변경분을 조회하여 반영 (catchUp)
+ * - 삭제는 따라잡기 대상이 아님 (모임 삭제 API 없음, 추가 시 삭제 표시 컬럼으로 변경분에 포함)
+ * - 검색 결과 카드는 상위 결과의 TSID로 PK 조회 1회 (참여자 수 등 변하는 값은 DB 기준)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GatheringSearchService {
+
+	private static final String SELECT_PAGE_SQL = """
+		SELECT tsid, name, description, category, region_tsid
+		FROM gatherings
+		WHERE tsid > ?
+		ORDER BY tsid
+		LIMIT ?
+		""";
+
+	private static final String SELECT_CHANGED_PAGE_SQL = """
+		SELECT tsid, name, description, category, region_tsid, updated_at
+		FROM gatherings
+		WHERE updated_at > ? OR (updated_at = ? AND tsid > ?)
+		ORDER BY updated_at, tsid
+		LIMIT ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final GatheringRepository gatheringRepository;
+	private final RegionService regionService;
+
+	@Value("${gathering.search.enabled}")
+	private boolean enabled;
+
+	@Value("${gathering.search.rebuild-batch-size}")
+	private int rebuildBatchSize;
+
+	@Value("${gathering.search.catch-up-overlap-seconds}")
+	private long catchUpOverlapSeconds;
+
+	@Value("${gathering.list.default-size}")
+	private int defaultSize;
+
+	@Value("${gathering.list.max-size}")
+	private int maxSize;
+
+	private volatile InvertedIndex index = new InvertedIndex();
+
+	/**
+	 * 다음 따라잡기 조회의 시작 시각 (색인 구성 전에는 null이며 따라잡기 생략, 스케줄러 스레드에서만 갱신)
+	 */
+	private volatile Instant catchUpFrom;
+
+	/**
+	 * 애플리케이션 시작 완료 후 별도 스레드에서 색인 구성 (시작을 지연시키지 않음)
+	 */
+	@Async
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildOnStartup() {
+		if (enabled) {
+			rebuild();
+		}
+	}
+
+	/**
+	 * DB에서 전체 모임을 읽어 색인을 새로 만든 뒤 통째로 교체 (검색 중인 요청은 이전 색인 사용)
+	 * 재구성 중에 커밋된 변경은 구성 시작 시각부터 따라잡기로 다시 반영
+	 */
+	public void rebuild() {
+		Instant startedAt = Instant.now();
+		InvertedIndex newIndex = new InvertedIndex();
+		String lastTsid = "";
+		while (true) {
+			List<SearchDocument> documents = jdbcTemplate.query(SELECT_PAGE_SQL, (rs, rowNum) -> toDocument(rs),
+				lastTsid, rebuildBatchSize);
+
+			documents.forEach(newIndex::upsert);
+			if (documents.size() < rebuildBatchSize) {
+				break;
+			}
+			lastTsid = documents.get(documents.size() - 1).tsid();
+		}
+
+		this.index = newIndex;
+		this.catchUpFrom = startedAt.minus(Duration.ofSeconds(catchUpOverlapSeconds));
+		log.info("모임 검색 색인 구성 완료: gatherings={}, terms={}, postingBytes={}",
+			newIndex.size(), newIndex.termCount(), newIndex.postingBytes());
+	}
+
+	/**
+	 * 다른 인스턴스에서 커밋된 변경 따라잡기
+	 * 1. 이전 조회 시작 시각에서 겹침 구간만큼 앞선 시각 이후에 수정된 모임을 (updated_at, tsid) 순으로 나누어 조회
+	 *    (updated_at은 커밋보다 먼저 기록되므로, 조회 시점에 아직 커밋되지 않았던 변경도 다음 조회에 포함되도록 겹침 구간을 둠)
+	 * 2. 조회한 모임을 색인에 반영 (이미 반영된 변경을 다시 반영해도 결과는 같음)
+	 * 3. 모두 성공하면 이번 조회 시작 시각을 기준으로 다음 조회 시작 시각 갱신 (실패 시 다음 주기에 같은 구간부터 재시도)
+	 */
+	@Scheduled(fixedDelayString = "${gathering.search.catch-up-interval-millis}")
+	public void catchUp() {
+		Instant from = catchUpFrom;
+		if (!enabled || from == null) {
+			return;
+		}
+
+		Instant startedAt = Instant.now();
+		Timestamp lastUpdatedAt = Timestamp.from(from);
+		String lastTsid = "";
+		int indexedCount = 0;
+		try {
+			while (true) {
+				List<ChangedDocument> changes = jdbcTemplate.query(SELECT_CHANGED_PAGE_SQL,
+					(rs, rowNum) -> new ChangedDocument(toDocument(rs), rs.getTimestamp("updated_at")),
+					lastUpdatedAt, lastUpdatedAt, lastTsid, rebuildBatchSize);
+
+				changes.forEach(change -> index.upsert(change.document()));
+				indexedCount += changes.size();
+				if (changes.size() < rebuildBatchSize) {
+					break;
+				}
+				ChangedDocument last = changes.get(changes.size() - 1);
+				lastUpdatedAt = last.updatedAt();
+				lastTsid = last.document().tsid();
+			}
+		} catch (DataAccessException e) {
+			log.warn("모임 검색 색인 따라잡기 실패: message={}", e.getMessage());
+			return;
+		}
+
+		catchUpFrom = startedAt.minus(Duration.ofSeconds(catchUpOverlapSeconds));
+		if (indexedCount > 0) {
+			log.debug("모임 검색 색인 따라잡기: gatherings={}", indexedCount);
+		}
+	}
+
+	/**
+	 * 모임 색인 (생성/수정)
+	 */
+	public void index(SearchDocument document) {
+		if (enabled) {
+			index.upsert(document);
+		}
+	}
+
+	/**
+	 * 모임 색인 제거
+	 */
+	public void remove(String tsid) {
+		if (enabled) {
+			index.remove(tsid);
+		}
+	}
+
+	/**
+	 * 모임 검색 (관련도순)
+	 * 1. 지역 필터는 하위 지역까지 확장하여 색인에서 카테고리와 함께 필터링
+	 * 2. 상위 size개 TSID로 목록용 프로젝션을 조회하여 점수 순서대로 반환
+	 *
+	 * @param query 검색어 (이름, 설명 대상)
+	 * @param category 카테고리 필터 (없으면 전체)
+	 * @param regionTsid 지역 필터 (하위 지역 포함, 없으면 전체)
+	 * @param size 결과 크기 (없으면 기본값, 최대값 초과 시 최대값)
+	 * @return 검색 결과 (페이지네이션 없음)
+	 */
+	@Transactional(readOnly = true)
+	public GatheringListResponse search(String query, GatheringCategory category, String regionTsid,
+		Integer size) {
+		Set<String> regionTsids = regionTsid != null && !regionTsid.isBlank()
+			? new HashSet<>(regionService.expandWithDescendants(regionTsid))
+			: null;
+
+		List<SearchHit> hits = index.search(query, category, regionTsids, resolvePageSize(size));
+		List<GatheringSummaryResponse> gatherings = List.of();
+		if (!hits.isEmpty()) {
+			Map<String, GatheringSummary> summaries = gatheringRepository.findSummariesByTsidIn(
+					hits.stream().map(SearchHit::tsid).toList()).stream()
+				.collect(Collectors.toMap(GatheringSummary::tsid, Function.identity()));
+			gatherings = hits.stream()
+				.map(hit -> summaries.get(hit.tsid()))
+				.filter(Objects::nonNull)
+				.map(this::toResponse)
+				.toList();
+		}
+
+		return GatheringListResponse.builder()
+			.gatherings(gatherings)
+			.hasNext(false)
+			.build();
+	}
+
+	private SearchDocument toDocument(ResultSet rs) throws SQLException {
+		return new SearchDocument(
+			rs.getString("tsid"),
+			rs.getString("name"),
+			rs.getString("description"),
+			GatheringCategory.valueOf(rs.getString("category")),
+			rs.getString("region_tsid")
+		);
+	}
+
+	private GatheringSummaryResponse toResponse(GatheringSummary summary) {
+		String regionName = regionService.findByTsid(summary.regionTsid())
+			.map(Region::name)
+			.orElse(null);
+		return GatheringSummaryResponse.from(summary, regionName);
+	}
+
+	private int resolvePageSize(Integer size) {
+		if (size == null || size <= 0) {
+			return defaultSize;
+		}
+		return Math.min(size, maxSize);
+	}
+
+	private record ChangedDocument(SearchDocument document, Timestamp updatedAt) {
+	}
+}
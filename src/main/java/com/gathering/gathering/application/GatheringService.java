@@ -0,0 +1,162 @@
+package com.gathering.gathering.application;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gathering.gathering.domain.model.GatheringCategory;
+import com.gathering.gathering.domain.model.GatheringSummary;
+import com.gathering.gathering.domain.model.ParticipationSummary;
+import com.gathering.gathering.domain.repository.GatheringParticipantRepository;
+import com.gathering.gathering.domain.repository.GatheringRepository;
+import com.gathering.gathering.presentation.dto.GatheringListResponse;
+import com.gathering.gathering.presentation.dto.GatheringSummaryResponse;
+import com.gathering.region.application.RegionService;
+import com.gathering.region.domain.model.Region;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모임 서비스
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GatheringService {
+
+	/**
+	 * 첫 페이지 조회용 cursor
+	 * TSID는 Crockford Base32 13자리이므로 가능한 모든 TSID보다 큰 값을 사용하여 첫 페이지도 같은 쿼리로 조회
+	 */
+	static final String FIRST_PAGE_CURSOR = "ZZZZZZZZZZZZZ";
+
+	private final GatheringRepository gatheringRepository;
+	private final GatheringParticipantRepository gatheringParticipantRepository;
+	private final RegionService regionService;
+
+	@Value("${gathering.list.default-size}")
+	private int defaultSize;
+
+	@Value("${gathering.list.max-size}")
+	private int maxSize;
+
+	/**
+	 * 모임 목록 조회 (최신순, keyset 페이지네이션)
+	 * 1. 요청 크기보다 1건 더 조회하여 다음 페이지 존재 여부 판단
+	 * 2. 마지막 항목의 TSID를 다음 페이지 cursor로 반환
+	 *
+	 * @param category 카테고리 필터 (없으면 전체)
+	 * @param regionTsid 지역 필터 (하위 지역 포함, 없으면 전체)
+	 * @param cursor 이전 페이지의 nextCursor (없으면 첫 페이지)
+	 * @param size 페이지 크기 (없으면 기본값, 최대값 초과 시 최대값)
+	 * @return 모임 목록
+	 */
+	@Transactional(readOnly = true)
+	public GatheringListResponse getGatherings(GatheringCategory category, String regionTsid, String cursor,
+		Integer size) {
+		int pageSize = resolvePageSize(size);
+		String seek = cursor != null && !cursor.isBlank() ? cursor : FIRST_PAGE_CURSOR;
+
+		List<GatheringSummary> rows = findSummaries(category, regionTsid, seek, Limit.of(pageSize + 1));
+
+		boolean hasNext = rows.size() > pageSize;
+		List<GatheringSummary> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+		return GatheringListResponse.builder()
+			.gatherings(page.stream().map(this::toResponse).toList())
+			.nextCursor(hasNext ? page.get(page.size() - 1).tsid() : null)
+			.hasNext(hasNext)
+			.build();
+	}
+
+	/**
+	 * 내가 참여한 모임 목록 조회 (최근 참여순, keyset 페이지네이션)
+	 * 페이지마다 쿼리 2회로 고정 (참여 수만큼 연관관계를 로드하지 않음)
+	 * 1. 참여 목록을 커버링 인덱스(idx_participant_user)로 요청 크기 + 1건 조회
+	 * 2. 모임 목록용 프로젝션을 TSID IN으로 한 번에 조회하여 참여 순서대로 정렬
+	 * 3. 지역 이름은 메모리의 지역 계층 구조에서 조회
+	 *
+	 * @param userTsid 사용자 TSID
+	 * @param cursor 이전 페이지의 nextCursor (참여 TSID, 없으면 첫 페이지)
+	 * @param size 페이지 크기 (없으면 기본값, 최대값 초과 시 최대값)
+	 * @return 모임 목록
+	 */
+	@Transactional(readOnly = true)
+	public GatheringListResponse getMyGatherings(String userTsid, String cursor, Integer size) {
+		int pageSize = resolvePageSize(size);
+		String seek = cursor != null && !cursor.isBlank() ? cursor : FIRST_PAGE_CURSOR;
+
+		List<ParticipationSummary> rows = gatheringParticipantRepository.findParticipations(
+			userTsid, seek, Limit.of(pageSize + 1));
+
+		boolean hasNext = rows.size() > pageSize;
+		List<ParticipationSummary> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+		List<GatheringSummaryResponse> gatherings = List.of();
+		if (!page.isEmpty()) {
+			Map<String, GatheringSummary> summaries = gatheringRepository.findSummariesByTsidIn(
+					page.stream().map(ParticipationSummary::gatheringTsid).toList()).stream()
+				.collect(Collectors.toMap(GatheringSummary::tsid, Function.identity()));
+			gatherings = page.stream()
+				.map(participation -> summaries.get(participation.gatheringTsid()))
+				.filter(Objects::nonNull)
+				.map(this::toResponse)
+				.toList();
+		}
+
+		return GatheringListResponse.builder()
+			.gatherings(gatherings)
+			.nextCursor(hasNext ? page.get(page.size() - 1).tsid() : null)
+			.hasNext(hasNext)
+			.build();
+	}
+
+	/**
+	 * 필터 조합에 맞는 쿼리 선택 (조합별로 복합 인덱스를 타도록 쿼리를 분리)
+	 */
+	private List<GatheringSummary> findSummaries(GatheringCategory category, String regionTsid, String cursor,
+		Limit limit) {
+		boolean hasRegion = regionTsid != null && !regionTsid.isBlank();
+
+		if (hasRegion && regionTsid.equals(regionService.findRootTsid(regionTsid))) {
+			return category != null
+				? gatheringRepository.findSummariesByRootRegionAndCategory(regionTsid, category, cursor, limit)
+				: gatheringRepository.findSummariesByRootRegion(regionTsid, cursor, limit);
+		}
+		if (hasRegion) {
+			List<String> regionTsids = regionService.expandWithDescendants(regionTsid);
+			return category != null
+				? gatheringRepository.findSummariesByRegionsAndCategory(regionTsids, category, cursor, limit)
+				: gatheringRepository.findSummariesByRegions(regionTsids, cursor, limit);
+		}
+		if (category != null) {
+			return gatheringRepository.findSummariesByCategory(category, cursor, limit);
+		}
+		return gatheringRepository.findSummaries(cursor, limit);
+	}
+
+	/**
+	 * 지역 이름은 메모리의 지역 계층 구조에서 조회 (region 연관관계를 로드하지 않음)
+	 */
+	private GatheringSummaryResponse toResponse(GatheringSummary summary) {
+		String regionName = regionService.findByTsid(summary.regionTsid())
+			.map(Region::name)
+			.orElse(null);
+		return GatheringSummaryResponse.from(summary, regionName);
+	}
+
+	private int resolvePageSize(Integer size) {
+		if (size == null || size <= 0) {
+			return defaultSize;
+		}
+		return Math.min(size, maxSize);
+	}
+}
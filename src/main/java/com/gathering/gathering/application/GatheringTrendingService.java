@@ -0,0 +1,218 @@
+package com.gathering.gathering.application;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.gathering.common.adapter.RedisAdapter;
+import com.gathering.common.exception.BusinessException;
+import com.gathering.common.exception.ErrorCode;
+import com.gathering.gathering.domain.model.GatheringCategory;
+import com.gathering.gathering.domain.model.GatheringEntity;
+import com.gathering.gathering.domain.repository.GatheringRepository;
+import com.gathering.gathering.presentation.dto.GatheringListResponse;
+import com.gathering.region.application.RegionService;
+import com.gathering.region.domain.model.Region;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인기 모임 서비스
+ * 참여/조회 이벤트마다 지수 감쇠 점수를 (지역 경로 접두사, 카테고리) 범위별 Redis Sorted Set에 누적
+ * - 점수는 기준 시각부터 앞으로 커지는 가중치(forward decay)의 로그 합
+ *   s = ln(sum(가중치 * e^((이벤트 시각 - 기준 시각) / tau))), tau = 반감기 / ln 2
+ *   시간이 지나도 모임 간 순서가 바뀌지 않으므로 주기적으로 전체 점수를 다시 쓰지 않음
+ * - 이벤트 1건 = 범위마다 ZSCORE + ZADD (O(log n)), 범위별 Lua 스크립트를 파이프라인으로 1회 왕복
+ *   (범위 키는 클러스터에서 서로 다른 슬롯에 분산되므로 한 스크립트로 묶지 않음)
+ * - 조회 이벤트는 (사용자, 모임)마다 view-dedupe-seconds 동안 한 번만 반영 (SET NX 키로 중복 제거)
+ * - 조회 시점의 감쇠 점수 = e^(s - (현재 시각 - 기준 시각) / tau) (조회 시에만 계산하는 지연 감쇠)
+ *   최소 점수 미만(최근 활동이 거의 없는 모임)은 점수 범위 조건으로 제외
+ * - 카드는 홈 피드의 모임 카드를 사용하므로 조회 시 DB 조회 없음
+ * - Redis 장애 시 이벤트는 버리고, 조회는 빈 목록 반환 (fail-open)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GatheringTrendingService {
+
+	private static final String TRENDING_PREFIX = "gathering:trending:";
+	private static final String VIEWED_PREFIX = "gathering:viewed:";
+
+	/**
+	 * 감쇠 기준 시각 (2026-01-01T00:00:00Z)
+	 * 점수를 로그 공간에 저장하므로 오래 지나도 넘치지 않으며, 바꾸면 기존 점수와 비교할 수 없으므로 고정
+	 */
+	private static final long EPOCH_SECONDS = 1_767_225_600L;
+
+	private static final RedisScript<Long> RECORD_EVENT_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/record_trending_event.lua"), Long.class);
+
+	private final RedisAdapter redisAdapter;
+	private final GatheringRepository gatheringRepository;
+	private final RegionService regionService;
+	private final GatheringFeedService gatheringFeedService;
+
+	@Value("${gathering.trending.half-life-seconds}")
+	private long halfLifeSeconds;
+
+	@Value("${gathering.trending.join-weight}")
+	private double joinWeight;
+
+	@Value("${gathering.trending.view-weight}")
+	private double viewWeight;
+
+	@Value("${gathering.trending.view-dedupe-seconds}")
+	private long viewDedupeSeconds;
+
+	@Value("${gathering.trending.max-size}")
+	private long maxSize;
+
+	@Value("${gathering.trending.min-score}")
+	private double minScore;
+
+	@Value("${gathering.trending.scope-cache.maximum-size}")
+	private long scopeCacheMaximumSize;
+
+	@Value("${gathering.trending.scope-cache.ttl-seconds}")
+	private long scopeCacheTtlSeconds;
+
+	@Value("${gathering.list.default-size}")
+	private int defaultSize;
+
+	@Value("${gathering.list.max-size}")
+	private int maxPageSize;
+
+	/**
+	 * 모임 TSID → 인기 모임 키 목록 (조회 이벤트마다 모임의 지역/카테고리를 DB에서 읽지 않기 위함)
+	 * 없는 모임도 빈 값으로 캐시하여 존재하지 않는 TSID가 반복되어도 DB를 다시 조회하지 않음
+	 */
+	private Cache<String, Optional<List<String>>> scopeCache;
+
+	@PostConstruct
+	public void init() {
+		this.scopeCache = Caffeine.newBuilder()
+			.maximumSize(scopeCacheMaximumSize)
+			.expireAfterAccess(Duration.ofSeconds(scopeCacheTtlSeconds))
+			.build();
+	}
+
+	/**
+	 * 참여 이벤트 기록 (참여 커밋 후 호출)
+	 * @param gathering 참여한 모임
+	 */
+	public void recordJoin(GatheringEntity gathering) {
+		List<String> keys = trendingKeys(gathering.getRegionTsid(), gathering.getCategory());
+		scopeCache.put(gathering.getTsid(), Optional.of(keys));
+		record(gathering.getTsid(), keys, joinWeight);
+	}
+
+	/**
+	 * 조회 이벤트 기록
+	 * 1. 모임의 인기 모임 키 목록 조회 (로컬 캐시, 없으면 DB)
+	 * 2. (사용자, 모임) 중복 제거 키를 SET NX로 저장, 이미 있으면 반영하지 않음
+	 * 3. 점수 누적
+	 *
+	 * @param gatheringTsid 조회한 모임 TSID
+	 * @param userTsid 조회한 사용자 TSID
+	 * @throws BusinessException 모임이 없는 경우
+	 */
+	public void recordView(String gatheringTsid, String userTsid) {
+		List<String> keys = scopeCache.get(gatheringTsid, tsid -> gatheringRepository.findById(tsid)
+				.map(gathering -> trendingKeys(gathering.getRegionTsid(), gathering.getCategory())))
+			.orElseThrow(() -> new BusinessException(ErrorCode.GATHERING_NOT_FOUND));
+
+		try {
+			boolean firstView = redisAdapter.setIfAbsent(VIEWED_PREFIX + gatheringTsid + ":" + userTsid, "1",
+				Duration.ofSeconds(viewDedupeSeconds));
+			if (!firstView) {
+				return;
+			}
+		} catch (DataAccessException e) {
+			log.warn("인기 모임 조회 중복 확인 실패: gatheringTsid={}, message={}", gatheringTsid, e.getMessage());
+			return;
+		}
+		record(gatheringTsid, keys, viewWeight);
+	}
+
+	/**
+	 * 인기 모임 상위 K개 조회
+	 * 1. 감쇠 점수가 최소 점수 이상인 모임을 점수순으로 size개 조회 (ZREVRANGEBYSCORE ... LIMIT)
+	 * 2. 홈 피드의 모임 카드를 한 번에 조회 (MGET)
+	 *
+	 * @param regionTsid 지역 필터 (하위 지역 포함, 없으면 전체)
+	 * @param category 카테고리 필터 (없으면 전체)
+	 * @param size 조회 개수 (없으면 기본값, 최대값 초과 시 최대값)
+	 * @return 인기 모임 목록 (페이지네이션 없음)
+	 */
+	public GatheringListResponse getTrending(String regionTsid, GatheringCategory category, Integer size) {
+		Region region = regionTsid != null && !regionTsid.isBlank()
+			? regionService.findByTsid(regionTsid).orElse(null)
+			: null;
+		String key = TRENDING_PREFIX + GatheringScopes.single(region, category);
+		double minLogScore = Math.log(minScore) + elapsedTaus(System.currentTimeMillis());
+
+		try {
+			List<String> tsids = redisAdapter.getSortedSetReverseRangeByScore(
+				key, minLogScore, Double.POSITIVE_INFINITY, 0, resolvePageSize(size));
+			return GatheringListResponse.builder()
+				.gatherings(gatheringFeedService.getCards(tsids))
+				.hasNext(false)
+				.build();
+		} catch (DataAccessException e) {
+			log.warn("인기 모임 조회 실패, 빈 목록 반환: message={}", e.getMessage());
+			return GatheringListResponse.builder()
+				.gatherings(List.of())
+				.hasNext(false)
+				.build();
+		}
+	}
+
+	/**
+	 * 이벤트 항 x = ln(가중치) + (현재 시각 - 기준 시각) / tau 를 모임이 속한 모든 범위에 누적
+	 */
+	private void record(String gatheringTsid, List<String> keys, double weight) {
+		double term = Math.log(weight) + elapsedTaus(System.currentTimeMillis());
+		try {
+			redisAdapter.executeScriptForEachKey(
+				RECORD_EVENT_SCRIPT,
+				keys,
+				gatheringTsid,
+				String.valueOf(term),
+				String.valueOf(maxSize)
+			);
+		} catch (DataAccessException e) {
+			log.warn("인기 모임 이벤트 기록 실패: gatheringTsid={}, message={}", gatheringTsid, e.getMessage());
+		}
+	}
+
+	/**
+	 * 기준 시각부터 경과한 시간 / tau
+	 */
+	private double elapsedTaus(long nowMillis) {
+		double tauSeconds = halfLifeSeconds / Math.log(2);
+		return (nowMillis / 1000.0 - EPOCH_SECONDS) / tauSeconds;
+	}
+
+	private List<String> trendingKeys(String regionTsid, GatheringCategory category) {
+		return GatheringScopes.of(regionService.findByTsid(regionTsid).orElse(null), category).stream()
+			.map(scope -> TRENDING_PREFIX + scope)
+			.toList();
+	}
+
+	private int resolvePageSize(Integer size) {
+		if (size == null || size <= 0) {
+			return defaultSize;
+		}
+		return Math.min(size, maxPageSize);
+	}
+}
@@ -0,0 +1,260 @@
+package com.gathering.gathering.application;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모임 참여자 수 집계 서비스
+ * 참여/탈퇴마다 gatherings 행을 UPDATE하면 인기 모임의 같은 행에 쓰기가 몰리므로
+ * 모임별 LongAdder에 증감분을 모았다가 주기적으로 "participant_count + 증감분" 배치 UPDATE로 반영
+ * - 증감은 락 없이 LongAdder 셀에 분산되어 기록됨 (항목이 있으면 computeIfAbsent도 락을 잡지 않음)
+ * - 두 주기 연속 증감이 없던 모임만 반영 스레드에서 맵에서 제거하고, 제거한 LongAdder에 늦게 들어온 증감은 다음 주기에 되돌림
+ * - 반영 실패 시 증감분을 되돌려 다음 주기에 재시도
+ * - 비정상 종료로 유실된 증감분, 다른 인스턴스와의 경합으로 생긴 오차는 정합성 작업이 실제 참여자 수로 보정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ParticipantCountService {
+
+	private static final String INCREMENT_SQL = """
+		UPDATE gatherings
+		SET participant_count = participant_count + ?
+		WHERE tsid = ?
+		""";
+
+	private static final String SELECT_TSID_PAGE_SQL = """
+		SELECT tsid FROM gatherings
+		WHERE tsid > ?
+		ORDER BY tsid
+		LIMIT ?
+		""";
+
+	/**
+	 * 범위 내 모임 중 실제 참여자 수와 다른 모임만 보정 (일치하는 행은 쓰지 않음)
+	 */
+	private static final String RECONCILE_SQL = """
+		UPDATE gatherings
+		SET participant_count = (
+			SELECT COUNT(*) FROM gathering_participants p WHERE p.gathering_tsid = gatherings.tsid)
+		WHERE tsid >= ? AND tsid <= ?
+			AND participant_count <> (
+				SELECT COUNT(*) FROM gathering_participants p WHERE p.gathering_tsid = gatherings.tsid)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${gathering.participant-count.batch-size}")
+	private int batchSize;
+
+	@Value("${gathering.participant-count.reconcile-batch-size}")
+	private int reconcileBatchSize;
+
+	/**
+	 * 증감이 없던 모임을 맵에서 제거하기까지 기다리는 반영 주기 수
+	 */
+	private static final int IDLE_FLUSHES_BEFORE_EVICTION = 2;
+
+	private final ConcurrentMap<String, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+
+	/**
+	 * 모임별 연속으로 증감이 없던 반영 주기 수 (flushLock 안에서만 접근)
+	 */
+	private final Map<String, Integer> idleFlushCounts = new HashMap<>();
+
+	/**
+	 * 지난 주기에 맵에서 제거한 LongAdder (제거 직전에 참조를 얻은 증감이 늦게 기록될 수 있으므로 한 주기 더 확인, flushLock 안에서만 접근)
+	 */
+	private final List<Map.Entry<String, LongAdder>> evictedAdders = new ArrayList<>();
+
+	/**
+	 * 반영과 정합성 작업이 겹치지 않도록 보호 (가상 스레드 고정을 피하기 위해 synchronized 대신 사용)
+	 */
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	/**
+	 * 참여자 1명 증가
+	 * @param gatheringTsid 모임 TSID
+	 */
+	public void increment(String gatheringTsid) {
+		add(gatheringTsid, 1);
+	}
+
+	/**
+	 * 참여자 1명 감소
+	 * @param gatheringTsid 모임 TSID
+	 */
+	public void decrement(String gatheringTsid) {
+		add(gatheringTsid, -1);
+	}
+
+	/**
+	 * 참여자 수 증감 (대량 저장처럼 여러 명을 한 번에 반영할 때 사용)
+	 * @param gatheringTsid 모임 TSID
+	 * @param delta 증감분
+	 */
+	public void add(String gatheringTsid, long delta) {
+		pendingDeltas.computeIfAbsent(gatheringTsid, key -> new LongAdder()).add(delta);
+	}
+
+	/**
+	 * 아직 반영되지 않은 증감분 (모니터링/테스트용)
+	 * @param gatheringTsid 모임 TSID
+	 * @return 증감분 (없으면 0)
+	 */
+	public long getPendingDelta(String gatheringTsid) {
+		LongAdder adder = pendingDeltas.get(gatheringTsid);
+		return adder != null ? adder.sum() : 0;
+	}
+
+	/**
+	 * 모임별 증감분을 배치 UPDATE로 반영
+	 * 1. 지난 주기에 제거한 LongAdder에 늦게 기록된 증감분을 맵으로 되돌림
+	 * 2. 모임별 LongAdder를 sumThenReset으로 비움 (셀 단위로 원자적으로 비우므로 동시 증감은 이번 또는 다음 주기에 반영)
+	 * 3. 두 주기 연속 증감이 없던 모임은 맵에서 제거하여 메모리를 회수
+	 * 4. 반영 실패한 배치의 증감분은 되돌림
+	 */
+	@Scheduled(fixedDelayString = "${gathering.participant-count.flush-interval-millis}")
+	public void flush() {
+		flushLock.lock();
+		try {
+			recoverEvictedDeltas();
+
+			List<Object[]> batch = new ArrayList<>(batchSize);
+			int flushedCount = 0;
+			for (Map.Entry<String, LongAdder> entry : pendingDeltas.entrySet()) {
+				long delta = drain(entry.getKey(), entry.getValue());
+				if (delta == 0) {
+					continue;
+				}
+
+				batch.add(new Object[] {delta, entry.getKey()});
+				if (batch.size() >= batchSize) {
+					flushedCount += executeBatch(batch);
+				}
+			}
+			flushedCount += executeBatch(batch);
+
+			if (flushedCount > 0) {
+				log.debug("참여자 수 반영: gatherings={}", flushedCount);
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	 * 참여자 수 정합성 보정
+	 * 1. 메모리의 증감분을 먼저 반영 (반영 전 증감분이 보정 결과에 이중으로 더해지지 않도록)
+	 * 2. 모임을 TSID 순으로 나누어 범위마다 실제 참여자 수와 다른 행만 UPDATE (테이블 전체를 한 문장으로 잠그지 않음)
+	 */
+	@Scheduled(cron = "${gathering.participant-count.reconcile-cron}")
+	public void reconcile() {
+		flushLock.lock();
+		try {
+			flush();
+
+			int correctedCount = 0;
+			String lastTsid = "";
+			while (true) {
+				List<String> tsids = jdbcTemplate.queryForList(
+					SELECT_TSID_PAGE_SQL, String.class, lastTsid, reconcileBatchSize);
+				if (tsids.isEmpty()) {
+					break;
+				}
+
+				String firstTsid = tsids.get(0);
+				lastTsid = tsids.get(tsids.size() - 1);
+				correctedCount += jdbcTemplate.update(RECONCILE_SQL, firstTsid, lastTsid);
+				if (tsids.size() < reconcileBatchSize) {
+					break;
+				}
+			}
+			log.info("참여자 수 정합성 보정 완료: corrected={}", correctedCount);
+		} catch (DataAccessException e) {
+			log.warn("참여자 수 정합성 보정 실패: message={}", e.getMessage());
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	 * 종료 시 남은 증감분 반영
+	 */
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	/**
+	 * 증감분을 꺼내고, 두 주기 연속 증감이 없던 모임은 맵에서 제거
+	 * 제거 직전에 들어온 증감은 바로 되돌리고, 제거 후 늦게 들어온 증감은 다음 주기에 recoverEvictedDeltas가 되돌림
+	 */
+	private long drain(String gatheringTsid, LongAdder adder) {
+		long delta = adder.sumThenReset();
+		if (delta != 0) {
+			idleFlushCounts.remove(gatheringTsid);
+			return delta;
+		}
+
+		int idleFlushes = idleFlushCounts.merge(gatheringTsid, 1, Integer::sum);
+		if (idleFlushes >= IDLE_FLUSHES_BEFORE_EVICTION && pendingDeltas.remove(gatheringTsid, adder)) {
+			idleFlushCounts.remove(gatheringTsid);
+			evictedAdders.add(Map.entry(gatheringTsid, adder));
+			long residual = adder.sumThenReset();
+			if (residual != 0) {
+				add(gatheringTsid, residual);
+			}
+		}
+		return 0;
+	}
+
+	private void recoverEvictedDeltas() {
+		for (Map.Entry<String, LongAdder> evicted : evictedAdders) {
+			long residual = evicted.getValue().sumThenReset();
+			if (residual != 0) {
+				add(evicted.getKey(), residual);
+			}
+		}
+		evictedAdders.clear();
+	}
+
+	/**
+	 * JDBC 배치 UPDATE 실행 후 배치 비우기
+	 * DB 오류 시 증감분을 되돌려 다음 주기에 재시도
+	 * @return 반영한 모임 수
+	 */
+	private int executeBatch(List<Object[]> batch) {
+		if (batch.isEmpty()) {
+			return 0;
+		}
+
+		int size = batch.size();
+		try {
+			jdbcTemplate.batchUpdate(INCREMENT_SQL, batch);
+			return size;
+		} catch (DataAccessException e) {
+			log.warn("참여자 수 반영 실패, 다음 주기에 재시도: gatherings={}, message={}", size, e.getMessage());
+			batch.forEach(row -> add((String)row[1], (long)row[0]));
+			return 0;
+		} finally {
+			batch.clear();
+		}
+	}
+}
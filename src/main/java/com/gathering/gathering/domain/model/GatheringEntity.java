@@ -3,8 +3,10 @@ package com.gathering.gathering.domain.model;
 import java.time.Instant;
 
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.gathering.gathering.infra.GatheringChangeListener;
 import com.gathering.region.domain.model.RegionEntity;
 
 import io.hypersistence.utils.hibernate.id.Tsid;
@@ -31,13 +33,20 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, GatheringChangeListener.class})
 @Table(
 	name = "gatherings",
 	indexes = {
-		@Index(name = "idx_gathering_region", columnList = "region_tsid"),
-		@Index(name = "idx_gathering_category", columnList = "category"),
-		@Index(name = "idx_gathering_created_at", columnList = "created_at")
+		// 목록 조회(필터 + TSID 역순 keyset)를 정렬까지 인덱스로 처리하도록 TSID를 포함한 복합 인덱스 사용
+		@Index(name = "idx_gathering_region_tsid", columnList = "region_tsid, tsid"),
+		@Index(name = "idx_gathering_category_tsid", columnList = "category, tsid"),
+		@Index(name = "idx_gathering_region_category_tsid", columnList = "region_tsid, category, tsid"),
+		// 최상위 지역 필터는 하위 지역 IN 목록 대신 동등 조건 1개로 조회
+		@Index(name = "idx_gathering_root_region_tsid", columnList = "root_region_tsid, tsid"),
+		@Index(name = "idx_gathering_root_region_category_tsid", columnList = "root_region_tsid, category, tsid"),
+		@Index(name = "idx_gathering_created_at", columnList = "created_at"),
+		// 검색 색인 따라잡기(변경 시각 + TSID keyset)
+		@Index(name = "idx_gathering_updated_at_tsid", columnList = "updated_at, tsid")
 	}
 )
 public class GatheringEntity {
@@ -56,6 +65,12 @@ public class GatheringEntity {
 	@Column(name = "region_tsid", nullable = false, length = 13, columnDefinition = "CHAR(13)")
 	private String regionTsid;
 
+	/**
+	 * 최상위 지역 TSID (비정규화, 저장 전 GatheringChangeListener가 지역 계층 구조로 지정)
+	 */
+	@Column(name = "root_region_tsid", nullable = false, length = 13, columnDefinition = "CHAR(13)")
+	private String rootRegionTsid;
+
 	@Column(nullable = false, length = 30)
 	@Enumerated(EnumType.STRING)
 	private GatheringCategory category;
@@ -63,10 +78,32 @@ public class GatheringEntity {
 	@Column(name = "main_image_url", length = 500)
 	private String mainImageUrl;
 
+	/**
+	 * 정원 (모임장 포함, null이면 제한 없음)
+	 */
+	@Column(name = "max_participants")
+	private Integer maxParticipants;
+
+	/**
+	 * 참여자 수 (비정규화, 목록에서 모임마다 COUNT를 실행하지 않기 위함)
+	 * ParticipantCountService가 증감분을 모아 주기적으로 반영하고, 정합성 작업이 실제 참여자 수로 보정
+	 * JDBC로만 변경하므로 엔티티 수정 시 읽어 둔 이전 값으로 덮어쓰지 않도록 UPDATE 대상에서 제외
+	 */
+	@Builder.Default
+	@Column(name = "participant_count", nullable = false, updatable = false)
+	private int participantCount = 0;
+
 	@Column(name = "created_at", nullable = false, updatable = false)
 	@CreatedDate
 	private Instant createdAt;
 
+	/**
+	 * 마지막 수정 시각 (JDBC로 직접 변경하는 참여자 수는 갱신하지 않음)
+	 */
+	@Column(name = "updated_at", nullable = false)
+	@LastModifiedDate
+	private Instant updatedAt;
+
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(
 		name = "region_tsid",
@@ -75,4 +112,11 @@ public class GatheringEntity {
 		foreignKey = @ForeignKey(name = "fk_gathering_region")
 	)
 	private RegionEntity region;
+
+	/**
+	 * 최상위 지역 지정
+	 */
+	public void assignRootRegion(String rootRegionTsid) {
+		this.rootRegionTsid = rootRegionTsid;
+	}
 }
@@ -39,7 +39,8 @@ import lombok.NoArgsConstructor;
 		@UniqueConstraint(name = "uk_gathering_user", columnNames = {"gathering_tsid", "user_tsid"})
 	},
 	indexes = {
-		@Index(name = "idx_participant_user", columnList = "user_tsid"),
+		// 내 모임 목록(사용자 + 참여 TSID 역순 keyset)을 테이블 접근 없이 인덱스만으로 처리하도록 조회 컬럼까지 포함
+		@Index(name = "idx_participant_user", columnList = "user_tsid, tsid, gathering_tsid, role"),
 		@Index(name = "idx_participant_gathering", columnList = "gathering_tsid")
 	}
 )
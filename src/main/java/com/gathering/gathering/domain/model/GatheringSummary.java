@@ -0,0 +1,33 @@
+package com.gathering.gathering.domain.model;
+
+import java.time.Instant;
+
+/**
+ * 모임 목록 조회용 프로젝션
+ * 목록에 필요한 컬럼만 조회하여 엔티티(및 지연 로딩 region 연관관계)를 로드하지 않음
+ */
+public record GatheringSummary(
+	String tsid,
+	String name,
+	String regionTsid,
+	GatheringCategory category,
+	String mainImageUrl,
+	int participantCount,
+	Instant createdAt
+) {
+
+	/**
+	 * 엔티티로부터 생성 (참여자 수는 아직 반영되지 않은 증감분을 더한 값을 전달)
+	 */
+	public static GatheringSummary from(GatheringEntity entity, int participantCount) {
+		return new GatheringSummary(
+			entity.getTsid(),
+			entity.getName(),
+			entity.getRegionTsid(),
+			entity.getCategory(),
+			entity.getMainImageUrl(),
+			participantCount,
+			entity.getCreatedAt()
+		);
+	}
+}
@@ -0,0 +1,12 @@
+package com.gathering.gathering.domain.model;
+
+/**
+ * 사용자의 참여 목록 조회용 프로젝션
+ * idx_participant_user(user_tsid, tsid, gathering_tsid, role)에 모두 포함된 컬럼만 조회하여 테이블 행을 읽지 않음
+ */
+public record ParticipationSummary(
+	String tsid,
+	String gatheringTsid,
+	ParticipantRole role
+) {
+}
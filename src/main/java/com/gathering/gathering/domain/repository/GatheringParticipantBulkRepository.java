@@ -0,0 +1,21 @@
+package com.gathering.gathering.domain.repository;
+
+import java.util.List;
+
+import com.gathering.gathering.domain.model.GatheringParticipantEntity;
+
+/**
+ * 모임 참여자 대량 저장 (JPA 영속성 컨텍스트를 거치지 않는 JDBC 배치)
+ */
+public interface GatheringParticipantBulkRepository {
+
+	/**
+	 * 참여자 일괄 INSERT
+	 * TSID가 없는 참여자는 애플리케이션에서 TSID를 생성하여 저장
+	 * 모임의 참여자 수(participant_count)는 갱신하지 않으므로, 호출 측에서 모임별 저장 건수를
+	 * ParticipantCountService.add로 반영해야 함 (반영하지 않으면 다음 정합성 보정까지 참여자 수가 어긋남)
+	 * @param participants 저장할 참여자 목록
+	 * @return 저장된 참여자 TSID 목록 (입력 순서)
+	 */
+	List<String> bulkInsert(List<GatheringParticipantEntity> participants);
+}
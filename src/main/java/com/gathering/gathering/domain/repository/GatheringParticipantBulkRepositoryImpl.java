@@ -0,0 +1,62 @@
+package com.gathering.gathering.domain.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.gathering.gathering.domain.model.GatheringParticipantEntity;
+import com.github.f4b6a3.tsid.TsidCreator;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 모임 참여자 대량 저장 구현
+ * JdbcTemplate 배치로 batch_size 단위 전송 (MySQL은 rewriteBatchedStatements로 multi-row INSERT)
+ */
+@RequiredArgsConstructor
+public class GatheringParticipantBulkRepositoryImpl implements GatheringParticipantBulkRepository {
+
+	private static final String INSERT_SQL = """
+		INSERT INTO gathering_participants (tsid, gathering_tsid, user_tsid, role, joined_at)
+		VALUES (?, ?, ?, ?, ?)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+	private int batchSize;
+
+	@Override
+	public List<String> bulkInsert(List<GatheringParticipantEntity> participants) {
+		List<String> tsids = new ArrayList<>(participants.size());
+		List<Object[]> rows = new ArrayList<>(participants.size());
+		Timestamp now = Timestamp.from(Instant.now());
+
+		for (GatheringParticipantEntity participant : participants) {
+			String tsid = participant.getTsid() != null ? participant.getTsid() : TsidCreator.getTsid().toString();
+			tsids.add(tsid);
+			rows.add(new Object[] {
+				tsid,
+				participant.getGatheringTsid(),
+				participant.getUserTsid(),
+				participant.getRole().name(),
+				participant.getJoinedAt() != null ? Timestamp.from(participant.getJoinedAt()) : now
+			});
+		}
+
+		jdbcTemplate.batchUpdate(INSERT_SQL, rows, batchSize, GatheringParticipantBulkRepositoryImpl::setRow);
+		return tsids;
+	}
+
+	private static void setRow(PreparedStatement ps, Object[] row) throws SQLException {
+		for (int i = 0; i < row.length; i++) {
+			ps.setObject(i + 1, row[i]);
+		}
+	}
+}
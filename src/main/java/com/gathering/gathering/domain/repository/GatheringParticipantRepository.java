@@ -1,8 +1,39 @@
 package com.gathering.gathering.domain.repository;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.gathering.gathering.domain.model.GatheringParticipantEntity;
+import com.gathering.gathering.domain.model.ParticipationSummary;
+
+public interface GatheringParticipantRepository
+	extends JpaRepository<GatheringParticipantEntity, String>, GatheringParticipantBulkRepository {
+
+	boolean existsByGatheringTsidAndUserTsid(String gatheringTsid, String userTsid);
+
+	Optional<GatheringParticipantEntity> findByGatheringTsidAndUserTsid(String gatheringTsid, String userTsid);
+
+	long countByGatheringTsid(String gatheringTsid);
 
-public interface GatheringParticipantRepository extends JpaRepository<GatheringParticipantEntity, String> {
-}
\ No newline at end of file
+	/**
+	 * 사용자가 참여한 모임 목록 (최근 참여순, 참여 TSID 기준 keyset 페이지네이션)
+	 * gathering 연관관계를 로드하지 않고 모임 TSID만 조회 (모임 정보는 TSID IN으로 한 번에 조회)
+	 */
+	@Query("""
+		select new com.gathering.gathering.domain.model.ParticipationSummary(p.tsid, p.gatheringTsid, p.role)
+		from GatheringParticipantEntity p
+		where p.userTsid = :userTsid
+			and p.tsid < :cursor
+		order by p.tsid desc
+		""")
+	List<ParticipationSummary> findParticipations(
+		@Param("userTsid") String userTsid,
+		@Param("cursor") String cursor,
+		Limit limit
+	);
+}
@@ -1,8 +1,119 @@
 package com.gathering.gathering.domain.repository;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.gathering.gathering.domain.model.GatheringCategory;
 import com.gathering.gathering.domain.model.GatheringEntity;
+import com.gathering.gathering.domain.model.GatheringSummary;
 
+/**
+ * 모임 Repository
+ * 목록 조회는 TSID(시간순 정렬) 기준 keyset 페이지네이션 사용
+ * - OFFSET 없이 "cursor보다 작은 TSID"부터 조회하므로 페이지 깊이와 무관하게 비용 일정
+ * - 필터 조합별로 쿼리를 분리하여 각 쿼리가 (필터 컬럼, tsid) 복합 인덱스를 그대로 사용
+ * - 지역 필터는 하위 지역까지 포함
+ *   - 최상위 지역: 비정규화한 root_region_tsid 동등 조건 (IN 목록은 TSID 정렬을 인덱스로 처리하지 못해 filesort)
+ *   - 그 외: 하위 지역까지 확장한 TSID 목록 (하위 지역이 없으면 IN 1건 = 동등 조건)
+ */
 public interface GatheringRepository extends JpaRepository<GatheringEntity, String> {
-}
\ No newline at end of file
+
+	@Query("""
+		select new com.gathering.gathering.domain.model.GatheringSummary(
+			g.tsid, g.name, g.regionTsid, g.category, g.mainImageUrl, g.participantCount, g.createdAt)
+		from GatheringEntity g
+		where g.tsid < :cursor
+		order by g.tsid desc
+		""")
+	List<GatheringSummary> findSummaries(@Param("cursor") String cursor, Limit limit);
+
+	@Query("""
+		select new com.gathering.gathering.domain.model.GatheringSummary(
+			g.tsid, g.name, g.regionTsid, g.category, g.mainImageUrl, g.participantCount, g.createdAt)
+		from GatheringEntity g
+		where g.category = :category
+			and g.tsid < :cursor
+		order by g.tsid desc
+		""")
+	List<GatheringSummary> findSummariesByCategory(
+		@Param("category") GatheringCategory category,
+		@Param("cursor") String cursor,
+		Limit limit
+	);
+
+	@Query("""
+		select new com.gathering.gathering.domain.model.GatheringSummary(
+			g.tsid, g.name, g.regionTsid, g.category, g.mainImageUrl, g.participantCount, g.createdAt)
+		from GatheringEntity g
+		where g.rootRegionTsid = :rootRegionTsid
+			and g.tsid < :cursor
+		order by g.tsid desc
+		""")
+	List<GatheringSummary> findSummariesByRootRegion(
+		@Param("rootRegionTsid") String rootRegionTsid,
+		@Param("cursor") String cursor,
+		Limit limit
+	);
+
+	@Query("""
+		select new com.gathering.gathering.domain.model.GatheringSummary(
+			g.tsid, g.name, g.regionTsid, g.category, g.mainImageUrl, g.participantCount, g.createdAt)
+		from GatheringEntity g
+		where g.rootRegionTsid = :rootRegionTsid
+			and g.category = :category
+			and g.tsid < :cursor
+		order by g.tsid desc
+		""")
+	List<GatheringSummary> findSummariesByRootRegionAndCategory(
+		@Param("rootRegionTsid") String rootRegionTsid,
+		@Param("category") GatheringCategory category,
+		@Param("cursor") String cursor,
+		Limit limit
+	);
+
+	@Query("""
+		select new com.gathering.gathering.domain.model.GatheringSummary(
+			g.tsid, g.name, g.regionTsid, g.category, g.mainImageUrl, g.participantCount, g.createdAt)
+		from GatheringEntity g
+		where g.regionTsid in :regionTsids
+			and g.tsid < :cursor
+		order by g.tsid desc
+		""")
+	List<GatheringSummary> findSummariesByRegions(
+		@Param("regionTsids") Collection<String> regionTsids,
+		@Param("cursor") String cursor,
+		Limit limit
+	);
+
+	@Query("""
+		select new com.gathering.gathering.domain.model.GatheringSummary(
+			g.tsid, g.name, g.regionTsid, g.category, g.mainImageUrl, g.participantCount, g.createdAt)
+		from GatheringEntity g
+		where g.regionTsid in :regionTsids
+			and g.category = :category
+			and g.tsid < :cursor
+		order by g.tsid desc
+		""")
+	List<GatheringSummary> findSummariesByRegionsAndCategory(
+		@Param("regionTsids") Collection<String> regionTsids,
+		@Param("category") GatheringCategory category,
+		@Param("cursor") String cursor,
+		Limit limit
+	);
+
+	/**
+	 * TSID 목록으로 목록용 프로젝션 조회 (검색 결과 카드 구성용, PK IN 조회)
+	 */
+	@Query("""
+		select new com.gathering.gathering.domain.model.GatheringSummary(
+			g.tsid, g.name, g.regionTsid, g.category, g.mainImageUrl, g.participantCount, g.createdAt)
+		from GatheringEntity g
+		where g.tsid in :tsids
+		""")
+	List<GatheringSummary> findSummariesByTsidIn(@Param("tsids") Collection<String> tsids);
+}
@@ -0,0 +1,73 @@
+package com.gathering.gathering.domain.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저 (형태소 분석기 없이 한글 부분 일치를 지원)
+ * - 한글 연속 구간: 겹치는 2글자 단위(bigram)로 분리 (예: "등산모임" → 등산, 산모, 모임), 1글자 구간은 그대로 사용
+ * - 영문/숫자 연속 구간: 소문자로 바꾼 단어 하나
+ * - 그 외 문자(공백, 문장부호 등)는 구분자
+ * 문서와 검색어에 같은 규칙을 적용하므로 "산모임"처럼 단어 중간부터 입력해도 일치
+ */
+public final class HangulBigramTokenizer {
+
+	private HangulBigramTokenizer() {
+	}
+
+	/**
+	 * 토큰 분리 (중복 포함, 등장 순서)
+	 * @param text 원문 (null이면 빈 목록)
+	 * @return 토큰 목록
+	 */
+	public static List<String> tokenize(String text) {
+		List<String> tokens = new ArrayList<>();
+		if (text == null) {
+			return tokens;
+		}
+
+		int length = text.length();
+		int i = 0;
+		while (i < length) {
+			char c = text.charAt(i);
+			if (isHangul(c)) {
+				int end = i;
+				while (end < length && isHangul(text.charAt(end))) {
+					end++;
+				}
+				addBigrams(text, i, end, tokens);
+				i = end;
+			} else if (Character.isLetterOrDigit(c)) {
+				int end = i;
+				while (end < length && !isHangul(text.charAt(end)) && Character.isLetterOrDigit(text.charAt(end))) {
+					end++;
+				}
+				tokens.add(text.substring(i, end).toLowerCase(Locale.ROOT));
+				i = end;
+			} else {
+				i++;
+			}
+		}
+		return tokens;
+	}
+
+	private static void addBigrams(String text, int start, int end, List<String> tokens) {
+		if (end - start == 1) {
+			tokens.add(text.substring(start, end));
+			return;
+		}
+		for (int i = start; i + 1 < end; i++) {
+			tokens.add(text.substring(i, i + 2));
+		}
+	}
+
+	/**
+	 * 한글 음절 및 자모 (호환 자모 포함)
+	 */
+	private static boolean isHangul(char c) {
+		return (c >= '가' && c <= '힣')
+			|| (c >= '\u1100' && c <= '\u11FF')
+			|| (c >= '\u3130' && c <= '\u318F');
+	}
+}
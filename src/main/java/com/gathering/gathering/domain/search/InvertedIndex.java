@@ -0,0 +1,408 @@
+package com.gathering.gathering.domain.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.gathering.gathering.domain.model.GatheringCategory;
+
+/**
+ * 모임 검색용 메모리 역색인
+ * - 이름/설명을 HangulBigramTokenizer로 나눈 토큰마다 압축 포스팅 리스트 유지
+ * - 검색어의 모든 토큰을 포함하는 모임만 반환 (AND), 순위는 BM25 점수 합
+ * - 카테고리/지역 필터는 후보 문서마다 메모리 배열로 확인 (DB 조회 없음)
+ * - 수정 시 기존 문서는 삭제 표시 후 새 문서 ID로 추가하고, 삭제 표시가 일정 비율을 넘으면 포스팅 리스트를 재작성
+ * 조회는 읽기 락, 색인 변경은 쓰기 락으로 보호 (변경은 모임 생성/수정 시에만 발생)
+ */
+public class InvertedIndex {
+
+	/**
+	 * BM25 파라미터 (출현 빈도 포화 정도, 문서 길이 정규화 정도)
+	 */
+	private static final double K1 = 1.2;
+	private static final double B = 0.75;
+
+	/**
+	 * 이름 토큰 가중치 (설명보다 이름에 등장한 토큰을 더 관련도 높게 취급)
+	 */
+	private static final int NAME_WEIGHT = 3;
+
+	/**
+	 * 전체 문서 대비 삭제 표시 문서 비율이 이 값을 넘으면 재작성
+	 */
+	private static final double COMPACTION_RATIO = 0.2;
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<String, PostingList> postings = new HashMap<>();
+	private final Map<String, Integer> docIdByTsid = new HashMap<>();
+	private final BitSet deleted = new BitSet();
+
+	private String[] tsids = new String[INITIAL_CAPACITY];
+	private String[] regionTsids = new String[INITIAL_CAPACITY];
+	private GatheringCategory[] categories = new GatheringCategory[INITIAL_CAPACITY];
+	private int[] lengths = new int[INITIAL_CAPACITY];
+	private int nextDocId;
+	private int deletedCount;
+	private long totalLength;
+
+	/**
+	 * 모임 색인 (이미 색인된 모임이면 교체)
+	 * @param document 색인할 모임
+	 */
+	public void upsert(SearchDocument document) {
+		Map<String, Integer> frequencies = termFrequencies(document);
+
+		lock.writeLock().lock();
+		try {
+			removeInternal(document.tsid());
+
+			int docId = nextDocId++;
+			ensureCapacity(docId + 1);
+			tsids[docId] = document.tsid();
+			regionTsids[docId] = document.regionTsid();
+			categories[docId] = document.category();
+
+			int length = 0;
+			for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+				postings.computeIfAbsent(entry.getKey(), term -> new PostingList()).add(docId, entry.getValue());
+				length += entry.getValue();
+			}
+			lengths[docId] = length;
+			totalLength += length;
+			docIdByTsid.put(document.tsid(), docId);
+
+			compactIfNeeded();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 모임 색인 제거
+	 * @param tsid 모임 TSID
+	 * @return 색인되어 있었으면 true
+	 */
+	public boolean remove(String tsid) {
+		lock.writeLock().lock();
+		try {
+			boolean removed = removeInternal(tsid);
+			if (removed) {
+				compactIfNeeded();
+			}
+			return removed;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 검색
+	 * 1. 검색어를 토큰으로 나누고, 색인에 없는 토큰이 하나라도 있으면 빈 결과
+	 * 2. 가장 짧은 포스팅 리스트를 순회하며 필터를 통과한 문서마다 나머지 포스팅 리스트의 커서를 같은 문서로 이동
+	 *    (모든 리스트에 있는 문서만 BM25 점수 합산, 커서는 앞으로만 이동하므로 각 리스트를 한 번만 디코딩)
+	 * 3. 상위 limit개만 힙에 유지하여 점수 내림차순(같으면 최신순)으로 반환
+	 * @param query 검색어
+	 * @param category 카테고리 필터 (null이면 전체)
+	 * @param regionTsidFilter 지역 필터 (null이면 전체)
+	 * @param limit 최대 결과 수
+	 * @return 검색 결과
+	 */
+	public List<SearchHit> search(String query, GatheringCategory category, Set<String> regionTsidFilter,
+		int limit) {
+		Set<String> terms = new LinkedHashSet<>(HangulBigramTokenizer.tokenize(query));
+		if (terms.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+
+		lock.readLock().lock();
+		try {
+			List<PostingList> lists = new ArrayList<>(terms.size());
+			for (String term : terms) {
+				PostingList list = postings.get(term);
+				if (list == null) {
+					return List.of();
+				}
+				lists.add(list);
+			}
+			lists.sort(Comparator.comparingInt(PostingList::size));
+
+			int documentCount = docIdByTsid.size();
+			double averageLength = documentCount > 0 ? (double)totalLength / documentCount : 0;
+
+			PostingList.Cursor[] cursors = new PostingList.Cursor[lists.size()];
+			double[] idfs = new double[lists.size()];
+			for (int i = 0; i < lists.size(); i++) {
+				cursors[i] = lists.get(i).cursor();
+				idfs[i] = idf(lists.get(i), documentCount);
+			}
+
+			TopHits topHits = new TopHits(limit);
+			PostingList.Cursor lead = cursors[0];
+			candidates:
+			while (lead.next()) {
+				int docId = lead.docId();
+				if (deleted.get(docId) || !matches(docId, category, regionTsidFilter)) {
+					continue;
+				}
+
+				double score = idfs[0] * termScore(lead.frequency(), lengths[docId], averageLength);
+				for (int i = 1; i < cursors.length; i++) {
+					if (!cursors[i].advance(docId)) {
+						break candidates;
+					}
+					if (cursors[i].docId() != docId) {
+						continue candidates;
+					}
+					score += idfs[i] * termScore(cursors[i].frequency(), lengths[docId], averageLength);
+				}
+				topHits.offer(docId, score);
+			}
+			return topHits.toList(tsids);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 색인된 모임 수
+	 */
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return docIdByTsid.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 토큰 종류 수 (모니터링용)
+	 */
+	public int termCount() {
+		lock.readLock().lock();
+		try {
+			return postings.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 포스팅 리스트 전체 크기 (바이트, 모니터링용)
+	 */
+	public long postingBytes() {
+		lock.readLock().lock();
+		try {
+			return postings.values().stream()
+				.mapToLong(PostingList::byteLength)
+				.sum();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private boolean matches(int docId, GatheringCategory category, Set<String> regionTsidFilter) {
+		return (category == null || categories[docId] == category)
+			&& (regionTsidFilter == null || regionTsidFilter.contains(regionTsids[docId]));
+	}
+
+	/**
+	 * 역문서 빈도 (적은 모임에만 등장하는 토큰일수록 큼, 항상 0 이상)
+	 */
+	private static double idf(PostingList list, int documentCount) {
+		int documentFrequency = Math.min(list.size(), documentCount);
+		return Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+	}
+
+	/**
+	 * BM25의 출현 빈도 항 (빈도가 높을수록 커지되 포화되고, 긴 문서일수록 작아짐)
+	 */
+	private static double termScore(int frequency, int length, double averageLength) {
+		double normalization = averageLength > 0 ? 1 - B + B * length / averageLength : 1;
+		return frequency * (K1 + 1) / (frequency + K1 * normalization);
+	}
+
+	private static Map<String, Integer> termFrequencies(SearchDocument document) {
+		Map<String, Integer> frequencies = new HashMap<>();
+		for (String token : HangulBigramTokenizer.tokenize(document.name())) {
+			frequencies.merge(token, NAME_WEIGHT, Integer::sum);
+		}
+		for (String token : HangulBigramTokenizer.tokenize(document.description())) {
+			frequencies.merge(token, 1, Integer::sum);
+		}
+		return frequencies;
+	}
+
+	private boolean removeInternal(String tsid) {
+		Integer docId = docIdByTsid.remove(tsid);
+		if (docId == null) {
+			return false;
+		}
+		deleted.set(docId);
+		deletedCount++;
+		totalLength -= lengths[docId];
+		tsids[docId] = null;
+		regionTsids[docId] = null;
+		categories[docId] = null;
+		return true;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity <= tsids.length) {
+			return;
+		}
+		int newCapacity = Math.max(capacity, tsids.length + (tsids.length >> 1));
+		tsids = Arrays.copyOf(tsids, newCapacity);
+		regionTsids = Arrays.copyOf(regionTsids, newCapacity);
+		categories = Arrays.copyOf(categories, newCapacity);
+		lengths = Arrays.copyOf(lengths, newCapacity);
+	}
+
+	/**
+	 * 삭제 표시된 문서를 빼고 문서 ID를 다시 매겨 포스팅 리스트 재작성
+	 * 순서를 유지한 채 ID를 당기므로 재작성 후에도 포스팅 리스트는 ID 증가 순서
+	 */
+	private void compactIfNeeded() {
+		if (deletedCount == 0 || deletedCount <= nextDocId * COMPACTION_RATIO) {
+			return;
+		}
+
+		int[] remap = new int[nextDocId];
+		int newDocId = 0;
+		for (int docId = 0; docId < nextDocId; docId++) {
+			if (deleted.get(docId)) {
+				remap[docId] = -1;
+				continue;
+			}
+			remap[docId] = newDocId;
+			tsids[newDocId] = tsids[docId];
+			regionTsids[newDocId] = regionTsids[docId];
+			categories[newDocId] = categories[docId];
+			lengths[newDocId] = lengths[docId];
+			newDocId++;
+		}
+		Arrays.fill(tsids, newDocId, nextDocId, null);
+		Arrays.fill(regionTsids, newDocId, nextDocId, null);
+		Arrays.fill(categories, newDocId, nextDocId, null);
+
+		Iterator<Map.Entry<String, PostingList>> iterator = postings.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, PostingList> entry = iterator.next();
+			PostingList compacted = new PostingList();
+			PostingList.Cursor cursor = entry.getValue().cursor();
+			while (cursor.next()) {
+				int docId = remap[cursor.docId()];
+				if (docId >= 0) {
+					compacted.add(docId, cursor.frequency());
+				}
+			}
+			if (compacted.size() == 0) {
+				iterator.remove();
+			} else {
+				entry.setValue(compacted);
+			}
+		}
+
+		docIdByTsid.replaceAll((tsid, docId) -> remap[docId]);
+		deleted.clear();
+		deletedCount = 0;
+		nextDocId = newDocId;
+	}
+
+	/**
+	 * 상위 limit개 유지용 최소 힙 (점수가 낮고, 같으면 문서 ID가 작은(오래된) 항목이 루트)
+	 * 후보마다 객체를 만들지 않도록 문서 ID와 점수를 기본형 배열로 보관
+	 */
+	private static final class TopHits {
+
+		private final int[] docIds;
+		private final double[] scores;
+		private int size;
+
+		TopHits(int limit) {
+			this.docIds = new int[limit];
+			this.scores = new double[limit];
+		}
+
+		void offer(int docId, double score) {
+			if (size < docIds.length) {
+				docIds[size] = docId;
+				scores[size] = score;
+				siftUp(size++);
+			} else if (isLower(docIds[0], scores[0], docId, score)) {
+				// 힙이 찬 뒤에는 현재 최솟값보다 큰 후보만 교체 (대부분의 후보는 비교 1회로 끝남)
+				docIds[0] = docId;
+				scores[0] = score;
+				siftDown(0);
+			}
+		}
+
+		/**
+		 * 점수 내림차순(같으면 최신순) 결과
+		 */
+		List<SearchHit> toList(String[] tsids) {
+			SearchHit[] hits = new SearchHit[size];
+			while (size > 0) {
+				hits[size - 1] = new SearchHit(tsids[docIds[0]], scores[0]);
+				size--;
+				docIds[0] = docIds[size];
+				scores[0] = scores[size];
+				siftDown(0);
+			}
+			return List.of(hits);
+		}
+
+		private static boolean isLower(int docId, double score, int otherDocId, double otherScore) {
+			return score < otherScore || (score == otherScore && docId < otherDocId);
+		}
+
+		private void siftUp(int index) {
+			while (index > 0) {
+				int parent = (index - 1) >>> 1;
+				if (!isLower(docIds[index], scores[index], docIds[parent], scores[parent])) {
+					return;
+				}
+				swap(index, parent);
+				index = parent;
+			}
+		}
+
+		private void siftDown(int index) {
+			while (true) {
+				int smallest = index;
+				int left = 2 * index + 1;
+				int right = left + 1;
+				if (left < size && isLower(docIds[left], scores[left], docIds[smallest], scores[smallest])) {
+					smallest = left;
+				}
+				if (right < size && isLower(docIds[right], scores[right], docIds[smallest], scores[smallest])) {
+					smallest = right;
+				}
+				if (smallest == index) {
+					return;
+				}
+				swap(index, smallest);
+				index = smallest;
+			}
+		}
+
+		private void swap(int i, int j) {
+			int docId = docIds[i];
+			docIds[i] = docIds[j];
+			docIds[j] = docId;
+			double score = scores[i];
+			scores[i] = scores[j];
+			scores[j] = score;
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.gathering.gathering.domain.search;
+
+import java.util.Arrays;
+
+/**
+ * 압축 포스팅 리스트 (토큰 하나가 등장한 문서 목록)
+ * 문서 ID는 증가하는 순서로만 추가되므로 이전 ID와의 차이(delta)와 출현 빈도를 가변 길이 정수(varint)로 저장
+ * 대부분의 항목이 2바이트 안팎이라 int 배열 두 개(8바이트)로 저장할 때보다 메모리를 크게 줄임
+ * 스레드 안전하지 않으며 InvertedIndex의 락 안에서만 사용
+ */
+final class PostingList {
+
+	private static final int INITIAL_CAPACITY = 8;
+
+	private byte[] bytes = new byte[INITIAL_CAPACITY];
+	private int byteLength;
+	private int size;
+	private int lastDocId = -1;
+
+	/**
+	 * 항목 추가
+	 * @param docId 문서 ID (직전에 추가한 ID보다 커야 함)
+	 * @param frequency 문서 내 출현 빈도
+	 */
+	void add(int docId, int frequency) {
+		if (docId <= lastDocId) {
+			throw new IllegalArgumentException("문서 ID는 증가하는 순서로 추가해야 합니다: " + docId);
+		}
+		writeVarint(docId - lastDocId);
+		writeVarint(frequency);
+		lastDocId = docId;
+		size++;
+	}
+
+	/**
+	 * 항목 수 (삭제 표시된 문서 포함, IDF 계산에 사용)
+	 */
+	int size() {
+		return size;
+	}
+
+	int byteLength() {
+		return byteLength;
+	}
+
+	Cursor cursor() {
+		return new Cursor();
+	}
+
+	private void writeVarint(int value) {
+		if (byteLength + 5 > bytes.length) {
+			bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, byteLength + 5));
+		}
+		while ((value & ~0x7F) != 0) {
+			bytes[byteLength++] = (byte)((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		bytes[byteLength++] = (byte)value;
+	}
+
+	/**
+	 * 순방향 디코딩 커서
+	 */
+	final class Cursor {
+
+		private int offset;
+		private int docId = -1;
+		private int frequency;
+
+		/**
+		 * 다음 항목으로 이동
+		 * @return 항목이 있으면 true
+		 */
+		boolean next() {
+			if (offset >= byteLength) {
+				return false;
+			}
+			docId += readVarint();
+			frequency = readVarint();
+			return true;
+		}
+
+		/**
+		 * target 이상인 첫 항목으로 이동
+		 * @return 항목이 있으면 true
+		 */
+		boolean advance(int target) {
+			while (docId < target) {
+				if (!next()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		int docId() {
+			return docId;
+		}
+
+		int frequency() {
+			return frequency;
+		}
+
+		private int readVarint() {
+			int value = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = bytes[offset++];
+				value |= (b & 0x7F) << shift;
+				shift += 7;
+			} while ((b & 0x80) != 0);
+			return value;
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package com.gathering.gathering.domain.search;
+
+import com.gathering.gathering.domain.model.GatheringCategory;
+import com.gathering.gathering.domain.model.GatheringEntity;
+
+/**
+ * 검색 색인 대상 모임
+ * 본문(이름, 설명)은 토큰으로만 색인하고 원문은 보관하지 않음
+ */
+public record SearchDocument(
+	String tsid,
+	String name,
+	String description,
+	GatheringCategory category,
+	String regionTsid
+) {
+
+	public static SearchDocument from(GatheringEntity entity) {
+		return new SearchDocument(
+			entity.getTsid(),
+			entity.getName(),
+			entity.getDescription(),
+			entity.getCategory(),
+			entity.getRegionTsid()
+		);
+	}
+}
@@ -0,0 +1,9 @@
+package com.gathering.gathering.domain.search;
+
+/**
+ * 검색 결과 항목
+ * @param tsid 모임 TSID
+ * @param score BM25 점수 (클수록 관련도 높음)
+ */
+public record SearchHit(String tsid, double score) {
+}
@@ -0,0 +1,78 @@
+package com.gathering.gathering.infra;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.gathering.gathering.application.GatheringFeedService;
+import com.gathering.gathering.application.GatheringSearchService;
+import com.gathering.gathering.domain.model.GatheringCategory;
+import com.gathering.gathering.domain.model.GatheringEntity;
+import com.gathering.gathering.domain.model.GatheringSummary;
+import com.gathering.gathering.domain.search.SearchDocument;
+import com.gathering.region.application.RegionService;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 모임 엔티티 변경을 검색 색인과 홈 피드에 반영하는 JPA 엔티티 리스너
+ * 저장 전에는 지역 계층 구조로 비정규화 컬럼(최상위 지역)을 지정
+ * 롤백된 변경이 남지 않도록 트랜잭션 커밋 후에 반영
+ * (Hibernate가 스프링 빈으로 생성하며, JPA 초기화 시점에 서비스가 아직 없으므로 ObjectProvider로 지연 조회)
+ * JDBC로 직접 변경하는 참여자 수는 이 리스너를 거치지 않으므로 참여/탈퇴 시 GatheringParticipationService가 피드를 갱신
+ */
+@Component
+@RequiredArgsConstructor
+public class GatheringChangeListener {
+
+	private final ObjectProvider<GatheringSearchService> gatheringSearchService;
+	private final ObjectProvider<GatheringFeedService> gatheringFeedService;
+	private final ObjectProvider<RegionService> regionService;
+
+	@PrePersist
+	@PreUpdate
+	public void assignRootRegion(GatheringEntity gathering) {
+		gathering.assignRootRegion(regionService.getObject().findRootTsid(gathering.getRegionTsid()));
+	}
+
+	@PostPersist
+	@PostUpdate
+	public void onSave(GatheringEntity gathering) {
+		SearchDocument document = SearchDocument.from(gathering);
+		GatheringSummary summary = GatheringSummary.from(gathering, gathering.getParticipantCount());
+		afterCommit(() -> {
+			gatheringSearchService.getObject().index(document);
+			gatheringFeedService.getObject().publish(summary);
+		});
+	}
+
+	@PostRemove
+	public void onRemove(GatheringEntity gathering) {
+		String tsid = gathering.getTsid();
+		String regionTsid = gathering.getRegionTsid();
+		GatheringCategory category = gathering.getCategory();
+		afterCommit(() -> {
+			gatheringSearchService.getObject().remove(tsid);
+			gatheringFeedService.getObject().remove(tsid, regionTsid, category);
+		});
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
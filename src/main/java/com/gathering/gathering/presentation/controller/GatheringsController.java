@@ -0,0 +1,130 @@
+package com.gathering.gathering.presentation.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.gathering.auth.application.AuthService;
+import com.gathering.gathering.application.GatheringFeedService;
+import com.gathering.gathering.application.GatheringParticipationService;
+import com.gathering.gathering.application.GatheringSearchService;
+import com.gathering.gathering.application.GatheringTrendingService;
+import com.gathering.gathering.application.GatheringService;
+import com.gathering.gathering.domain.model.GatheringCategory;
+import com.gathering.gathering.presentation.dto.GatheringListResponse;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+@RequestMapping("/gatherings")
+@RestController
+@RequiredArgsConstructor
+public class GatheringsController {
+
+	private final GatheringService gatheringService;
+	private final GatheringSearchService gatheringSearchService;
+	private final GatheringFeedService gatheringFeedService;
+	private final GatheringTrendingService gatheringTrendingService;
+	private final GatheringParticipationService gatheringParticipationService;
+	private final AuthService authService;
+
+	/**
+	 * 모임 목록 조회 (최신순, keyset 페이지네이션)
+	 */
+	@GetMapping
+	public ResponseEntity<GatheringListResponse> getGatherings(
+		@RequestParam(required = false) GatheringCategory category,
+		@RequestParam(name = "region_tsid", required = false) String regionTsid,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(required = false) Integer size) {
+		GatheringListResponse response = gatheringService.getGatherings(category, regionTsid, cursor, size);
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * 홈 피드 조회 (최신성 + 참여자 수 점수순, Redis에서만 조회)
+	 */
+	@GetMapping("/feed")
+	public ResponseEntity<GatheringListResponse> getFeed(
+		@RequestParam(required = false) GatheringCategory category,
+		@RequestParam(name = "region_tsid", required = false) String regionTsid,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(required = false) Integer size) {
+		GatheringListResponse response = gatheringFeedService.getFeed(regionTsid, category, cursor, size);
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * 인기 모임 조회 (최근 참여/조회가 많은 순, 상위 size개)
+	 */
+	@GetMapping("/trending")
+	public ResponseEntity<GatheringListResponse> getTrending(
+		@RequestParam(required = false) GatheringCategory category,
+		@RequestParam(name = "region_tsid", required = false) String regionTsid,
+		@RequestParam(required = false) Integer size) {
+		GatheringListResponse response = gatheringTrendingService.getTrending(regionTsid, category, size);
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * 모임 조회 기록 (인기 모임 점수 반영, 모임 상세 화면 진입 시 호출)
+	 * 같은 사용자의 반복 조회는 일정 시간 동안 한 번만 반영
+	 */
+	@PostMapping("/{tsid}/views")
+	public ResponseEntity<Void> recordView(HttpServletRequest request, @PathVariable String tsid) {
+		String userTsid = authService.getCurrentUserTsid(request);
+		gatheringTrendingService.recordView(tsid, userTsid);
+		return ResponseEntity.noContent().build();
+	}
+
+	/**
+	 * 내가 참여한 모임 목록 조회 (최근 참여순, keyset 페이지네이션)
+	 */
+	@GetMapping("/me")
+	public ResponseEntity<GatheringListResponse> getMyGatherings(
+		HttpServletRequest request,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(required = false) Integer size) {
+		String userTsid = authService.getCurrentUserTsid(request);
+		GatheringListResponse response = gatheringService.getMyGatherings(userTsid, cursor, size);
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * 모임 검색 (이름/설명, 관련도순)
+	 */
+	@GetMapping("/search")
+	public ResponseEntity<GatheringListResponse> searchGatherings(
+		@RequestParam String query,
+		@RequestParam(required = false) GatheringCategory category,
+		@RequestParam(name = "region_tsid", required = false) String regionTsid,
+		@RequestParam(required = false) Integer size) {
+		GatheringListResponse response = gatheringSearchService.search(query, category, regionTsid, size);
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * 모임 참여
+	 */
+	@PostMapping("/{tsid}/participants")
+	public ResponseEntity<Void> join(HttpServletRequest request, @PathVariable String tsid) {
+		String userTsid = authService.getCurrentUserTsid(request);
+		gatheringParticipationService.join(tsid, userTsid);
+		return ResponseEntity.noContent().build();
+	}
+
+	/**
+	 * 모임 탈퇴
+	 */
+	@DeleteMapping("/{tsid}/participants/me")
+	public ResponseEntity<Void> leave(HttpServletRequest request, @PathVariable String tsid) {
+		String userTsid = authService.getCurrentUserTsid(request);
+		gatheringParticipationService.leave(tsid, userTsid);
+		return ResponseEntity.noContent().build();
+	}
+}
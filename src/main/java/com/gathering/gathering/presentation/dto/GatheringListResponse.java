@@ -0,0 +1,18 @@
+package com.gathering.gathering.presentation.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 모임 목록 응답 DTO (keyset 페이지네이션)
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 전달하여 조회
+ */
+@Getter
+@Builder
+public class GatheringListResponse {
+	private List<GatheringSummaryResponse> gatherings;
+	private String nextCursor;
+	private boolean hasNext;
+}
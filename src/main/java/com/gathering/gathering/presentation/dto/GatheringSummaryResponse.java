@@ -0,0 +1,46 @@
+package com.gathering.gathering.presentation.dto;
+
+import java.time.Instant;
+
+import com.gathering.gathering.domain.model.GatheringCategory;
+import com.gathering.gathering.domain.model.GatheringSummary;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 모임 목록 항목 응답 DTO
+ * 홈 피드 카드로 Redis에도 JSON으로 저장됨
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PRIVATE)  // Jackson 역직렬화용
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class GatheringSummaryResponse {
+	private String tsid;
+	private String name;
+	private String regionTsid;
+	private String regionName;
+	private GatheringCategory category;
+	private String categoryDescription;
+	private String mainImageUrl;
+	private int participantCount;
+	private Instant createdAt;
+
+	public static GatheringSummaryResponse from(GatheringSummary summary, String regionName) {
+		return GatheringSummaryResponse.builder()
+			.tsid(summary.tsid())
+			.name(summary.name())
+			.regionTsid(summary.regionTsid())
+			.regionName(regionName)
+			.category(summary.category())
+			.categoryDescription(summary.category().getDescription())
+			.mainImageUrl(summary.mainImageUrl())
+			.participantCount(summary.participantCount())
+			.createdAt(summary.createdAt())
+			.build();
+	}
+}
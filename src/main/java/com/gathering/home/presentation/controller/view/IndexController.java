@@ -1,13 +1,25 @@
 package com.gathering.home.presentation.controller.view;
 
 import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
+import com.gathering.gathering.application.GatheringFeedService;
+
+import lombok.RequiredArgsConstructor;
+
 @Controller
+@RequiredArgsConstructor
 public class IndexController {
 
+	private final GatheringFeedService gatheringFeedService;
+
+	/**
+	 * 홈 화면 (모임 카드는 Redis 홈 피드에서 조회, DB 조회 없음)
+	 */
 	@GetMapping("/")
-	public String index() {
+	public String index(Model model) {
+		model.addAttribute("feed", gatheringFeedService.getFeed(null, null, null, null));
 		return "/home/index";
 	}
 }
@@ -0,0 +1,201 @@
+package com.gathering.region.application;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gathering.region.domain.model.Region;
+import com.gathering.region.domain.model.RegionDataVersionEntity;
+import com.gathering.region.domain.model.RegionEntity;
+import com.gathering.region.domain.repository.RegionBulkRepository.UpsertResult;
+import com.gathering.region.domain.repository.RegionDataVersionRepository;
+import com.gathering.region.domain.repository.RegionRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지역 마스터 데이터 적재
+ * CSV(code,name,path,depth)를 한 줄씩 읽어 batch_size 단위로 코드 기준 UPSERT
+ * 원본의 SHA-256이 마지막 적재 시점과 같으면 파일을 파싱하지 않고 생략하므로 배포마다 테이블을 다시 쓰지 않음
+ * 원본에서 빠진 지역은 모임이 참조하고 있을 수 있으므로 삭제하지 않음
+ * 생략과 TSID 유지는 스키마를 보존하는 ddl-auto(validate, none, update)에서만 동작
+ * (create는 시작마다 적재 이력과 regions를 다시 만들므로 항상 적재하며, 모임도 함께 비워지므로 참조가 끊기지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegionDataLoader {
+
+	private static final String CSV_HEADER = "code,name,path,depth";
+	private static final int CSV_COLUMN_COUNT = 4;
+	private static final String UTF8_BOM = "\uFEFF";
+
+	private final RegionRepository regionRepository;
+	private final RegionDataVersionRepository regionDataVersionRepository;
+	private final ResourceLoader resourceLoader;
+	private final PlatformTransactionManager transactionManager;
+
+	@Value("${region.data-loader.enabled}")
+	private boolean enabled;
+
+	@Value("${region.data-loader.location}")
+	private String location;
+
+	@Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+	private int batchSize;
+
+	/**
+	 * 설정된 원본이 바뀐 경우에만 적재
+	 * @return 적재 여부 (비활성화 또는 변경 없음이면 false)
+	 */
+	public boolean loadIfChanged() {
+		if (!enabled) {
+			return false;
+		}
+		return loadIfChanged(location, resourceLoader.getResource(location));
+	}
+
+	/**
+	 * 원본이 바뀐 경우에만 적재
+	 * 1. 원본 전체를 스트리밍으로 읽어 SHA-256 계산
+	 * 2. 적재 이력의 체크섬과 같으면 생략
+	 * 3. 한 트랜잭션에서 batch_size 단위 UPSERT 후 적재 이력 갱신 (실패 시 이력도 롤백되어 다음 시작 때 재시도)
+	 * @param source 적재 이력 키
+	 * @param resource CSV 원본
+	 * @return 적재 여부
+	 */
+	public boolean loadIfChanged(String source, Resource resource) {
+		String checksum = checksum(resource);
+		boolean unchanged = regionDataVersionRepository.findById(source)
+			.filter(version -> version.getChecksum().equals(checksum))
+			.isPresent();
+		if (unchanged) {
+			log.info("지역 마스터 데이터 변경 없음, 적재 생략: source={}", source);
+			return false;
+		}
+
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			int rowCount = upsertAll(resource);
+			regionDataVersionRepository.save(RegionDataVersionEntity.builder()
+				.source(source)
+				.checksum(checksum)
+				.rowCount(rowCount)
+				.loadedAt(Instant.now())
+				.build());
+		});
+		return true;
+	}
+
+	private int upsertAll(Resource resource) {
+		UpsertResult total = new UpsertResult(0, 0);
+		List<RegionEntity> chunk = new ArrayList<>(batchSize);
+		Set<String> seenCodes = new HashSet<>();
+		int rowCount = 0;
+
+		try (BufferedReader reader = new BufferedReader(
+			new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+			String header = reader.readLine();
+			if (header == null || !CSV_HEADER.equals(stripBom(header).strip())) {
+				throw new IllegalStateException("지역 CSV 헤더가 올바르지 않습니다: " + header);
+			}
+
+			String line;
+			int lineNumber = 1;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				if (line.isBlank()) {
+					continue;
+				}
+				RegionEntity region = parse(line, lineNumber);
+				if (!seenCodes.add(region.getCode())) {
+					throw new IllegalStateException("지역 CSV " + lineNumber + "행: 중복 코드 " + region.getCode());
+				}
+
+				chunk.add(region);
+				rowCount++;
+				if (chunk.size() >= batchSize) {
+					total = total.plus(regionRepository.upsert(chunk));
+					chunk = new ArrayList<>(batchSize);
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		total = total.plus(regionRepository.upsert(chunk));
+
+		log.info("지역 마스터 데이터 적재 완료: rows={}, inserted={}, updated={}",
+			rowCount, total.insertedCount(), total.updatedCount());
+		return rowCount;
+	}
+
+	private static RegionEntity parse(String line, int lineNumber) {
+		String[] columns = line.split(",", -1);
+		if (columns.length != CSV_COLUMN_COUNT) {
+			throw new IllegalStateException("지역 CSV " + lineNumber + "행: 컬럼 수가 올바르지 않습니다");
+		}
+
+		String code = columns[0].strip();
+		String path = columns[2].strip();
+		int depth;
+		try {
+			depth = Integer.parseInt(columns[3].strip());
+		} catch (NumberFormatException e) {
+			throw new IllegalStateException("지역 CSV " + lineNumber + "행: depth가 숫자가 아닙니다", e);
+		}
+		if (code.isEmpty() || !path.endsWith(code) || path.split(Region.PATH_SEPARATOR).length != depth) {
+			throw new IllegalStateException("지역 CSV " + lineNumber + "행: 코드/경로/깊이가 일치하지 않습니다");
+		}
+
+		return RegionEntity.builder()
+			.code(code)
+			.name(columns[1].strip())
+			.path(path)
+			.depth(depth)
+			.build();
+	}
+
+	/**
+	 * 원본 SHA-256 (16진수 64자), 파일 전체를 메모리에 올리지 않고 스트리밍으로 계산
+	 */
+	private static String checksum(Resource resource) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// 모든 JVM 구현체는 SHA-256을 지원해야 함
+			throw new IllegalStateException(e);
+		}
+
+		try (InputStream in = new DigestInputStream(resource.getInputStream(), digest)) {
+			in.transferTo(OutputStream.nullOutputStream());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static String stripBom(String header) {
+		return header.startsWith(UTF8_BOM) ? header.substring(1) : header;
+	}
+}
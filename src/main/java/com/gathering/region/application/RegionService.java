@@ -0,0 +1,77 @@
+package com.gathering.region.application;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gathering.region.domain.model.Region;
+import com.gathering.region.domain.model.RegionHierarchy;
+import com.gathering.region.domain.repository.RegionRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지역 서비스
+ * 지역은 사실상 변하지 않는 마스터 데이터이므로 시작 시 전체를 메모리에 올려 두고,
+ * 요청 경로의 지역 조회는 DB에 접근하지 않음
+ * 마스터 데이터가 갱신되면 reload()로 계층 구조를 통째로 교체 (조회 중인 요청은 이전 스냅샷 사용)
+ * 시작 시 RegionDataLoader가 원본 CSV 변경분을 먼저 반영한 뒤 계층 구조를 구성
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RegionService {
+
+	private final RegionRepository regionRepository;
+	private final RegionDataLoader regionDataLoader;
+
+	private volatile RegionHierarchy hierarchy = RegionHierarchy.empty();
+
+	@PostConstruct
+	public void init() {
+		regionDataLoader.loadIfChanged();
+		reload();
+	}
+
+	/**
+	 * DB에서 전체 지역을 읽어 계층 구조 재구성
+	 */
+	@Transactional(readOnly = true)
+	public void reload() {
+		List<Region> regions = regionRepository.findAll().stream()
+			.map(Region::from)
+			.toList();
+		this.hierarchy = RegionHierarchy.of(regions);
+		log.info("지역 계층 구조 로드 완료: {}개", regions.size());
+	}
+
+	public RegionHierarchy getHierarchy() {
+		return hierarchy;
+	}
+
+	public Optional<Region> findByTsid(String tsid) {
+		return hierarchy.findByTsid(tsid);
+	}
+
+	public Optional<Region> findByCode(String code) {
+		return hierarchy.findByCode(code);
+	}
+
+	/**
+	 * 최상위 지역 TSID (예: 종로구 → 서울특별시)
+	 */
+	public String findRootTsid(String tsid) {
+		return hierarchy.getRootTsid(tsid);
+	}
+
+	/**
+	 * 지역 + 모든 하위 지역 TSID (예: 서울특별시 → 서울특별시와 25개 구)
+	 */
+	public List<String> expandWithDescendants(String tsid) {
+		return hierarchy.getSubtreeTsids(tsid);
+	}
+}
@@ -0,0 +1,34 @@
+package com.gathering.region.domain.model;
+
+/**
+ * 지역 (메모리 상주용 불변 객체)
+ * 요청 경로에서 엔티티 대신 사용하며, path는 상위 지역 코드부터 '/'로 연결된 경로 (예: 11/11110)
+ */
+public record Region(
+	String tsid,
+	String code,
+	String name,
+	String path,
+	int depth
+) {
+
+	public static final String PATH_SEPARATOR = "/";
+
+	public static Region from(RegionEntity entity) {
+		return new Region(
+			entity.getTsid(),
+			entity.getCode(),
+			entity.getName(),
+			entity.getPath(),
+			entity.getDepth()
+		);
+	}
+
+	/**
+	 * 상위 지역 경로 (최상위 지역이면 null)
+	 */
+	public String parentPath() {
+		int index = path.lastIndexOf(PATH_SEPARATOR);
+		return index < 0 ? null : path.substring(0, index);
+	}
+}
@@ -0,0 +1,42 @@
+package com.gathering.region.domain.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지역 마스터 데이터 적재 이력
+ * 원본 파일의 SHA-256을 기록하여 내용이 바뀌지 않았으면 시작 시 적재를 생략
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "region_data_versions")
+public class RegionDataVersionEntity {
+
+	/**
+	 * 원본 위치 (예: classpath:data/regions.csv)
+	 */
+	@Id
+	@Column(nullable = false, length = 200)
+	private String source;
+
+	@Column(nullable = false, length = 64, columnDefinition = "CHAR(64)")
+	private String checksum;
+
+	@Column(name = "row_count", nullable = false)
+	private int rowCount;
+
+	@Column(name = "loaded_at", nullable = false)
+	private Instant loadedAt;
+}
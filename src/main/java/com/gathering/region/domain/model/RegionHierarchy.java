@@ -0,0 +1,172 @@
+package com.gathering.region.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 지역 계층 구조 (불변)
+ * 시작 시 한 번 구성하여 요청 경로에서는 DB 조회 없이 사용
+ * - TSID / 코드 조회: O(1)
+ * - 하위 지역: 부모 TSID별로 미리 구성한 목록
+ * - 상위 지역: path를 따라 부모를 찾아 올라감 (depth만큼)
+ * - 지역 + 모든 하위 지역: 지역별로 미리 구성한 TSID 목록 (모임 검색 시 지역 확장에 사용)
+ * - 최상위 지역: path의 첫 코드로 조회 (모임의 비정규화 컬럼 지정에 사용)
+ */
+public final class RegionHierarchy {
+
+	private static final RegionHierarchy EMPTY = new RegionHierarchy(List.of());
+
+	private final Map<String, Region> byTsid;
+	private final Map<String, Region> byCode;
+	private final Map<String, Region> byPath;
+	private final Map<String, List<Region>> childrenByTsid;
+	private final Map<String, List<String>> subtreeTsidsByTsid;
+	private final List<Region> roots;
+
+	private RegionHierarchy(Collection<Region> regions) {
+		Map<String, Region> tsidMap = new HashMap<>();
+		Map<String, Region> codeMap = new HashMap<>();
+		TreeMap<String, Region> pathMap = new TreeMap<>();
+		for (Region region : regions) {
+			tsidMap.put(region.tsid(), region);
+			codeMap.put(region.code(), region);
+			pathMap.put(region.path(), region);
+		}
+
+		// 1. 부모별 하위 지역 목록 구성
+		Map<String, List<Region>> children = new HashMap<>();
+		List<Region> rootList = new ArrayList<>();
+		for (Region region : pathMap.values()) {
+			Region parent = region.parentPath() != null ? pathMap.get(region.parentPath()) : null;
+			if (parent == null) {
+				rootList.add(region);
+			} else {
+				children.computeIfAbsent(parent.tsid(), key -> new ArrayList<>()).add(region);
+			}
+		}
+
+		// 2. 지역별 자기 자신 + 모든 하위 지역 TSID 구성 (path 접두사 범위 조회)
+		Map<String, List<String>> subtrees = new HashMap<>();
+		for (Region region : pathMap.values()) {
+			List<String> tsids = new ArrayList<>();
+			tsids.add(region.tsid());
+			pathMap.subMap(region.path() + Region.PATH_SEPARATOR, region.path() + Region.PATH_SEPARATOR + '\uffff')
+				.values()
+				.forEach(descendant -> tsids.add(descendant.tsid()));
+			subtrees.put(region.tsid(), List.copyOf(tsids));
+		}
+
+		Map<String, List<Region>> immutableChildren = new HashMap<>();
+		children.forEach((tsid, list) -> immutableChildren.put(tsid, sortedCopy(list)));
+
+		this.byTsid = Map.copyOf(tsidMap);
+		this.byCode = Map.copyOf(codeMap);
+		this.byPath = Collections.unmodifiableMap(pathMap);
+		this.childrenByTsid = Map.copyOf(immutableChildren);
+		this.subtreeTsidsByTsid = Map.copyOf(subtrees);
+		this.roots = sortedCopy(rootList);
+	}
+
+	public static RegionHierarchy of(Collection<Region> regions) {
+		return new RegionHierarchy(regions);
+	}
+
+	public static RegionHierarchy empty() {
+		return EMPTY;
+	}
+
+	public Optional<Region> findByTsid(String tsid) {
+		return Optional.ofNullable(byTsid.get(tsid));
+	}
+
+	public Optional<Region> findByCode(String code) {
+		return Optional.ofNullable(byCode.get(code));
+	}
+
+	/**
+	 * 최상위 지역 목록 (코드순)
+	 */
+	public List<Region> getRoots() {
+		return roots;
+	}
+
+	/**
+	 * 바로 아래 하위 지역 목록 (코드순)
+	 */
+	public List<Region> getChildren(String tsid) {
+		return childrenByTsid.getOrDefault(tsid, List.of());
+	}
+
+	/**
+	 * 상위 지역 목록 (최상위부터, 자기 자신 제외)
+	 */
+	public List<Region> getAncestors(String tsid) {
+		Region region = byTsid.get(tsid);
+		if (region == null) {
+			return List.of();
+		}
+
+		List<Region> ancestors = new ArrayList<>(region.depth());
+		String parentPath = region.parentPath();
+		while (parentPath != null) {
+			Region parent = byPath.get(parentPath);
+			if (parent == null) {
+				break;
+			}
+			ancestors.add(parent);
+			parentPath = parent.parentPath();
+		}
+		Collections.reverse(ancestors);
+		return ancestors;
+	}
+
+	/**
+	 * 최상위 지역 TSID (자기 자신이 최상위이거나 알 수 없는 지역이면 주어진 TSID)
+	 */
+	public String getRootTsid(String tsid) {
+		Region region = byTsid.get(tsid);
+		if (region == null) {
+			return tsid;
+		}
+
+		int index = region.path().indexOf(Region.PATH_SEPARATOR);
+		Region root = index < 0 ? region : byPath.get(region.path().substring(0, index));
+		return root != null ? root.tsid() : tsid;
+	}
+
+	/**
+	 * 모든 하위 지역 목록 (자기 자신 제외, path순)
+	 */
+	public List<Region> getDescendants(String tsid) {
+		List<String> subtree = subtreeTsidsByTsid.getOrDefault(tsid, List.of());
+		return subtree.stream()
+			.skip(1)
+			.map(byTsid::get)
+			.toList();
+	}
+
+	/**
+	 * 지역 + 모든 하위 지역 TSID (모임 검색 시 지역 확장용)
+	 * 알 수 없는 지역이면 주어진 TSID만 반환
+	 */
+	public List<String> getSubtreeTsids(String tsid) {
+		return subtreeTsidsByTsid.getOrDefault(tsid, List.of(tsid));
+	}
+
+	public int size() {
+		return byTsid.size();
+	}
+
+	private static List<Region> sortedCopy(List<Region> regions) {
+		return regions.stream()
+			.sorted(Comparator.comparing(Region::code))
+			.toList();
+	}
+}
@@ -0,0 +1,41 @@
+package com.gathering.region.domain.repository;
+
+import java.util.List;
+
+import com.gathering.region.domain.model.RegionEntity;
+
+/**
+ * 지역 대량 저장 (JPA 영속성 컨텍스트를 거치지 않는 JDBC 배치)
+ */
+public interface RegionBulkRepository {
+
+	/**
+	 * 지역 일괄 INSERT
+	 * TSID가 없는 지역은 애플리케이션에서 TSID를 생성하여 저장
+	 * @param regions 저장할 지역 목록
+	 * @return 저장된 지역 TSID 목록 (입력 순서)
+	 */
+	List<String> bulkInsert(List<RegionEntity> regions);
+
+	/**
+	 * 코드 기준 일괄 UPSERT
+	 * 1. 코드로 기존 지역 조회 (IN 1회)
+	 * 2. 없는 코드는 새 TSID로 INSERT, 이름/경로/깊이가 바뀐 코드만 UPDATE (기존 TSID 유지)
+	 * 3. 바뀌지 않은 행은 쓰지 않음
+	 * @param regions 저장할 지역 목록 (코드 중복 없음)
+	 * @return 반영 결과
+	 */
+	UpsertResult upsert(List<RegionEntity> regions);
+
+	/**
+	 * UPSERT 결과
+	 * @param insertedCount 새로 저장된 지역 수
+	 * @param updatedCount 변경된 지역 수
+	 */
+	record UpsertResult(int insertedCount, int updatedCount) {
+
+		public UpsertResult plus(UpsertResult other) {
+			return new UpsertResult(insertedCount + other.insertedCount, updatedCount + other.updatedCount);
+		}
+	}
+}
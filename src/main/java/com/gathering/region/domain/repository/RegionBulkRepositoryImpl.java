@@ -0,0 +1,110 @@
+package com.gathering.region.domain.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.gathering.region.domain.model.Region;
+import com.gathering.region.domain.model.RegionEntity;
+import com.github.f4b6a3.tsid.TsidCreator;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 지역 대량 저장 구현
+ * JdbcTemplate 배치로 batch_size 단위 전송 (MySQL은 rewriteBatchedStatements로 multi-row INSERT)
+ */
+@RequiredArgsConstructor
+public class RegionBulkRepositoryImpl implements RegionBulkRepository {
+
+	private static final String INSERT_SQL = """
+		INSERT INTO regions (tsid, code, name, path, depth, created_at)
+		VALUES (?, ?, ?, ?, ?, ?)
+		""";
+
+	private static final String UPDATE_SQL = """
+		UPDATE regions SET name = ?, path = ?, depth = ?
+		WHERE code = ?
+		""";
+
+	private static final String SELECT_BY_CODES_SQL =
+		"SELECT tsid, code, name, path, depth FROM regions WHERE code IN (";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+	private int batchSize;
+
+	@Override
+	public List<String> bulkInsert(List<RegionEntity> regions) {
+		List<String> tsids = new ArrayList<>(regions.size());
+		List<Object[]> rows = new ArrayList<>(regions.size());
+		Timestamp now = Timestamp.from(Instant.now());
+
+		for (RegionEntity region : regions) {
+			String tsid = region.getTsid() != null ? region.getTsid() : TsidCreator.getTsid().toString();
+			tsids.add(tsid);
+			rows.add(new Object[] {tsid, region.getCode(), region.getName(), region.getPath(), region.getDepth(), now});
+		}
+
+		jdbcTemplate.batchUpdate(INSERT_SQL, rows, batchSize, RegionBulkRepositoryImpl::setRow);
+		return tsids;
+	}
+
+	@Override
+	public UpsertResult upsert(List<RegionEntity> regions) {
+		if (regions.isEmpty()) {
+			return new UpsertResult(0, 0);
+		}
+
+		Map<String, Region> existingByCode = findByCodes(regions.stream().map(RegionEntity::getCode).toList());
+		List<RegionEntity> inserts = new ArrayList<>();
+		List<Object[]> updates = new ArrayList<>();
+
+		for (RegionEntity region : regions) {
+			Region existing = existingByCode.get(region.getCode());
+			if (existing == null) {
+				inserts.add(region);
+			} else if (!existing.name().equals(region.getName())
+				|| !existing.path().equals(region.getPath())
+				|| existing.depth() != region.getDepth()) {
+				updates.add(new Object[] {region.getName(), region.getPath(), region.getDepth(), region.getCode()});
+			}
+		}
+
+		bulkInsert(inserts);
+		jdbcTemplate.batchUpdate(UPDATE_SQL, updates, batchSize, RegionBulkRepositoryImpl::setRow);
+		return new UpsertResult(inserts.size(), updates.size());
+	}
+
+	private Map<String, Region> findByCodes(List<String> codes) {
+		String sql = SELECT_BY_CODES_SQL + String.join(", ", Collections.nCopies(codes.size(), "?")) + ")";
+		Map<String, Region> result = new HashMap<>(codes.size());
+		jdbcTemplate.query(sql, rs -> {
+			Region region = new Region(
+				rs.getString("tsid"),
+				rs.getString("code"),
+				rs.getString("name"),
+				rs.getString("path"),
+				rs.getInt("depth")
+			);
+			result.put(region.code(), region);
+		}, codes.toArray());
+		return result;
+	}
+
+	private static void setRow(PreparedStatement ps, Object[] row) throws SQLException {
+		for (int i = 0; i < row.length; i++) {
+			ps.setObject(i + 1, row[i]);
+		}
+	}
+}
@@ -0,0 +1,8 @@
+package com.gathering.region.domain.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.gathering.region.domain.model.RegionDataVersionEntity;
+
+public interface RegionDataVersionRepository extends JpaRepository<RegionDataVersionEntity, String> {
+}
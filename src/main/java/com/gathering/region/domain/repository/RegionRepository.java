@@ -4,5 +4,5 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.gathering.region.domain.model.RegionEntity;
 
-public interface RegionRepository extends JpaRepository<RegionEntity, String> {
+public interface RegionRepository extends JpaRepository<RegionEntity, String>, RegionBulkRepository {
 }
@@ -0,0 +1,134 @@
+package com.gathering.user.application;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 입력 형식 규칙
+ * 기존 정규식과 동일한 규칙을 한 번의 순회로 검사 (Pattern 컴파일, Matcher 생성, 백트래킹 없음)
+ * - 이메일: ^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\.[a-zA-Z]{2,}$
+ * - 비밀번호: ^(?=.*\d)(?=.*[!@#$%^&*])[a-zA-Z0-9!@#$%^&*]{8,}$
+ * - 전화번호: ^\d{10,11}$
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class UserFormatRules {
+
+	private static final int PASSWORD_MIN_LENGTH = 8;
+	private static final int PHONE_NUMBER_MIN_LENGTH = 10;
+	private static final int PHONE_NUMBER_MAX_LENGTH = 11;
+	private static final int TOP_LEVEL_DOMAIN_MIN_LENGTH = 2;
+
+	/**
+	 * 이메일 형식 검사
+	 * 1. 로컬 파트: '@' 전까지 허용 문자 1자 이상
+	 * 2. 도메인: 허용 문자만 사용, 마지막 '.' 앞은 1자 이상, 뒤(최상위 도메인)는 영문 2자 이상
+	 */
+	public static boolean isValidEmail(String email) {
+		if (email == null) {
+			return false;
+		}
+
+		int length = email.length();
+		int at = -1;
+		for (int i = 0; i < length; i++) {
+			char c = email.charAt(i);
+			if (c == '@') {
+				at = i;
+				break;
+			}
+			if (!isEmailLocalChar(c)) {
+				return false;
+			}
+		}
+		if (at <= 0) {
+			return false;
+		}
+
+		int lastDot = -1;
+		for (int i = at + 1; i < length; i++) {
+			char c = email.charAt(i);
+			if (c == '.') {
+				lastDot = i;
+			} else if (!isAsciiLetterOrDigit(c) && c != '-') {
+				return false;
+			}
+		}
+		if (lastDot <= at + 1 || length - lastDot - 1 < TOP_LEVEL_DOMAIN_MIN_LENGTH) {
+			return false;
+		}
+
+		for (int i = lastDot + 1; i < length; i++) {
+			if (!isAsciiLetter(email.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 비밀번호 형식 검사
+	 * 8자 이상, 영문/숫자/특수문자(!@#$%^&*)만 사용, 숫자와 특수문자 각각 1자 이상 포함
+	 */
+	public static boolean isValidPassword(String password) {
+		if (password == null || password.length() < PASSWORD_MIN_LENGTH) {
+			return false;
+		}
+
+		boolean hasDigit = false;
+		boolean hasSpecial = false;
+		for (int i = 0; i < password.length(); i++) {
+			char c = password.charAt(i);
+			if (isAsciiDigit(c)) {
+				hasDigit = true;
+			} else if (isPasswordSpecialChar(c)) {
+				hasSpecial = true;
+			} else if (!isAsciiLetter(c)) {
+				return false;
+			}
+		}
+		return hasDigit && hasSpecial;
+	}
+
+	/**
+	 * 전화번호 형식 검사 (숫자 10~11자리)
+	 */
+	public static boolean isValidPhoneNumber(String phoneNumber) {
+		if (phoneNumber == null) {
+			return false;
+		}
+
+		int length = phoneNumber.length();
+		if (length < PHONE_NUMBER_MIN_LENGTH || length > PHONE_NUMBER_MAX_LENGTH) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (!isAsciiDigit(phoneNumber.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isEmailLocalChar(char c) {
+		return isAsciiLetterOrDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+	}
+
+	private static boolean isPasswordSpecialChar(char c) {
+		return switch (c) {
+			case '!', '@', '#', '$', '%', '^', '&', '*' -> true;
+			default -> false;
+		};
+	}
+
+	private static boolean isAsciiLetterOrDigit(char c) {
+		return isAsciiLetter(c) || isAsciiDigit(c);
+	}
+
+	private static boolean isAsciiLetter(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+	private static boolean isAsciiDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+}
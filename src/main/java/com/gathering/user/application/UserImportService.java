@@ -0,0 +1,113 @@
+package com.gathering.user.application;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gathering.user.domain.model.UsersEntity;
+import com.gathering.user.domain.repository.UsersRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 대량 가져오기 서비스 (관리자용)
+ * 가입 API를 행마다 호출하는 대신 형식 검증 → 기존 이메일 일괄 조회 → JDBC 배치 INSERT 순으로 처리
+ * 가져온 사용자는 비밀번호가 없으므로 소셜 로그인 연동 또는 비밀번호 설정 후 로그인 가능
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserImportService {
+
+	/**
+	 * 기존 이메일 조회 시 IN 절 크기
+	 */
+	private static final int EMAIL_LOOKUP_CHUNK_SIZE = 1000;
+
+	private final UsersRepository usersRepository;
+
+	/**
+	 * 가져올 사용자 행
+	 */
+	public record ImportRow(String email, String name, String nickname, String phoneNumber) {
+	}
+
+	/**
+	 * 가져오기 결과
+	 * @param insertedCount 저장된 사용자 수
+	 * @param invalidCount 형식 오류로 제외된 행 수
+	 * @param duplicateCount 이미 가입되었거나 파일 내에서 중복된 이메일 수
+	 */
+	public record ImportResult(int insertedCount, int invalidCount, int duplicateCount) {
+	}
+
+	/**
+	 * 사용자 일괄 가져오기
+	 * 1. 이메일/전화번호 형식, 이름 필수 검증
+	 * 2. 파일 내 중복 이메일 제외 (먼저 나온 행 사용)
+	 * 3. 이미 가입된 이메일을 IN 절로 나누어 조회 후 제외
+	 * 4. 남은 사용자를 users, user_security에 JDBC 배치 INSERT
+	 * @param rows 가져올 사용자 행
+	 * @return 가져오기 결과
+	 */
+	@Transactional
+	public ImportResult importUsers(List<ImportRow> rows) {
+		int invalidCount = 0;
+		int duplicateCount = 0;
+		Set<String> seenEmails = new HashSet<>();
+		List<ImportRow> candidates = new ArrayList<>(rows.size());
+
+		for (ImportRow row : rows) {
+			if (!isValid(row)) {
+				invalidCount++;
+			} else if (!seenEmails.add(row.email())) {
+				duplicateCount++;
+			} else {
+				candidates.add(row);
+			}
+		}
+
+		Set<String> existingEmails = findExistingEmails(candidates);
+		List<UsersEntity> users = new ArrayList<>(candidates.size());
+		for (ImportRow row : candidates) {
+			if (existingEmails.contains(row.email())) {
+				duplicateCount++;
+				continue;
+			}
+			users.add(UsersEntity.builder()
+				.email(row.email())
+				.name(row.name())
+				.nickname(row.nickname())
+				.phoneNumber(row.phoneNumber())
+				.build());
+		}
+
+		usersRepository.bulkInsert(users);
+		log.info("사용자 가져오기 완료: inserted={}, invalid={}, duplicate={}",
+			users.size(), invalidCount, duplicateCount);
+		return new ImportResult(users.size(), invalidCount, duplicateCount);
+	}
+
+	private boolean isValid(ImportRow row) {
+		return row.email() != null && UserFormatRules.isValidEmail(row.email())
+			&& row.name() != null && !row.name().isBlank()
+			&& (row.phoneNumber() == null || UserFormatRules.isValidPhoneNumber(row.phoneNumber()));
+	}
+
+	private Set<String> findExistingEmails(List<ImportRow> candidates) {
+		Set<String> existingEmails = new HashSet<>();
+		for (int from = 0; from < candidates.size(); from += EMAIL_LOOKUP_CHUNK_SIZE) {
+			List<String> emails = candidates.subList(from, Math.min(from + EMAIL_LOOKUP_CHUNK_SIZE, candidates.size()))
+				.stream()
+				.map(ImportRow::email)
+				.toList();
+			existingEmails.addAll(usersRepository.findEmailsIn(emails));
+		}
+		return existingEmails;
+	}
+}
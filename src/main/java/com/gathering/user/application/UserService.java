@@ -5,7 +5,9 @@ import java.util.List;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.gathering.auth.application.PrincipalCacheService;
 import com.gathering.auth.application.RefreshTokenService;
+import com.gathering.auth.application.UserRevocationService;
 import com.gathering.auth.domain.OAuthUserInfo;
 import com.gathering.common.exception.BusinessException;
 import com.gathering.common.exception.ErrorCode;
@@ -35,6 +37,8 @@ public class UserService {
 	private final PasswordEncoder passwordEncoder;
 	private final UserValidator userValidator;
 	private final RefreshTokenService refreshTokenService;
+	private final PrincipalCacheService principalCacheService;
+	private final UserRevocationService userRevocationService;
 
 	/**
 	 * 회원가입 처리
@@ -124,6 +128,7 @@ public class UserService {
 
 		// 5. 엔티티 업데이트 (JPA dirty checking으로 자동 UPDATE)
 		user.updateProfile(nickname, name, phoneNumber);
+		principalCacheService.evict(tsid);
 
 		// 6. 업데이트된 정보 반환
 		return buildMyInfoResponse(user);
@@ -155,6 +160,7 @@ public class UserService {
 
 		// 비밀번호 업데이트 (JPA dirty checking으로 자동 UPDATE)
 		security.updatePassword(passwordEncoder.encode(newPassword));
+		principalCacheService.evict(tsid);
 	}
 
 	/**
@@ -179,6 +185,7 @@ public class UserService {
 
 		// 4. 연동 해제
 		oauthConnectionRepository.delete(connection);
+		principalCacheService.evict(tsid);
 	}
 
 	/**
@@ -230,6 +237,10 @@ public class UserService {
 
 		// 7. Redis에서 모든 refresh token 삭제 (멀티 디바이스 로그아웃)
 		refreshTokenService.deleteAllRefreshTokensByTsid(tsid);
+
+		// 8. 인증 사용자 캐시 무효화 및 취소 등록 (클레임 인증 모드의 기존 액세스 토큰 차단, 롤백 시 취소하지 않도록 커밋 후 등록)
+		principalCacheService.evict(tsid);
+		userRevocationService.revokeAfterCommit(tsid);
 	}
 
 	private void deleteUsersByTsid(String tsid) {
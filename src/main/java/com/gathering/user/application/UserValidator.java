@@ -4,6 +4,7 @@ import org.springframework.stereotype.Service;
 
 import com.gathering.common.exception.BusinessException;
 import com.gathering.common.exception.ErrorCode;
+import com.gathering.common.exception.ValidationResult;
 import com.gathering.user.domain.model.UsersEntity;
 import com.gathering.user.domain.repository.UsersRepository;
 import com.gathering.user.presentation.dto.UserJoinRequest;
@@ -23,17 +24,31 @@ public class UserValidator {
 
 	/**
 	 * 회원가입 시 사용자 정보 검증
+	 * 1. 형식 검증을 한 번에 수행 (DB 조회 전, 실패 시 첫 번째 오류로 예외)
+	 * 2. 이메일 중복 검증
 	 *
 	 * @param request 회원가입 요청 DTO
 	 */
 	public void validateForJoin(UserJoinRequest request) {
-		validateEmailFormat(request.getEmail());
+		validateJoinFormat(request).throwIfInvalid();
 		validateEmailUnique(request.getEmail());
+	}
+
+	/**
+	 * 회원가입 요청의 형식 검증 (모든 필드 오류 수집)
+	 * 전화번호는 선택 입력이므로 값이 있을 때만 검증
+	 *
+	 * @param request 회원가입 요청 DTO
+	 * @return 검증 결과
+	 */
+	public ValidationResult validateJoinFormat(UserJoinRequest request) {
 		String phoneNumber = request.getPhoneNumber();
-		if (!StringUtil.isNullOrEmpty(phoneNumber)) {
-			validatePhoneNumberFormat(request.getPhoneNumber());
-		}
-		validatePasswordFormat(request.getPassword());
+		return ValidationResult.create()
+			.check(UserFormatRules.isValidEmail(request.getEmail()), "email", ErrorCode.INVALID_EMAIL_FORMAT)
+			.check(StringUtil.isNullOrEmpty(phoneNumber) || UserFormatRules.isValidPhoneNumber(phoneNumber),
+				"phoneNumber", ErrorCode.INVALID_PHONE_NUMBER_FORMAT)
+			.check(UserFormatRules.isValidPassword(request.getPassword()), "password",
+				ErrorCode.INVALID_PASSWORD_FORMAT);
 	}
 
 	/**
@@ -76,8 +91,7 @@ public class UserValidator {
 	 * @param email 검증할 이메일
 	 */
 	public void validateEmailFormat(String email) {
-		String emailRegex = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
-		if (email == null || !email.matches(emailRegex)) {
+		if (!UserFormatRules.isValidEmail(email)) {
 			throw new BusinessException(ErrorCode.INVALID_EMAIL_FORMAT);
 		}
 	}
@@ -89,8 +103,7 @@ public class UserValidator {
 	 * @param password 검증할 비밀번호
 	 */
 	public void validatePasswordFormat(String password) {
-		String passwordRegex = "^(?=.*\\d)(?=.*[!@#$%^&*])[a-zA-Z0-9!@#$%^&*]{8,}$";
-		if (password == null || !password.matches(passwordRegex)) {
+		if (!UserFormatRules.isValidPassword(password)) {
 			throw new BusinessException(ErrorCode.INVALID_PASSWORD_FORMAT);
 		}
 	}
@@ -102,8 +115,7 @@ public class UserValidator {
 	 * @param phoneNumber 검증할 전화번호
 	 */
 	public void validatePhoneNumberFormat(String phoneNumber) {
-		String phoneNumberRegex = "^\\d{10,11}$";
-		if (phoneNumber == null || !phoneNumber.matches(phoneNumberRegex)) {
+		if (!UserFormatRules.isValidPhoneNumber(phoneNumber)) {
 			throw new BusinessException(ErrorCode.INVALID_PHONE_NUMBER_FORMAT);
 		}
 	}
@@ -67,4 +67,14 @@ public class UserSecurityEntity {
 		this.passwordHash = newPasswordHash;
 		this.passwordChangedAt = Instant.now();
 	}
+
+	/**
+	 * 같은 비밀번호를 더 강한 해시로 교체 (비용 상향/알고리즘 변경)
+	 * 사용자가 비밀번호를 바꾼 것이 아니므로 passwordChangedAt은 유지
+	 *
+	 * @param upgradedPasswordHash 재해싱한 비밀번호 해시
+	 */
+	public void upgradePasswordHash(String upgradedPasswordHash) {
+		this.passwordHash = upgradedPasswordHash;
+	}
 }
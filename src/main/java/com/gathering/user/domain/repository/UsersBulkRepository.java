@@ -0,0 +1,19 @@
+package com.gathering.user.domain.repository;
+
+import java.util.List;
+
+import com.gathering.user.domain.model.UsersEntity;
+
+/**
+ * 사용자 대량 저장 (관리자 가져오기용, JPA 영속성 컨텍스트를 거치지 않는 JDBC 배치)
+ */
+public interface UsersBulkRepository {
+
+	/**
+	 * 사용자와 보안 정보(비밀번호 없음) 일괄 INSERT
+	 * TSID가 없는 사용자는 애플리케이션에서 TSID를 생성하여 저장
+	 * @param users 저장할 사용자 목록
+	 * @return 저장된 사용자 TSID 목록 (입력 순서)
+	 */
+	List<String> bulkInsert(List<UsersEntity> users);
+}
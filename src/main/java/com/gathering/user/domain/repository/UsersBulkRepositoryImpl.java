@@ -0,0 +1,73 @@
+package com.gathering.user.domain.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.gathering.user.domain.model.UsersEntity;
+import com.github.f4b6a3.tsid.TsidCreator;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 대량 저장 구현
+ * users, user_security 순서로 각각 JdbcTemplate 배치 전송 (MySQL은 rewriteBatchedStatements로 multi-row INSERT)
+ */
+@RequiredArgsConstructor
+public class UsersBulkRepositoryImpl implements UsersBulkRepository {
+
+	private static final String INSERT_USER_SQL = """
+		INSERT INTO users (tsid, email, nickname, name, phone_number, profile_image_url, email_verified, status,
+			created_at)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+		""";
+
+	private static final String INSERT_USER_SECURITY_SQL = """
+		INSERT INTO user_security (user_tsid, failed_login_count)
+		VALUES (?, 0)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+	private int batchSize;
+
+	@Override
+	public List<String> bulkInsert(List<UsersEntity> users) {
+		List<String> tsids = new ArrayList<>(users.size());
+		List<Object[]> rows = new ArrayList<>(users.size());
+		Timestamp now = Timestamp.from(Instant.now());
+
+		for (UsersEntity user : users) {
+			String tsid = user.getTsid() != null ? user.getTsid() : TsidCreator.getTsid().toString();
+			tsids.add(tsid);
+			rows.add(new Object[] {
+				tsid,
+				user.getEmail(),
+				user.getNickname(),
+				user.getName(),
+				user.getPhoneNumber(),
+				user.getProfileImageUrl(),
+				user.getEmailVerified(),
+				user.getStatus().name(),
+				now
+			});
+		}
+
+		jdbcTemplate.batchUpdate(INSERT_USER_SQL, rows, batchSize, UsersBulkRepositoryImpl::setRow);
+		jdbcTemplate.batchUpdate(INSERT_USER_SECURITY_SQL, tsids, batchSize, (ps, tsid) -> ps.setString(1, tsid));
+		return tsids;
+	}
+
+	private static void setRow(PreparedStatement ps, Object[] row) throws SQLException {
+		for (int i = 0; i < row.length; i++) {
+			ps.setObject(i + 1, row[i]);
+		}
+	}
+}
@@ -1,17 +1,26 @@
 package com.gathering.user.domain.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.gathering.user.domain.model.UsersEntity;
 
 @Repository
-public interface UsersRepository extends JpaRepository<UsersEntity, String> {
+public interface UsersRepository extends JpaRepository<UsersEntity, String>, UsersBulkRepository {
 	boolean existsByEmail(String email);
 
 	boolean existsByPhoneNumber(String phoneNumber);
 
 	Optional<UsersEntity> findByEmail(String email);
+
+	List<UsersEntity> findAllByEmailIn(Collection<String> emails);
+
+	@Query("select u.email from UsersEntity u where u.email in :emails")
+	List<String> findEmailsIn(@Param("emails") Collection<String> emails);
 }
@@ -1,70 +0,0 @@
--- 지역 마스터 데이터 (서울특별시 + 경기도)
--- TSID는 임의로 생성된 값 (실제 TSID 생성 알고리즘과 무관)
-
--- 서울특별시 (depth=1)
-INSERT INTO regions (tsid, code, name, path, depth, created_at)
-VALUES ('0R1G1N0000001', '11', '서울특별시', '11', 1, CURRENT_TIMESTAMP);
-
--- 서울특별시 25개 구 (depth=2)
-INSERT INTO regions (tsid, code, name, path, depth, created_at)
-VALUES ('0R1G1N0000010', '11110', '종로구', '11/11110', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N0000011', '11140', '중구', '11/11140', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N0000012', '11170', '용산구', '11/11170', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N0000013', '11200', '성동구', '11/11200', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N0000014', '11215', '광진구', '11/11215', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N0000015', '11230', '동대문구', '11/11230', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N0000016', '11260', '중랑구', '11/11260', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N0000017', '11290', '성북구', '11/11290', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N0000018', '11305', '강북구', '11/11305', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N0000019', '11320', '도봉구', '11/11320', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000001A', '11350', '노원구', '11/11350', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000001B', '11380', '은평구', '11/11380', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000001C', '11410', '서대문구', '11/11410', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000001D', '11440', '마포구', '11/11440', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000001E', '11470', '양천구', '11/11470', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000001F', '11500', '강서구', '11/11500', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000001G', '11530', '구로구', '11/11530', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000001H', '11545', '금천구', '11/11545', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000001I', '11560', '영등포구', '11/11560', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000001J', '11590', '동작구', '11/11590', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000001K', '11620', '관악구', '11/11620', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000001L', '11650', '서초구', '11/11650', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000001M', '11680', '강남구', '11/11680', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000001N', '11710', '송파구', '11/11710', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000001O', '11740', '강동구', '11/11740', 2, CURRENT_TIMESTAMP);
-
--- 경기도 (depth=1)
-INSERT INTO regions (tsid, code, name, path, depth, created_at)
-VALUES ('0R1G1N0000002', '41', '경기도', '41', 1, CURRENT_TIMESTAMP);
-
--- 경기도 29개 시 (depth=2)
-INSERT INTO regions (tsid, code, name, path, depth, created_at)
-VALUES ('0R1G1N0000020', '41110', '수원시', '41/41110', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N0000021', '41130', '성남시', '41/41130', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N0000022', '41150', '의정부시', '41/41150', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N0000023', '41170', '안양시', '41/41170', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N0000024', '41190', '부천시', '41/41190', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N0000025', '41210', '광명시', '41/41210', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N0000026', '41220', '평택시', '41/41220', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N0000027', '41250', '동두천시', '41/41250', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N0000028', '41270', '안산시', '41/41270', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N0000029', '41280', '고양시', '41/41280', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000002A', '41290', '과천시', '41/41290', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000002B', '41310', '구리시', '41/41310', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000002C', '41360', '남양주시', '41/41360', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000002D', '41370', '오산시', '41/41370', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000002E', '41390', '시흥시', '41/41390', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000002F', '41410', '군포시', '41/41410', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000002G', '41430', '의왕시', '41/41430', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000002H', '41450', '하남시', '41/41450', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000002I', '41460', '용인시', '41/41460', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000002J', '41480', '파주시', '41/41480', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000002K', '41500', '이천시', '41/41500', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000002L', '41550', '안성시', '41/41550', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000002M', '41570', '김포시', '41/41570', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000002N', '41590', '화성시', '41/41590', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000002O', '41610', '광주시', '41/41610', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000002P', '41630', '양주시', '41/41630', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000002Q', '41650', '포천시', '41/41650', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000002R', '41670', '여주시', '41/41670', 2, CURRENT_TIMESTAMP),
-       ('0R1G1N000002S', '41800', '연천군', '41/41800', 2, CURRENT_TIMESTAMP);
@@ -0,0 +1,39 @@
+-- 로그인 실패 기록 (슬라이딩 윈도우 카운트 + 점진적 잠금을 원자적으로 처리)
+-- KEYS[1] 실패 시각 ZSET 키, KEYS[2] 잠금 키, KEYS[3] 잠금 단계 키
+-- (세 키는 대상을 같은 해시 태그로 감싸므로 클러스터에서도 같은 슬롯)
+-- ARGV[1] 윈도우(ms), ARGV[2] 최대 실패 횟수, ARGV[3] 실패 고유값(ZSET 멤버)
+-- ARGV[4] 기본 잠금 시간(ms), ARGV[5] 최대 잠금 시간(ms), ARGV[6] 잠금 단계 유지 시간(ms)
+-- 반환: 0 잠금 없음, 양수 이번 실패로 걸린 잠금 시간(ms)
+
+-- 서버 시각 사용 (인스턴스 간 시계 차이 배제, Redis 7 미만에서는 효과 복제 활성화 필요)
+redis.replicate_commands()
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local window = tonumber(ARGV[1])
+
+-- 윈도우 밖의 실패 제거 후 이번 실패 추가
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+redis.call('ZADD', KEYS[1], now, ARGV[3])
+redis.call('PEXPIRE', KEYS[1], window)
+
+if redis.call('ZCARD', KEYS[1]) < tonumber(ARGV[2]) then
+	return 0
+end
+
+-- 잠금마다 단계를 올려 잠금 시간을 2배씩 늘림 (최대 잠금 시간까지)
+local level = redis.call('INCR', KEYS[3])
+redis.call('PEXPIRE', KEYS[3], ARGV[6])
+
+local lockMillis = tonumber(ARGV[4])
+local maxLockMillis = tonumber(ARGV[5])
+for _ = 2, level do
+	lockMillis = lockMillis * 2
+	if lockMillis >= maxLockMillis then
+		lockMillis = maxLockMillis
+		break
+	end
+end
+
+redis.call('SET', KEYS[2], string.format('%d', now + lockMillis), 'PX', lockMillis)
+redis.call('DEL', KEYS[1])
+return lockMillis
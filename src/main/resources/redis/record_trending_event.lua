@@ -0,0 +1,21 @@
+-- 인기 모임 이벤트 기록 (지수 감쇠 점수를 로그 공간에서 누적)
+-- 점수 s = ln(sum(가중치 * e^((이벤트 시각 - 기준 시각) / tau))) 이므로 새 이벤트 x를 더하면 s' = ln(e^s + e^x)
+-- 큰 값을 기준으로 계산하여 지수 함수가 넘치지 않도록 함: s' = max + ln(1 + e^-(|s - x|))
+-- 범위마다 별도 슬롯에 있을 수 있으므로 키 1개만 다루고, 호출 측에서 범위별 호출을 파이프라인으로 묶음
+-- KEYS[1] 인기 모임 Sorted Set 키
+-- ARGV[1] 모임 TSID, ARGV[2] 이벤트 항 x = ln(가중치) + (이벤트 시각 - 기준 시각) / tau, ARGV[3] 최대 멤버 수
+-- 반환: 1
+
+local key = KEYS[1]
+local member = ARGV[1]
+local x = tonumber(ARGV[2])
+
+local score = x
+local current = redis.call('ZSCORE', key, member)
+if current then
+	local s = tonumber(current)
+	score = math.max(s, x) + math.log(1 + math.exp(-math.abs(s - x)))
+end
+redis.call('ZADD', key, string.format('%.17g', score), member)
+redis.call('ZREMRANGEBYRANK', key, 0, -tonumber(ARGV[3]) - 1)
+return 1
@@ -0,0 +1,13 @@
+-- 모임 좌석 반환 (참여 취소, 예약 후 저장 실패 시 보상)
+-- KEYS[1] 예약된 좌석 수 키
+-- 반환: 반환 후 좌석 수, 좌석 수 미적재 시 -1 (다음 예약 때 DB 참여자 수로 적재되므로 반환할 필요 없음)
+
+local reserved = redis.call('GET', KEYS[1])
+if not reserved then
+	return -1
+end
+
+if tonumber(reserved) <= 0 then
+	return 0
+end
+return redis.call('DECR', KEYS[1])
@@ -0,0 +1,17 @@
+-- 모임 좌석 예약 (정원 확인과 증가를 원자적으로 처리)
+-- KEYS[1] 예약된 좌석 수 키
+-- ARGV[1] 정원, ARGV[2] 좌석 수 유지 시간(ms)
+-- 반환: 1 예약 성공, 0 정원 초과, -1 좌석 수 미적재 (DB 참여자 수로 적재 후 재시도)
+
+local reserved = redis.call('GET', KEYS[1])
+if not reserved then
+	return -1
+end
+
+if tonumber(reserved) >= tonumber(ARGV[1]) then
+	return 0
+end
+
+redis.call('INCR', KEYS[1])
+redis.call('PEXPIRE', KEYS[1], ARGV[2])
+return 1
@@ -0,0 +1,35 @@
+-- 리프레시 토큰 교체 (검증 + 기존 토큰 삭제 + 새 토큰 저장을 원자적으로 처리)
+-- 모든 키는 KEYS로 전달하며 같은 {사용자 TSID} 해시 태그를 사용하므로 Redis Cluster에서도 같은 슬롯에서 실행됨
+-- KEYS[1] 기존 토큰 키, KEYS[2] 새 토큰 키, KEYS[3] 사용자 JTI 인덱스 키, KEYS[4] 토큰 패밀리 키
+-- KEYS[5] 호출 전에 읽은 패밀리의 현재 토큰 키
+-- ARGV[1] 기존 토큰 지문, ARGV[2] 기존 JTI, ARGV[3] 새 JTI, ARGV[4] 새 토큰 지문, ARGV[5] TTL(초)
+-- ARGV[6] 호출 전에 읽은 패밀리의 현재 JTI
+-- 반환: 1 교체 성공, 0 토큰 없음(로그아웃/만료/패밀리 취소), -1 재사용 감지(패밀리 취소), 2 호출 전 조회 이후 패밀리 변경(재시도)
+
+local activeJti = redis.call('GET', KEYS[4])
+if not activeJti then
+	return 0
+end
+if activeJti ~= ARGV[6] then
+	return 2
+end
+
+-- 서명 검증을 통과했지만 패밀리의 현재 JTI가 아닌 토큰 → 이미 교체된 토큰의 재사용이므로 패밀리의 현재 토큰까지 취소
+if activeJti ~= ARGV[2] then
+	redis.call('DEL', KEYS[5])
+	redis.call('SREM', KEYS[3], activeJti)
+	redis.call('DEL', KEYS[4])
+	return -1
+end
+
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+	return 0
+end
+
+redis.call('DEL', KEYS[1])
+redis.call('SREM', KEYS[3], ARGV[2])
+redis.call('SET', KEYS[2], ARGV[4], 'EX', ARGV[5])
+redis.call('SADD', KEYS[3], ARGV[3])
+redis.call('EXPIRE', KEYS[3], ARGV[5])
+redis.call('SET', KEYS[4], ARGV[3], 'EX', ARGV[5])
+return 1
@@ -24,11 +24,13 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gathering.auth.application.AuthService;
+import com.gathering.auth.application.LoginThrottleService;
 import com.gathering.auth.presentation.dto.LoginRequest;
 import com.gathering.auth.presentation.dto.LoginResponse;
 import com.gathering.auth.presentation.dto.RefreshResponse;
 import com.gathering.common.exception.BusinessException;
 import com.gathering.common.exception.ErrorCode;
+import com.gathering.common.exception.RetryableException;
 import com.gathering.common.utility.CryptoUtil;
 
 import jakarta.servlet.http.Cookie;
@@ -55,6 +57,9 @@ class AuthControllerTest {
 	@MockBean
 	private AuthenticationManager authenticationManager;
 
+	@MockBean
+	private LoginThrottleService loginThrottleService;
+
 	@Value("${crypto.aes.key}")
 	private String aesKey;
 
@@ -175,6 +180,42 @@ class AuthControllerTest {
 			));
 
 		// authenticationManager에서 예외가 발생하므로 authService.login()은 호출되지 않음
+		// 실패는 이메일/IP별 시도 제한에 기록됨
+		verify(loginThrottleService).recordFailure(eq("test@example.com"), any());
+	}
+
+	@Test
+	@DisplayName("로그인_시도_제한에_걸리면_비밀번호_검증_없이_429_에러가_발생한다")
+	void 로그인_시도_제한에_걸리면_비밀번호_검증_없이_429_에러가_발생한다() throws Exception {
+		// given
+		String encryptedPassword = CryptoUtil.encryptAES("Password1!", aesKey);
+
+		LoginRequest request = LoginRequest.builder()
+			.email("test@example.com")
+			.password(encryptedPassword)
+			.build();
+
+		doThrow(new RetryableException(ErrorCode.LOGIN_THROTTLED, 60))
+			.when(loginThrottleService).checkAllowed(eq("test@example.com"), any());
+
+		// when & then
+		mockMvc.perform(post("/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+			.andExpect(status().isTooManyRequests())
+			.andExpect(header().string("Retry-After", "60"))
+			.andDo(document("auth-login-fail-throttled",
+				requestFields(
+					fieldWithPath("email").description("이메일 주소"),
+					fieldWithPath("password").description("비밀번호 (AES 암호화)")
+				),
+				responseFields(
+					fieldWithPath("code").description("에러 코드 (LOGIN_THROTTLED)"),
+					fieldWithPath("message").description("에러 메시지")
+				)
+			));
+
+		verifyNoInteractions(authenticationManager);
 	}
 
 	@Test
@@ -242,7 +283,7 @@ class AuthControllerTest {
 			.expiresIn(3600L)
 			.build();
 
-		when(authService.refresh(any(HttpServletRequest.class)))
+		when(authService.refresh(any(HttpServletRequest.class), any(HttpServletResponse.class)))
 			.thenReturn(response);
 
 		Cookie refreshTokenCookie = new Cookie("refreshToken", "valid-refresh-token");
@@ -272,7 +313,7 @@ class AuthControllerTest {
 	@DisplayName("리프레시_토큰이_없으면_401_에러가_발생한다")
 	void 리프레시_토큰이_없으면_401_에러가_발생한다() throws Exception {
 		// given
-		when(authService.refresh(any(HttpServletRequest.class)))
+		when(authService.refresh(any(HttpServletRequest.class), any(HttpServletResponse.class)))
 			.thenThrow(new BusinessException(ErrorCode.REFRESH_TOKEN_MISSING));
 
 		// when & then
@@ -292,7 +333,7 @@ class AuthControllerTest {
 	@DisplayName("만료된_리프레시_토큰으로_갱신하면_401_에러가_발생한다")
 	void 만료된_리프레시_토큰으로_갱신하면_401_에러가_발생한다() throws Exception {
 		// given
-		when(authService.refresh(any(HttpServletRequest.class)))
+		when(authService.refresh(any(HttpServletRequest.class), any(HttpServletResponse.class)))
 			.thenThrow(new BusinessException(ErrorCode.REFRESH_TOKEN_EXPIRED));
 
 		Cookie refreshTokenCookie = new Cookie("refreshToken", "expired-refresh-token");
@@ -318,7 +359,7 @@ class AuthControllerTest {
 	@DisplayName("잘못된_형식의_리프레시_토큰으로_갱신하면_401_에러가_발생한다")
 	void 잘못된_형식의_리프레시_토큰으로_갱신하면_401_에러가_발생한다() throws Exception {
 		// given
-		when(authService.refresh(any(HttpServletRequest.class)))
+		when(authService.refresh(any(HttpServletRequest.class), any(HttpServletResponse.class)))
 			.thenThrow(new BusinessException(ErrorCode.REFRESH_TOKEN_MALFORMED));
 
 		Cookie refreshTokenCookie = new Cookie("refreshToken", "malformed-token");
@@ -344,7 +385,7 @@ class AuthControllerTest {
 	@DisplayName("취소된_리프레시_토큰으로_갱신하면_401_에러가_발생한다")
 	void 취소된_리프레시_토큰으로_갱신하면_401_에러가_발생한다() throws Exception {
 		// given
-		when(authService.refresh(any(HttpServletRequest.class)))
+		when(authService.refresh(any(HttpServletRequest.class), any(HttpServletResponse.class)))
 			.thenThrow(new BusinessException(ErrorCode.REFRESH_TOKEN_REVOKED));
 
 		Cookie refreshTokenCookie = new Cookie("refreshToken", "revoked-token");
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,9 +12,13 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.gathering.auth.domain.AuthenticatedUser;
 import com.gathering.auth.infra.JwtTokenProvider;
+import com.gathering.auth.infra.VerifiedToken;
 import com.gathering.common.exception.BusinessException;
 import com.gathering.common.exception.ErrorCode;
+import com.gathering.user.domain.model.UsersEntity;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
 /**
  * JwtTokenProvider 단위 테스트
@@ -78,13 +83,13 @@ class JwtTokenProviderTest {
 
 	@Test
 	@DisplayName("토큰 만료 시간 확인")
-	void getExpirationFromToken_success() {
+	void verifyAccessToken_expiration() {
 		// given
 		String tsid = "1234567890123";
 		String token = jwtTokenProvider.createAccessToken(tsid);
 
 		// when
-		Instant expiration = jwtTokenProvider.getExpirationFromToken(token);
+		Instant expiration = jwtTokenProvider.verifyAccessToken(token).orElseThrow().getExpiration();
 
 		// then
 		assertThat(expiration).isNotNull().isAfter(Instant.now());
@@ -107,7 +112,7 @@ class JwtTokenProviderTest {
 
 			// when
 			String refreshToken = jwtTokenProvider.createRefreshToken(tsid);
-			String jti = jwtTokenProvider.getJtiFromToken(refreshToken);
+			String jti = jwtTokenProvider.verifyRefreshToken(refreshToken).orElseThrow().getJti();
 
 			// then
 			assertThat(jti).isNotBlank().isNotEmpty();
@@ -121,7 +126,7 @@ class JwtTokenProviderTest {
 
 			// when
 			String accessToken = jwtTokenProvider.createAccessToken(tsid);
-			String jti = jwtTokenProvider.getJtiFromToken(accessToken);
+			String jti = jwtTokenProvider.verifyAccessToken(accessToken).orElseThrow().getJti();
 
 			// then
 			assertThat(jti).isNull();
@@ -270,4 +275,174 @@ class JwtTokenProviderTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("클레임 인증")
+	class ClaimsAuthentication {
+
+		@Test
+		@DisplayName("클레임 토큰에서 사용자 상태와 권한을 복원한다")
+		void verifyAccessToken_claimsToken_success() {
+			// given
+			UsersEntity user = UsersEntity.builder()
+				.tsid("1234567890123")
+				.email("test@example.com")
+				.name("홍길동")
+				.build();
+			String accessToken = jwtTokenProvider.createAccessToken(AuthenticatedUser.from(user));
+
+			// when
+			Optional<AuthenticatedUser> result = jwtTokenProvider.verifyAccessToken(accessToken).orElseThrow()
+				.getClaimsUser();
+
+			// then
+			assertThat(result).isPresent();
+			assertThat(result.get().getTsid()).isEqualTo("1234567890123");
+			assertThat(result.get().getEmail()).isNull();
+			assertThat(result.get().getStatus()).isEqualTo(user.getStatus());
+			assertThat(result.get().getAuthorities()).containsExactly("ROLE_USER");
+		}
+
+		@Test
+		@DisplayName("클레임이 없는 기존 액세스 토큰은 empty를 반환한다")
+		void verifyAccessToken_legacyToken_empty() {
+			// given
+			String accessToken = jwtTokenProvider.createAccessToken("1234567890123");
+
+			// when
+			Optional<AuthenticatedUser> result = jwtTokenProvider.verifyAccessToken(accessToken).orElseThrow()
+				.getClaimsUser();
+
+			// then
+			assertThat(result).isEmpty();
+		}
+	}
+
+	@Nested
+	@DisplayName("단일 파싱 검증")
+	class SingleParseVerification {
+
+		@Test
+		@DisplayName("리프레시 토큰을 한 번 검증하면 TSID, JTI, 만료 시간을 모두 얻는다")
+		void verifyRefreshToken_validToken_containsAllClaims() {
+			// given
+			String tsid = "1234567890123";
+			String jti = "test-jti";
+			String refreshToken = jwtTokenProvider.createRefreshToken(tsid, jti);
+
+			// when
+			VerifiedToken verifiedToken = jwtTokenProvider.verifyRefreshToken(refreshToken);
+
+			// then
+			assertThat(verifiedToken.isValid()).isTrue();
+			assertThat(verifiedToken.getSubject()).isEqualTo(tsid);
+			assertThat(verifiedToken.getJti()).isEqualTo(jti);
+			assertThat(verifiedToken.getExpiration()).isAfter(Instant.now());
+			assertThat(verifiedToken.getErrorCode()).isNull();
+		}
+
+		@Test
+		@DisplayName("패밀리 ID를 지정해 생성한 리프레시 토큰은 교체 후에도 같은 패밀리 ID를 가진다")
+		void verifyRefreshToken_familyId() {
+			// given
+			String refreshToken = jwtTokenProvider.createRefreshToken("1234567890123", "jti-2", "family-1");
+
+			// when
+			VerifiedToken verifiedToken = jwtTokenProvider.verifyRefreshToken(refreshToken);
+
+			// then
+			assertThat(verifiedToken.getJti()).isEqualTo("jti-2");
+			assertThat(verifiedToken.getFamilyId()).isEqualTo("family-1");
+		}
+
+		@Test
+		@DisplayName("잘못된 형식의 액세스 토큰은 예외 대신 ACCESS_TOKEN_MALFORMED 결과를 반환한다")
+		void verifyAccessToken_malformedToken_returnsErrorCode() {
+			// when
+			VerifiedToken verifiedToken = jwtTokenProvider.verifyAccessToken("invalid-token-format");
+
+			// then
+			assertThat(verifiedToken.isValid()).isFalse();
+			assertThat(verifiedToken.getErrorCode()).isEqualTo(ErrorCode.ACCESS_TOKEN_MALFORMED);
+			assertThatThrownBy(verifiedToken::orElseThrow)
+				.isInstanceOf(BusinessException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCESS_TOKEN_MALFORMED);
+		}
+	}
+
+	@Nested
+	@DisplayName("검증된 액세스 토큰 캐시")
+	class VerifiedTokenCaching {
+
+		private JwtTokenProvider cachingProvider;
+
+		@BeforeEach
+		void setUp() {
+			cachingProvider = new JwtTokenProvider();
+			ReflectionTestUtils.setField(cachingProvider, "secretKey", secretKey);
+			ReflectionTestUtils.setField(cachingProvider, "accessTokenValidityInSeconds",
+				accessTokenValidityInSeconds);
+			ReflectionTestUtils.setField(cachingProvider, "refreshTokenValidityInSeconds",
+				refreshTokenValidityInSeconds);
+			ReflectionTestUtils.setField(cachingProvider, "verifiedTokenCacheMaximumSize", 100L);
+			cachingProvider.init();
+		}
+
+		@Test
+		@DisplayName("같은 액세스 토큰을 다시 검증하면 캐시된 결과를 반환한다")
+		void verifyAccessToken_sameToken_cacheHit() {
+			// given
+			String accessToken = cachingProvider.createAccessToken("1234567890123");
+
+			// when
+			VerifiedToken first = cachingProvider.verifyAccessToken(accessToken);
+			VerifiedToken second = cachingProvider.verifyAccessToken(accessToken);
+
+			// then
+			assertThat(second).isSameAs(first);
+			CacheStats stats = cachingProvider.getVerifiedTokenCacheStats().orElseThrow();
+			assertThat(stats.hitCount()).isEqualTo(1);
+			assertThat(stats.missCount()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("서로 다른 토큰은 각자의 검증 결과를 반환한다")
+		void verifyAccessToken_differentTokens_separateEntries() {
+			// given
+			String tokenA = cachingProvider.createAccessToken("1111111111111");
+			String tokenB = cachingProvider.createAccessToken("2222222222222");
+
+			// when
+			cachingProvider.verifyAccessToken(tokenA);
+			VerifiedToken result = cachingProvider.verifyAccessToken(tokenB);
+
+			// then
+			assertThat(result.getSubject()).isEqualTo("2222222222222");
+		}
+
+		@Test
+		@DisplayName("검증에 실패한 토큰은 캐시하지 않는다")
+		void verifyAccessToken_invalidToken_notCached() {
+			// when
+			cachingProvider.verifyAccessToken("invalid-token-format");
+			VerifiedToken result = cachingProvider.verifyAccessToken("invalid-token-format");
+
+			// then
+			assertThat(result.getErrorCode()).isEqualTo(ErrorCode.ACCESS_TOKEN_MALFORMED);
+			assertThat(cachingProvider.getVerifiedTokenCacheStats().orElseThrow().hitCount()).isZero();
+		}
+
+		@Test
+		@DisplayName("캐시 크기가 0이면 캐시를 사용하지 않는다")
+		void verifyAccessToken_cacheDisabled_noStats() {
+			// given
+			String accessToken = jwtTokenProvider.createAccessToken("1234567890123");
+
+			// when
+			VerifiedToken result = jwtTokenProvider.verifyAccessToken(accessToken);
+
+			// then
+			assertThat(result.isValid()).isTrue();
+			assertThat(jwtTokenProvider.getVerifiedTokenCacheStats()).isEmpty();
+		}
+	}
 }
@@ -0,0 +1,129 @@
+package com.gathering.auth.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * LoginMetadataService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class LoginMetadataServiceTest {
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@InjectMocks
+	private LoginMetadataService loginMetadataService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(loginMetadataService, "maxPendingUsers", 2);
+		ReflectionTestUtils.setField(loginMetadataService, "batchSize", 100);
+	}
+
+	@Test
+	@DisplayName("실패 후 성공하면 성공 시각을 기록하고 성공 이후 실패 횟수만 남긴다")
+	void flush_coalescesSuccessAndFailures() {
+		// given
+		List<Object[]> batch = recordBatch("last_login_at = ?");
+		loginMetadataService.onFailure(failure("a@example.com"));
+		loginMetadataService.onFailure(failure("a@example.com"));
+		loginMetadataService.onSuccess(success("a@example.com"));
+		loginMetadataService.onFailure(failure("a@example.com"));
+
+		// when
+		loginMetadataService.flush();
+
+		// then
+		assertThat(batch).hasSize(1);
+		assertThat(batch.get(0)[0]).isInstanceOf(Timestamp.class);
+		assertThat(batch.get(0)).containsSubsequence(1, "a@example.com");
+		assertThat(loginMetadataService.getPendingCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("실패만 있으면 실패 횟수를 누적하는 배치로 반영한다")
+	void flush_accumulatesFailures() {
+		// given
+		List<Object[]> batch = recordBatch("failed_login_count + ?");
+		loginMetadataService.onFailure(failure("a@example.com"));
+		loginMetadataService.onFailure(failure("a@example.com"));
+		loginMetadataService.onFailure(failure("b@example.com"));
+
+		// when
+		loginMetadataService.flush();
+
+		// then
+		assertThat(batch).extracting(row -> row[1] + "=" + row[0])
+			.containsExactlyInAnyOrder("a@example.com=2", "b@example.com=1");
+		verify(jdbcTemplate, never()).batchUpdate(contains("last_login_at = ?"), anyList());
+	}
+
+	@Test
+	@DisplayName("대기 사용자 수가 한도를 넘으면 새 사용자의 이벤트는 버리고 기존 사용자는 계속 합친다")
+	void merge_dropsNewUsersWhenFull() {
+		// given
+		loginMetadataService.onFailure(failure("a@example.com"));
+		loginMetadataService.onFailure(failure("b@example.com"));
+
+		// when
+		loginMetadataService.onFailure(failure("c@example.com"));
+		loginMetadataService.onFailure(failure("a@example.com"));
+
+		// then
+		assertThat(loginMetadataService.getPendingCount()).isEqualTo(2);
+		assertThat(loginMetadataService.getDroppedCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("대기 중인 이벤트가 없으면 DB를 호출하지 않는다")
+	void flush_skipsWhenEmpty() {
+		// when
+		loginMetadataService.flushOnShutdown();
+
+		// then
+		verifyNoInteractions(jdbcTemplate);
+	}
+
+	/**
+	 * 배치 UPDATE에 전달된 행 기록 (서비스가 실행 후 배치 목록을 비우므로 호출 시점에 복사)
+	 */
+	private List<Object[]> recordBatch(String sqlFragment) {
+		List<Object[]> rows = new ArrayList<>();
+		when(jdbcTemplate.batchUpdate(contains(sqlFragment), anyList())).thenAnswer(invocation -> {
+			rows.addAll(invocation.getArgument(1));
+			return new int[0];
+		});
+		return rows;
+	}
+
+	private AuthenticationSuccessEvent success(String email) {
+		return new AuthenticationSuccessEvent(
+			UsernamePasswordAuthenticationToken.authenticated(email, null, List.of()));
+	}
+
+	private AuthenticationFailureBadCredentialsEvent failure(String email) {
+		return new AuthenticationFailureBadCredentialsEvent(
+			UsernamePasswordAuthenticationToken.unauthenticated(email, "password"),
+			new BadCredentialsException("bad credentials"));
+	}
+}
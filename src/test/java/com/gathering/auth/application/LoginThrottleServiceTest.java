@@ -0,0 +1,133 @@
+package com.gathering.auth.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gathering.common.adapter.RedisAdapter;
+import com.gathering.common.exception.ErrorCode;
+import com.gathering.common.exception.RetryableException;
+
+/**
+ * LoginThrottleService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class LoginThrottleServiceTest {
+
+	@Mock
+	private RedisAdapter redisAdapter;
+
+	@InjectMocks
+	private LoginThrottleService loginThrottleService;
+
+	private final String email = "Test@Example.com";
+	private final String ip = "10.0.0.1";
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(loginThrottleService, "enabled", true);
+		ReflectionTestUtils.setField(loginThrottleService, "windowSeconds", 600L);
+		ReflectionTestUtils.setField(loginThrottleService, "emailMaxFailures", 5);
+		ReflectionTestUtils.setField(loginThrottleService, "ipMaxFailures", 50);
+		ReflectionTestUtils.setField(loginThrottleService, "lockBaseSeconds", 60L);
+		ReflectionTestUtils.setField(loginThrottleService, "lockMaxSeconds", 3600L);
+		ReflectionTestUtils.setField(loginThrottleService, "lockLevelTtlSeconds", 86400L);
+		ReflectionTestUtils.setField(loginThrottleService, "nearCacheMaximumSize", 100L);
+		loginThrottleService.init();
+	}
+
+	@Test
+	@DisplayName("잠금이 없으면 Redis에서 이메일/IP 잠금을 한 번에 조회하고 통과한다")
+	void checkAllowed_passesWithoutLock() {
+		// given
+		when(redisAdapter.multiGet(anyList())).thenReturn(Map.of());
+
+		// when
+		loginThrottleService.checkAllowed(email, ip);
+
+		// then
+		verify(redisAdapter).multiGet(List.of(
+			"auth:login:lock:{email:test@example.com}",
+			"auth:login:lock:{ip:" + ip + "}"
+		));
+	}
+
+	@Test
+	@DisplayName("Redis에 잠금이 있으면 429로 거부하고 이후에는 로컬 캐시로 거부한다")
+	void checkAllowed_rejectsLockedSubject() {
+		// given
+		long lockedUntil = System.currentTimeMillis() + 60_000;
+		when(redisAdapter.multiGet(anyList()))
+			.thenReturn(Map.of("auth:login:lock:{ip:" + ip + "}", String.valueOf(lockedUntil)));
+
+		// when & then
+		assertThatThrownBy(() -> loginThrottleService.checkAllowed(email, ip))
+			.isInstanceOfSatisfying(RetryableException.class, e -> {
+				assertThat(e.getErrorCode()).isEqualTo(ErrorCode.LOGIN_THROTTLED);
+				assertThat(e.getRetryAfterSeconds()).isBetween(59L, 60L);
+			});
+		assertThatThrownBy(() -> loginThrottleService.checkAllowed("other@example.com", ip))
+			.isInstanceOf(RetryableException.class);
+		verify(redisAdapter, times(1)).multiGet(anyList());
+	}
+
+	@Test
+	@DisplayName("실패 기록으로 잠금이 걸리면 다음 시도는 Redis 조회 없이 거부한다")
+	void recordFailure_locksInNearCache() {
+		// given: 이메일은 이번 실패로 잠금, IP는 한도 미만
+		when(redisAdapter.executeScript(any(), eq(List.of(
+			"auth:login:failures:{email:test@example.com}",
+			"auth:login:lock:{email:test@example.com}",
+			"auth:login:lock-level:{email:test@example.com}"
+		)), any(Object[].class))).thenReturn(60_000L);
+		when(redisAdapter.executeScript(any(), eq(List.of(
+			"auth:login:failures:{ip:" + ip + "}",
+			"auth:login:lock:{ip:" + ip + "}",
+			"auth:login:lock-level:{ip:" + ip + "}"
+		)), any(Object[].class))).thenReturn(0L);
+
+		// when
+		loginThrottleService.recordFailure(email, ip);
+
+		// then
+		assertThatThrownBy(() -> loginThrottleService.checkAllowed(email, ip))
+			.isInstanceOf(RetryableException.class);
+		verify(redisAdapter, never()).multiGet(anyList());
+	}
+
+	@Test
+	@DisplayName("Redis 장애 시 로그인을 막지 않는다")
+	void checkAllowed_failsOpenOnRedisError() {
+		// given
+		when(redisAdapter.multiGet(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+
+		// when & then
+		assertThatCode(() -> loginThrottleService.checkAllowed(email, ip)).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("로그인 성공 시 이메일의 실패 기록과 잠금 단계만 초기화한다")
+	void recordSuccess_resetsEmailOnly() {
+		// when
+		loginThrottleService.recordSuccess(email);
+
+		// then
+		verify(redisAdapter).delete(List.of(
+			"auth:login:failures:{email:test@example.com}",
+			"auth:login:lock-level:{email:test@example.com}"
+		));
+	}
+}
@@ -0,0 +1,138 @@
+package com.gathering.auth.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.gathering.common.exception.ErrorCode;
+import com.gathering.common.exception.RetryableException;
+import com.gathering.user.domain.model.UserSecurityEntity;
+import com.gathering.user.domain.model.UsersEntity;
+import com.gathering.user.domain.repository.UserSecurityRepository;
+import com.gathering.user.domain.repository.UsersRepository;
+
+/**
+ * PasswordRehashService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class PasswordRehashServiceTest {
+
+	@Mock
+	private PasswordEncoder passwordEncoder;
+
+	@Mock
+	private UsersRepository usersRepository;
+
+	@Mock
+	private UserSecurityRepository userSecurityRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@InjectMocks
+	private PasswordRehashService passwordRehashService;
+
+	private final String tsid = "1234567890123";
+	private final String email = "test@example.com";
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(passwordRehashService, "queueCapacity", 2);
+		ReflectionTestUtils.setField(passwordRehashService, "batchSize", 10);
+		passwordRehashService.init();
+	}
+
+	@Test
+	@DisplayName("대기열의 요청을 재해싱하여 저장 해시가 로그인 시점과 같으면 교체한다")
+	void flush_upgradesPasswordHash() {
+		// given
+		UserSecurityEntity security = UserSecurityEntity.of(tsid, "{bcrypt}$2a$04$old");
+		when(passwordEncoder.encode("Password123!")).thenReturn("{bcrypt}$2a$12$new");
+		when(usersRepository.findAllByEmailIn(anyCollection()))
+			.thenReturn(List.of(UsersEntity.builder().tsid(tsid).email(email).build()));
+		when(userSecurityRepository.findAllById(anyIterable())).thenReturn(List.of(security));
+
+		passwordRehashService.requestRehash(email, "Password123!", "{bcrypt}$2a$04$old");
+
+		// when
+		passwordRehashService.rehashPending();
+
+		// then
+		assertThat(security.getPasswordHash()).isEqualTo("{bcrypt}$2a$12$new");
+		assertThat(security.getPasswordChangedAt()).isNull();
+	}
+
+	@Test
+	@DisplayName("로그인 이후 비밀번호가 변경되었으면 재해싱 결과로 덮어쓰지 않는다")
+	void flush_skipsChangedPassword() {
+		// given
+		UserSecurityEntity security = UserSecurityEntity.of(tsid, "{bcrypt}$2a$12$changed");
+		when(passwordEncoder.encode("Password123!")).thenReturn("{bcrypt}$2a$12$new");
+		when(usersRepository.findAllByEmailIn(anyCollection()))
+			.thenReturn(List.of(UsersEntity.builder().tsid(tsid).email(email).build()));
+		when(userSecurityRepository.findAllById(anyIterable())).thenReturn(List.of(security));
+
+		passwordRehashService.requestRehash(email, "Password123!", "{bcrypt}$2a$04$old");
+
+		// when
+		passwordRehashService.rehashPending();
+
+		// then
+		assertThat(security.getPasswordHash()).isEqualTo("{bcrypt}$2a$12$changed");
+	}
+
+	@Test
+	@DisplayName("해싱 풀이 바쁘면 DB를 조회하지 않고, 남은 요청은 대기열에 둔 채 다음 주기로 미룬다")
+	void flush_defersWhenHashingBusy() {
+		// given
+		when(passwordEncoder.encode(any()))
+			.thenThrow(new RetryableException(ErrorCode.PASSWORD_HASHING_BUSY, 1));
+		passwordRehashService.requestRehash(email, "Password123!", "{bcrypt}$2a$04$old");
+		passwordRehashService.requestRehash("other@example.com", "Password123!", "{bcrypt}$2a$04$old");
+
+		// when
+		passwordRehashService.rehashPending();
+
+		// then
+		verify(passwordEncoder, times(1)).encode(any());
+		verifyNoInteractions(usersRepository, userSecurityRepository);
+		assertThat(passwordRehashService.requestRehash(email, "c", "hash")).isFalse();
+	}
+
+	@Test
+	@DisplayName("같은 사용자의 요청이 여러 번 쌓이면 마지막 요청만 해싱한다")
+	void flush_hashesLatestRequestPerEmail() {
+		// given
+		when(passwordEncoder.encode("Newer123!")).thenReturn("{bcrypt}$2a$12$new");
+		when(usersRepository.findAllByEmailIn(anyCollection())).thenReturn(List.of());
+		passwordRehashService.requestRehash(email, "Password123!", "{bcrypt}$2a$04$old");
+		passwordRehashService.requestRehash(email, "Newer123!", "{bcrypt}$2a$04$newer");
+
+		// when
+		passwordRehashService.rehashPending();
+
+		// then
+		verify(passwordEncoder, times(1)).encode(any());
+	}
+
+	@Test
+	@DisplayName("대기열이 가득 차면 요청을 거부한다")
+	void requestRehash_rejectsWhenQueueIsFull() {
+		assertThat(passwordRehashService.requestRehash(email, "a", "hash")).isTrue();
+		assertThat(passwordRehashService.requestRehash(email, "b", "hash")).isTrue();
+		assertThat(passwordRehashService.requestRehash(email, "c", "hash")).isFalse();
+	}
+}
@@ -0,0 +1,104 @@
+package com.gathering.auth.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gathering.auth.domain.AuthenticatedUser;
+import com.gathering.common.adapter.RedisAdapter;
+import com.gathering.user.domain.model.UsersEntity;
+import com.gathering.user.domain.repository.UsersRepository;
+
+/**
+ * PrincipalCacheService 단위 테스트 (로컬 캐시만 사용)
+ */
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheServiceTest {
+
+	@Mock
+	private UsersRepository usersRepository;
+
+	@Mock
+	private RedisAdapter redisAdapter;
+
+	private PrincipalCacheService principalCacheService;
+
+	private final String tsid = "1234567890123";
+
+	@BeforeEach
+	void setUp() {
+		principalCacheService = new PrincipalCacheService(usersRepository, redisAdapter, new ObjectMapper());
+		ReflectionTestUtils.setField(principalCacheService, "localMaximumSize", 100L);
+		ReflectionTestUtils.setField(principalCacheService, "localTtlSeconds", 60L);
+		ReflectionTestUtils.setField(principalCacheService, "redisEnabled", false);
+		principalCacheService.init();
+	}
+
+	@Test
+	@DisplayName("캐시에 적재된 사용자는 DB를 다시 조회하지 않는다")
+	void getAuthenticatedUser_cached_noDatabaseQuery() {
+		// given
+		when(usersRepository.findById(tsid)).thenReturn(Optional.of(createUser()));
+
+		// when
+		principalCacheService.getAuthenticatedUser(tsid);
+		Optional<AuthenticatedUser> result = principalCacheService.getAuthenticatedUser(tsid);
+
+		// then
+		assertThat(result).isPresent();
+		assertThat(result.get().getEmail()).isEqualTo("test@example.com");
+		assertThat(result.get().toUserDetails().getAuthorities()).extracting("authority")
+			.containsExactly("ROLE_USER");
+		verify(usersRepository, times(1)).findById(tsid);
+		verifyNoInteractions(redisAdapter);
+	}
+
+	@Test
+	@DisplayName("캐시를 무효화하면 다음 조회 시 DB에서 다시 로드한다")
+	void evict_reloadsFromDatabase() {
+		// given
+		when(usersRepository.findById(tsid)).thenReturn(Optional.of(createUser()));
+		principalCacheService.getAuthenticatedUser(tsid);
+
+		// when
+		principalCacheService.evict(tsid);
+		principalCacheService.getAuthenticatedUser(tsid);
+
+		// then
+		verify(usersRepository, times(2)).findById(tsid);
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 사용자는 캐싱하지 않는다")
+	void getAuthenticatedUser_notFound_notCached() {
+		// given
+		when(usersRepository.findById(tsid)).thenReturn(Optional.empty());
+
+		// when
+		Optional<AuthenticatedUser> first = principalCacheService.getAuthenticatedUser(tsid);
+		Optional<AuthenticatedUser> second = principalCacheService.getAuthenticatedUser(tsid);
+
+		// then
+		assertThat(first).isEmpty();
+		assertThat(second).isEmpty();
+		verify(usersRepository, times(2)).findById(tsid);
+	}
+
+	private UsersEntity createUser() {
+		return UsersEntity.builder()
+			.tsid(tsid)
+			.email("test@example.com")
+			.name("홍길동")
+			.build();
+	}
+}
@@ -0,0 +1,226 @@
+package com.gathering.auth.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gathering.common.adapter.RedisAdapter;
+import com.gathering.common.utility.CryptoUtil;
+
+/**
+ * RefreshTokenService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+	@Mock
+	private RedisAdapter redisAdapter;
+
+	@InjectMocks
+	private RefreshTokenService refreshTokenService;
+
+	private final String tsid = "1234567890123";
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(refreshTokenService, "refreshTokenValidityInSeconds", 7776000L);
+		ReflectionTestUtils.setField(refreshTokenService, "legacyScanEnabled", false);
+	}
+
+	@Test
+	@DisplayName("리프레시 토큰 저장 시 지문, 패밀리의 현재 JTI, 사용자별 JTI 인덱스를 기록한다")
+	void saveRefreshToken_addsJtiToIndex() {
+		// when
+		refreshTokenService.saveRefreshToken(tsid, "jti-1", "family-1", "token");
+
+		// then
+		verify(redisAdapter).multiSet(eq(Map.of(
+			"refresh_token:{" + tsid + "}:jti-1", CryptoUtil.sha256Base64Url("token"),
+			"refresh_token_family:{" + tsid + "}:family-1", "jti-1"
+		)), any(Duration.class));
+		verify(redisAdapter).addToSet(eq("refresh_token_index:{" + tsid + "}"), eq("jti-1"), any(Duration.class));
+	}
+
+	@Test
+	@DisplayName("토큰 교체는 패밀리 조회 후 같은 해시 태그를 공유하는 키만 KEYS로 전달하여 스크립트 1회 실행으로 처리한다")
+	void rotateRefreshToken_singleScriptCall() {
+		// given
+		when(redisAdapter.get("refresh_token_family:{" + tsid + "}:family-1")).thenReturn(Optional.of("jti-1"));
+		when(redisAdapter.executeScript(any(), anyList(), any(Object[].class))).thenReturn(1L);
+
+		// when
+		RefreshTokenService.RotationResult result = refreshTokenService.rotateRefreshToken(
+			tsid, "jti-1", "family-1", "old-token", "jti-2", "new-token");
+
+		// then
+		assertThat(result).isEqualTo(RefreshTokenService.RotationResult.ROTATED);
+		verify(redisAdapter, times(1)).executeScript(any(), eq(List.of(
+			"refresh_token:{" + tsid + "}:jti-1",
+			"refresh_token:{" + tsid + "}:jti-2",
+			"refresh_token_index:{" + tsid + "}",
+			"refresh_token_family:{" + tsid + "}:family-1",
+			"refresh_token:{" + tsid + "}:jti-1"
+		)), eq(CryptoUtil.sha256Base64Url("old-token")), eq("jti-1"), eq("jti-2"),
+			eq(CryptoUtil.sha256Base64Url("new-token")), eq("7776000"), eq("jti-1"));
+	}
+
+	@Test
+	@DisplayName("패밀리의 현재 JTI가 아닌 토큰이 제출되면 현재 토큰 키를 함께 전달하고 REUSE_DETECTED를 반환한다")
+	void rotateRefreshToken_reuseDetected() {
+		// given: 패밀리의 현재 토큰은 jti-3
+		when(redisAdapter.get("refresh_token_family:{" + tsid + "}:family-1")).thenReturn(Optional.of("jti-3"));
+		when(redisAdapter.executeScript(any(), anyList(), any(Object[].class))).thenReturn(-1L);
+
+		// when
+		RefreshTokenService.RotationResult result = refreshTokenService.rotateRefreshToken(
+			tsid, "jti-1", "family-1", "old-token", "jti-2", "new-token");
+
+		// then
+		assertThat(result).isEqualTo(RefreshTokenService.RotationResult.REUSE_DETECTED);
+		verify(redisAdapter).executeScript(any(),
+			argThat(keys -> keys.get(4).equals("refresh_token:{" + tsid + "}:jti-3")),
+			any(Object[].class));
+	}
+
+	@Test
+	@DisplayName("조회 이후 패밀리가 바뀌면 다시 읽어 한 번 더 시도한다")
+	void rotateRefreshToken_familyChanged_retries() {
+		// given
+		when(redisAdapter.get("refresh_token_family:{" + tsid + "}:family-1"))
+			.thenReturn(Optional.of("jti-0"))
+			.thenReturn(Optional.of("jti-1"));
+		when(redisAdapter.executeScript(any(), anyList(), any(Object[].class)))
+			.thenReturn(2L)
+			.thenReturn(1L);
+
+		// when
+		RefreshTokenService.RotationResult result = refreshTokenService.rotateRefreshToken(
+			tsid, "jti-1", "family-1", "old-token", "jti-2", "new-token");
+
+		// then
+		assertThat(result).isEqualTo(RefreshTokenService.RotationResult.ROTATED);
+		verify(redisAdapter, times(2)).executeScript(any(), anyList(), any(Object[].class));
+	}
+
+	@Test
+	@DisplayName("로그아웃 또는 만료로 패밀리가 없으면 스크립트 없이 NOT_FOUND를 반환한다")
+	void rotateRefreshToken_notFound() {
+		// given
+		when(redisAdapter.get(anyString())).thenReturn(Optional.empty());
+
+		// when
+		RefreshTokenService.RotationResult result = refreshTokenService.rotateRefreshToken(
+			tsid, "jti-1", "family-1", "old-token", "jti-2", "new-token");
+
+		// then
+		assertThat(result).isEqualTo(RefreshTokenService.RotationResult.NOT_FOUND);
+		verify(redisAdapter, never()).executeScript(any(), anyList(), any(Object[].class));
+		verify(redisAdapter, never()).getAndDelete(anyString());
+	}
+
+	@Test
+	@DisplayName("레거시 처리가 활성화되면 레거시 키의 원문 토큰을 한 번만 사용하여 새 형식으로 교체한다")
+	void rotateRefreshToken_legacyKey() {
+		// given
+		ReflectionTestUtils.setField(refreshTokenService, "legacyScanEnabled", true);
+		String oldRefreshToken = "header.payload.signature";
+		when(redisAdapter.get(anyString())).thenReturn(Optional.empty());
+		when(redisAdapter.getAndDelete("refresh_token:" + tsid + ":jti-1")).thenReturn(Optional.of(oldRefreshToken));
+
+		// when
+		RefreshTokenService.RotationResult result = refreshTokenService.rotateRefreshToken(
+			tsid, "jti-1", "family-1", oldRefreshToken, "jti-2", "new-token");
+
+		// then
+		assertThat(result).isEqualTo(RefreshTokenService.RotationResult.ROTATED);
+		verify(redisAdapter).multiSet(eq(Map.of(
+			"refresh_token:{" + tsid + "}:jti-2", CryptoUtil.sha256Base64Url("new-token"),
+			"refresh_token_family:{" + tsid + "}:family-1", "jti-2"
+		)), any(Duration.class));
+	}
+
+	@Test
+	@DisplayName("저장된 지문과 일치하는 토큰은 유효하다")
+	void validateRefreshToken_fingerprint_success() {
+		// given
+		String refreshToken = "header.payload.signature";
+		when(redisAdapter.get("refresh_token:{" + tsid + "}:jti-1"))
+			.thenReturn(Optional.of(CryptoUtil.sha256Base64Url(refreshToken)));
+
+		// when & then
+		assertThat(refreshTokenService.validateRefreshToken(tsid, "jti-1", refreshToken)).isTrue();
+		assertThat(refreshTokenService.validateRefreshToken(tsid, "jti-1", "other.payload.signature")).isFalse();
+	}
+
+	@Test
+	@DisplayName("레거시 처리가 활성화된 경우에만 레거시 키에 원문으로 저장된 토큰도 유효하다")
+	void validateRefreshToken_legacyRawToken_success() {
+		// given
+		String refreshToken = "header.payload.signature";
+		when(redisAdapter.get("refresh_token:{" + tsid + "}:jti-1")).thenReturn(Optional.empty());
+		when(redisAdapter.get("refresh_token:" + tsid + ":jti-1")).thenReturn(Optional.of(refreshToken));
+
+		// when & then
+		assertThat(refreshTokenService.validateRefreshToken(tsid, "jti-1", refreshToken)).isFalse();
+
+		ReflectionTestUtils.setField(refreshTokenService, "legacyScanEnabled", true);
+		assertThat(refreshTokenService.validateRefreshToken(tsid, "jti-1", refreshToken)).isTrue();
+		assertThat(refreshTokenService.validateRefreshToken(tsid, "jti-1", "other.payload.signature")).isFalse();
+	}
+
+	@Test
+	@DisplayName("전체 삭제 시 인덱스의 JTI로 키를 구성하여 삭제하고 패턴 검색을 하지 않는다")
+	@SuppressWarnings("unchecked")
+	void deleteAllRefreshTokensByTsid_usesIndex() {
+		// given
+		when(redisAdapter.getSetMembers("refresh_token_index:{" + tsid + "}")).thenReturn(Set.of("jti-1", "jti-2"));
+		when(redisAdapter.delete(anyCollection())).thenReturn(2L);
+
+		// when
+		long deletedCount = refreshTokenService.deleteAllRefreshTokensByTsid(tsid);
+
+		// then
+		ArgumentCaptor<Collection<String>> keysCaptor = ArgumentCaptor.forClass(Collection.class);
+		verify(redisAdapter).delete(keysCaptor.capture());
+		assertThat(keysCaptor.getValue()).containsExactlyInAnyOrder(
+			"refresh_token:{" + tsid + "}:jti-1",
+			"refresh_token:{" + tsid + "}:jti-2"
+		);
+		verify(redisAdapter).delete("refresh_token_index:{" + tsid + "}");
+		verify(redisAdapter, never()).deleteByPattern(anyString());
+		assertThat(deletedCount).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("레거시 정리가 활성화되면 인덱스 삭제 후 SCAN으로 남은 토큰도 삭제한다")
+	void deleteAllRefreshTokensByTsid_legacyScanEnabled() {
+		// given
+		ReflectionTestUtils.setField(refreshTokenService, "legacyScanEnabled", true);
+		when(redisAdapter.getSetMembers("refresh_token_index:{" + tsid + "}")).thenReturn(Set.of());
+		when(redisAdapter.deleteByPattern("refresh_token:" + tsid + ":*")).thenReturn(1L);
+
+		// when
+		long deletedCount = refreshTokenService.deleteAllRefreshTokensByTsid(tsid);
+
+		// then
+		assertThat(deletedCount).isEqualTo(1);
+		verify(redisAdapter).delete("refresh_token_index:" + tsid);
+	}
+}
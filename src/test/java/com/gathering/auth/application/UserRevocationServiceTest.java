@@ -0,0 +1,124 @@
+package com.gathering.auth.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.gathering.common.adapter.RedisAdapter;
+import com.gathering.common.exception.ErrorCode;
+import com.gathering.common.exception.RetryableException;
+
+/**
+ * UserRevocationService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class UserRevocationServiceTest {
+
+	private static final String TSID = "1234567890123";
+
+	@Mock
+	private RedisAdapter redisAdapter;
+
+	private UserRevocationService userRevocationService;
+
+	@BeforeEach
+	void setUp() {
+		userRevocationService = new UserRevocationService(redisAdapter);
+		ReflectionTestUtils.setField(userRevocationService, "accessTokenValidityInSeconds", 1800L);
+		ReflectionTestUtils.setField(userRevocationService, "localMaximumSize", 100L);
+		ReflectionTestUtils.setField(userRevocationService, "localTtlSeconds", 5L);
+		ReflectionTestUtils.setField(userRevocationService, "redisFailureGraceSeconds", 30L);
+		ReflectionTestUtils.setField(userRevocationService, "retryAfterSeconds", 5L);
+		userRevocationService.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("Redis 장애가 유예 시간 이내면 통과시키고 결과를 캐싱하지 않는다")
+	void isRevoked_redisFailureWithinGrace_failsOpen() {
+		// given
+		when(redisAdapter.get(anyString()))
+			.thenThrow(new QueryTimeoutException("timeout"))
+			.thenReturn(Optional.of("1"));
+
+		// when & then
+		assertThat(userRevocationService.isRevoked(TSID)).isFalse();
+		assertThat(userRevocationService.isRevoked(TSID)).isTrue();
+	}
+
+	@Test
+	@DisplayName("Redis 장애가 유예 시간보다 길어지면 503으로 거부한다")
+	void isRevoked_redisFailureBeyondGrace_failsClosed() {
+		// given
+		ReflectionTestUtils.setField(userRevocationService, "firstFailureMillis",
+			System.currentTimeMillis() - 31_000);
+		when(redisAdapter.get(anyString())).thenThrow(new QueryTimeoutException("timeout"));
+
+		// when & then
+		assertThatThrownBy(() -> userRevocationService.isRevoked(TSID))
+			.isInstanceOf(RetryableException.class)
+			.extracting("errorCode", "retryAfterSeconds")
+			.containsExactly(ErrorCode.REVOCATION_CHECK_UNAVAILABLE, 5L);
+	}
+
+	@Test
+	@DisplayName("유예 시간은 마지막 조회 성공이 아니라 연속 실패가 시작된 시각부터 계산하고, 조회에 성공하면 초기화한다")
+	void isRevoked_graceCountsFromFirstFailure() {
+		// given: 조회 실패 후 Redis 복구
+		when(redisAdapter.get(anyString()))
+			.thenThrow(new QueryTimeoutException("timeout"))
+			.thenReturn(Optional.empty());
+
+		// when & then
+		assertThat(userRevocationService.isRevoked(TSID)).isFalse();
+		assertThat((long)ReflectionTestUtils.getField(userRevocationService, "firstFailureMillis")).isPositive();
+
+		assertThat(userRevocationService.isRevoked(TSID)).isFalse();
+		assertThat((long)ReflectionTestUtils.getField(userRevocationService, "firstFailureMillis")).isZero();
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서는 커밋 후에만 취소를 등록하고, 롤백되면 등록하지 않는다")
+	void revokeAfterCommit_registersOnlyOnCommit() {
+		// given
+		TransactionSynchronizationManager.initSynchronization();
+
+		// when: 롤백
+		userRevocationService.revokeAfterCommit(TSID);
+		TransactionSynchronizationManager.getSynchronizations()
+			.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+		TransactionSynchronizationManager.clearSynchronization();
+
+		// then
+		verifyNoInteractions(redisAdapter);
+
+		// when: 커밋
+		TransactionSynchronizationManager.initSynchronization();
+		userRevocationService.revokeAfterCommit(TSID);
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		// then
+		verify(redisAdapter).set(eq("auth:revoked:" + TSID), eq("1"), any());
+		assertThat(userRevocationService.isRevoked(TSID)).isTrue();
+	}
+}
@@ -0,0 +1,86 @@
+package com.gathering.auth.infra;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.gathering.common.exception.ErrorCode;
+import com.gathering.common.exception.RetryableException;
+
+@DisplayName("BoundedPasswordEncoder 테스트")
+class BoundedPasswordEncoderTest {
+
+	private final PasswordEncoder delegate = mock(PasswordEncoder.class);
+	private final BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(delegate, 1, 1, 3);
+
+	@AfterEach
+	void tearDown() {
+		passwordEncoder.close();
+	}
+
+	@Test
+	@DisplayName("해싱 스레드에서 위임 인코더를 실행하고 결과를 반환한다")
+	void delegatesToHashingThread() {
+		// given
+		when(delegate.encode("password")).thenAnswer(invocation -> Thread.currentThread().getName());
+		when(delegate.matches("password", "hash")).thenReturn(true);
+
+		// when & then
+		assertThat(passwordEncoder.encode("password")).startsWith("password-hash-");
+		assertThat(passwordEncoder.matches("password", "hash")).isTrue();
+	}
+
+	@Test
+	@DisplayName("위임 인코더의 런타임 예외를 그대로 전달한다")
+	void propagatesRuntimeException() {
+		// given
+		when(delegate.matches(any(), any())).thenThrow(new IllegalArgumentException("invalid hash"));
+
+		// when & then
+		assertThatThrownBy(() -> passwordEncoder.matches("password", "hash"))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("invalid hash");
+	}
+
+	@Test
+	@DisplayName("해싱 스레드와 대기열이 모두 차면 Retry-After와 함께 즉시 거부한다")
+	void rejectsWhenQueueIsFull() throws Exception {
+		// given: 스레드 1개가 해싱 중이고 대기열 1개가 찬 상태
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(delegate.encode(any())).thenAnswer(invocation -> {
+			started.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return "hash";
+		});
+		CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("first"));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("second"));
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (passwordEncoder.getQueuedTaskCount() < 1 && System.nanoTime() < deadline) {
+			Thread.onSpinWait();
+		}
+
+		// when & then
+		try {
+			assertThatThrownBy(() -> passwordEncoder.encode("third"))
+				.isInstanceOfSatisfying(RetryableException.class, e -> {
+					assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PASSWORD_HASHING_BUSY);
+					assertThat(e.getRetryAfterSeconds()).isEqualTo(3);
+				});
+		} finally {
+			release.countDown();
+		}
+		assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+		assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+	}
+}
@@ -0,0 +1,114 @@
+package com.gathering.common;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.crypto.AEADBadTagException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.gathering.common.utility.AesCipherContext;
+import com.gathering.common.utility.CryptoUtil;
+
+/**
+ * AesCipherContext 단위 테스트
+ */
+class AesCipherContextTest {
+
+	private static final String AES_KEY = "gatheringkey1234";
+
+	private final AesCipherContext cipherContext = new AesCipherContext(AES_KEY, true);
+
+	@Test
+	@DisplayName("v1(GCM) 형식으로 암호화한 값을 복호화한다")
+	void encryptAndDecryptV1() throws Exception {
+		// given
+		String plain = "Password123!";
+
+		// when
+		String encrypted = cipherContext.encrypt(plain);
+
+		// then
+		assertThat(encrypted).startsWith(AesCipherContext.V1_PREFIX);
+		assertThat(cipherContext.decrypt(encrypted)).isEqualTo(plain);
+	}
+
+	@Test
+	@DisplayName("같은 평문도 IV가 달라 매번 다른 암호문이 만들어진다")
+	void encryptUsesRandomIv() throws Exception {
+		assertThat(cipherContext.encrypt("Password123!")).isNotEqualTo(cipherContext.encrypt("Password123!"));
+	}
+
+	@Test
+	@DisplayName("버전 접두사가 없는 레거시 ECB 암호문도 복호화한다")
+	void decryptLegacyEcb() throws Exception {
+		// given
+		String encrypted = CryptoUtil.encryptAES("Password123!", AES_KEY);
+
+		// when & then
+		assertThat(cipherContext.decrypt(encrypted)).isEqualTo("Password123!");
+		assertThat(cipherContext.decrypt(encrypted)).isEqualTo("Password123!");
+	}
+
+	@Test
+	@DisplayName("레거시 ECB를 허용하지 않으면 버전 접두사가 없는 암호문은 복호화하지 않는다")
+	void decryptLegacyEcb_disabled() throws Exception {
+		// given
+		AesCipherContext gcmOnly = new AesCipherContext(AES_KEY, false);
+		String encrypted = CryptoUtil.encryptAES("Password123!", AES_KEY);
+
+		// when & then
+		assertThatThrownBy(() -> gcmOnly.decrypt(encrypted))
+			.isInstanceOf(GeneralSecurityException.class);
+		assertThat(gcmOnly.decrypt(gcmOnly.encrypt("Password123!"))).isEqualTo("Password123!");
+	}
+
+	@Test
+	@DisplayName("변조된 v1 암호문은 인증 태그 검증에 실패한다")
+	void decryptTamperedV1() throws Exception {
+		// given
+		byte[] payload = Base64.getDecoder()
+			.decode(cipherContext.encrypt("Password123!").substring(AesCipherContext.V1_PREFIX.length()));
+		payload[payload.length - 1] ^= 1;
+		String tampered = AesCipherContext.V1_PREFIX + Base64.getEncoder().encodeToString(payload);
+
+		// when & then
+		assertThatThrownBy(() -> cipherContext.decrypt(tampered))
+			.isInstanceOf(AEADBadTagException.class);
+		assertThat(cipherContext.decrypt(cipherContext.encrypt("Password123!"))).isEqualTo("Password123!");
+	}
+
+	@Test
+	@DisplayName("여러 스레드에서 동시에 사용해도 Cipher를 공유하지 않고 올바르게 복호화한다")
+	void decryptConcurrently() throws Exception {
+		// given
+		String legacy = CryptoUtil.encryptAES("Password123!", AES_KEY);
+		String v1 = cipherContext.encrypt("Password123!");
+
+		// when
+		List<Future<?>> futures = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+			for (int i = 0; i < 8; i++) {
+				futures.add(executor.submit(() -> {
+					for (int j = 0; j < 200; j++) {
+						assertThat(cipherContext.decrypt(legacy)).isEqualTo("Password123!");
+						assertThat(cipherContext.decrypt(v1)).isEqualTo("Password123!");
+					}
+					return null;
+				}));
+			}
+		}
+
+		// then
+		assertThat(futures).allSatisfy(future -> assertThat(future).succeedsWithin(Duration.ofSeconds(10)));
+	}
+}
@@ -0,0 +1,59 @@
+package com.gathering.common;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gathering.common.monitoring.VirtualThreadPinningDetector;
+
+/**
+ * VirtualThreadPinningDetector 테스트 (실제 JFR 이벤트 사용)
+ */
+class VirtualThreadPinningDetectorTest {
+
+	private final VirtualThreadPinningDetector detector = new VirtualThreadPinningDetector();
+	private final Object lock = new Object();
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(detector, "thresholdMillis", 20L);
+		ReflectionTestUtils.setField(detector, "maxStackDepth", 10);
+		detector.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		detector.close();
+	}
+
+	@Test
+	@DisplayName("synchronized 안에서 블로킹한 가상 스레드를 애플리케이션 코드 위치로 집계한다")
+	void detectsPinnedVirtualThread() throws Exception {
+		// given & when
+		Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+
+		// then: JFR 스트림은 약 1초 주기로 이벤트를 전달
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (detector.getPinnedCounts().isEmpty() && System.nanoTime() < deadline) {
+			Thread.sleep(100);
+		}
+		assertThat(detector.getPinnedCounts().keySet())
+			.anyMatch(site -> site.startsWith(VirtualThreadPinningDetectorTest.class.getName()));
+	}
+
+	private void sleepWhileHoldingMonitor() {
+		synchronized (lock) {
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
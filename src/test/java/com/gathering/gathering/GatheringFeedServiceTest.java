@@ -0,0 +1,203 @@
+package com.gathering.gathering;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gathering.common.adapter.RedisAdapter;
+import com.gathering.gathering.application.GatheringFeedService;
+import com.gathering.gathering.domain.model.GatheringCategory;
+import com.gathering.gathering.domain.model.GatheringSummary;
+import com.gathering.gathering.domain.repository.GatheringRepository;
+import com.gathering.gathering.presentation.dto.GatheringListResponse;
+import com.gathering.gathering.presentation.dto.GatheringSummaryResponse;
+import com.gathering.region.application.RegionService;
+import com.gathering.region.domain.model.Region;
+
+/**
+ * GatheringFeedService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class GatheringFeedServiceTest {
+
+	private static final Region JONGNO = new Region("REGION0000002", "11110", "종로구", "11/11110", 2);
+	private static final Instant CREATED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+	@Mock
+	private RedisAdapter redisAdapter;
+
+	@Mock
+	private GatheringRepository gatheringRepository;
+
+	@Mock
+	private RegionService regionService;
+
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	@InjectMocks
+	private GatheringFeedService gatheringFeedService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(gatheringFeedService, "maxSize", 1000L);
+		ReflectionTestUtils.setField(gatheringFeedService, "activityWeightSeconds", 45000.0);
+		ReflectionTestUtils.setField(gatheringFeedService, "rebuildBatchSize", 2);
+		ReflectionTestUtils.setField(gatheringFeedService, "defaultSize", 2);
+		ReflectionTestUtils.setField(gatheringFeedService, "maxPageSize", 50);
+	}
+
+	@Test
+	@DisplayName("모임 갱신 시 카드를 저장하고 전체/상위 지역/하위 지역 x 전체/카테고리 피드에 반영한다")
+	void publish_fansOutToRegionPrefixesAndCategories() {
+		// given
+		when(regionService.findByTsid(JONGNO.tsid())).thenReturn(Optional.of(JONGNO));
+
+		// when
+		gatheringFeedService.publish(summary("GATHERING0001", 3));
+
+		// then
+		verify(redisAdapter).set(eq("gathering:card:GATHERING0001"), contains("종로구"));
+		verify(redisAdapter).addToSortedSets(eq(List.of(
+			"gathering:feed:ALL:ALL",
+			"gathering:feed:ALL:SPORTS",
+			"gathering:feed:11:ALL",
+			"gathering:feed:11:SPORTS",
+			"gathering:feed:11/11110:ALL",
+			"gathering:feed:11/11110:SPORTS"
+		)), eq("GATHERING0001"), anyDouble(), eq(1000L));
+	}
+
+	@Test
+	@DisplayName("같은 시각에 생성된 모임은 참여자가 많을수록 점수가 높다")
+	void publish_scoresActivity() {
+		// given
+		ArgumentCaptor<Double> scores = ArgumentCaptor.forClass(Double.class);
+
+		// when
+		gatheringFeedService.publish(summary("GATHERING0001", 0));
+		gatheringFeedService.publish(summary("GATHERING0002", 9));
+
+		// then
+		verify(redisAdapter, times(2)).addToSortedSets(anyList(), anyString(), scores.capture(), anyLong());
+		assertThat(scores.getAllValues().get(1) - scores.getAllValues().get(0)).isCloseTo(1.0, within(1e-9));
+	}
+
+	@Test
+	@DisplayName("피드는 ZREVRANGE와 MGET으로만 조회한다")
+	void getFeed_readsRangeAndCards() throws Exception {
+		// given
+		when(regionService.findByTsid(JONGNO.tsid())).thenReturn(Optional.of(JONGNO));
+		when(redisAdapter.getSortedSetReverseRange("gathering:feed:11/11110:SPORTS", 2, 4))
+			.thenReturn(List.of("GATHERING0003", "GATHERING0002", "GATHERING0001"));
+		when(redisAdapter.multiGet(List.of("gathering:card:GATHERING0003", "gathering:card:GATHERING0002")))
+			.thenReturn(Map.of(
+				"gathering:card:GATHERING0003", card("GATHERING0003"),
+				"gathering:card:GATHERING0002", card("GATHERING0002")));
+
+		// when
+		GatheringListResponse response = gatheringFeedService.getFeed(
+			JONGNO.tsid(), GatheringCategory.SPORTS, "2", null);
+
+		// then
+		assertThat(response.getGatherings()).extracting(GatheringSummaryResponse::getTsid)
+			.containsExactly("GATHERING0003", "GATHERING0002");
+		assertThat(response.isHasNext()).isTrue();
+		assertThat(response.getNextCursor()).isEqualTo("4");
+		verify(redisAdapter, never()).removeFromSortedSet(anyString(), anyList());
+		verifyNoInteractions(gatheringRepository);
+	}
+
+	@Test
+	@DisplayName("카드가 없는 모임은 피드에서 제거하고 다음 순위의 모임으로 페이지를 채운다")
+	void getFeed_removesDanglingMembersAndFillsPage() throws Exception {
+		// given: 2~4위 중 GATHERING0002의 카드가 없음
+		when(regionService.findByTsid(JONGNO.tsid())).thenReturn(Optional.of(JONGNO));
+		when(redisAdapter.getSortedSetReverseRange("gathering:feed:11/11110:SPORTS", 2, 4))
+			.thenReturn(List.of("GATHERING0003", "GATHERING0002", "GATHERING0001"));
+		when(redisAdapter.multiGet(List.of("gathering:card:GATHERING0003", "gathering:card:GATHERING0002")))
+			.thenReturn(Map.of("gathering:card:GATHERING0003", card("GATHERING0003")));
+		// 제거 후 GATHERING0001이 3위로 앞당겨짐
+		when(redisAdapter.getSortedSetReverseRange("gathering:feed:11/11110:SPORTS", 3, 4))
+			.thenReturn(List.of("GATHERING0001", "GATHERING0000"));
+		when(redisAdapter.multiGet(List.of("gathering:card:GATHERING0001")))
+			.thenReturn(Map.of("gathering:card:GATHERING0001", card("GATHERING0001")));
+
+		// when
+		GatheringListResponse response = gatheringFeedService.getFeed(
+			JONGNO.tsid(), GatheringCategory.SPORTS, "2", null);
+
+		// then
+		assertThat(response.getGatherings()).extracting(GatheringSummaryResponse::getTsid)
+			.containsExactly("GATHERING0003", "GATHERING0001");
+		assertThat(response.isHasNext()).isTrue();
+		assertThat(response.getNextCursor()).isEqualTo("4");
+		verify(redisAdapter).removeFromSortedSet("gathering:feed:11/11110:SPORTS", List.of("GATHERING0002"));
+	}
+
+	@Test
+	@DisplayName("재구성은 배치마다 카드 저장 1회와 피드 갱신 1회로 처리한다")
+	@SuppressWarnings("unchecked")
+	void rebuild_writesEachBatchAtOnce() {
+		// given
+		when(regionService.findByTsid(JONGNO.tsid())).thenReturn(Optional.of(JONGNO));
+		when(gatheringRepository.findSummaries(anyString(), any()))
+			.thenReturn(List.of(summary("GATHERING0001", 0), summary("GATHERING0002", 0)))
+			.thenReturn(List.of(summary("GATHERING0003", 0)));
+		ArgumentCaptor<Map<String, Map<String, Double>>> scoresByKey = ArgumentCaptor.forClass(Map.class);
+
+		// when
+		gatheringFeedService.rebuild();
+
+		// then
+		verify(redisAdapter, times(2)).multiSet(anyMap());
+		verify(redisAdapter, times(2)).addAllToSortedSets(scoresByKey.capture(), eq(1000L));
+		assertThat(scoresByKey.getAllValues().get(0).get("gathering:feed:ALL:ALL"))
+			.containsOnlyKeys("GATHERING0001", "GATHERING0002");
+		assertThat(scoresByKey.getAllValues().get(1)).hasSize(6);
+		verify(redisAdapter, never()).set(anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("Redis 장애 시 빈 피드를 반환한다")
+	void getFeed_redisFailure() {
+		// given
+		when(redisAdapter.getSortedSetReverseRange(anyString(), anyLong(), anyLong()))
+			.thenThrow(new QueryTimeoutException("timeout"));
+
+		// when
+		GatheringListResponse response = gatheringFeedService.getFeed(null, null, null, null);
+
+		// then
+		assertThat(response.getGatherings()).isEmpty();
+		assertThat(response.isHasNext()).isFalse();
+		verifyNoInteractions(gatheringRepository);
+	}
+
+	private static GatheringSummary summary(String tsid, int participantCount) {
+		return new GatheringSummary(tsid, "모임", JONGNO.tsid(), GatheringCategory.SPORTS, null,
+			participantCount, CREATED_AT);
+	}
+
+	private String card(String tsid) throws Exception {
+		return objectMapper.writeValueAsString(GatheringSummaryResponse.from(summary(tsid, 1), JONGNO.name()));
+	}
+}
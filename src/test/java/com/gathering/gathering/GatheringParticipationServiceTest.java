@@ -0,0 +1,291 @@
+package com.gathering.gathering;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.gathering.common.adapter.RedisAdapter;
+import com.gathering.common.exception.BusinessException;
+import com.gathering.common.exception.ErrorCode;
+import com.gathering.common.exception.RetryableException;
+import com.gathering.gathering.application.GatheringFeedService;
+import com.gathering.gathering.application.GatheringParticipationService;
+import com.gathering.gathering.application.GatheringTrendingService;
+import com.gathering.gathering.application.ParticipantCountService;
+import com.gathering.gathering.domain.model.GatheringCategory;
+import com.gathering.gathering.domain.model.GatheringEntity;
+import com.gathering.gathering.domain.model.GatheringParticipantEntity;
+import com.gathering.gathering.domain.model.GatheringSummary;
+import com.gathering.gathering.domain.model.ParticipantRole;
+import com.gathering.gathering.domain.repository.GatheringParticipantRepository;
+import com.gathering.gathering.domain.repository.GatheringRepository;
+
+/**
+ * GatheringParticipationService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class GatheringParticipationServiceTest {
+
+	private static final String GATHERING_TSID = "GATHERING0001";
+	private static final String USER_TSID = "USER000000001";
+	private static final String SEATS_KEY = "gathering:seats:" + GATHERING_TSID;
+
+	@Mock
+	private GatheringRepository gatheringRepository;
+
+	@Mock
+	private GatheringParticipantRepository gatheringParticipantRepository;
+
+	@Mock
+	private ParticipantCountService participantCountService;
+
+	@Mock
+	private GatheringFeedService gatheringFeedService;
+
+	@Mock
+	private GatheringTrendingService gatheringTrendingService;
+
+	@Mock
+	private RedisAdapter redisAdapter;
+
+	@InjectMocks
+	private GatheringParticipationService gatheringParticipationService;
+
+	private RedisScript<Long> reserveSeatScript;
+	private RedisScript<Long> releaseSeatScript;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		ReflectionTestUtils.setField(gatheringParticipationService, "seatTtlSeconds", 3600L);
+		ReflectionTestUtils.setField(gatheringParticipationService, "retryAfterSeconds", 1L);
+		reserveSeatScript = (RedisScript<Long>)ReflectionTestUtils.getField(
+			GatheringParticipationService.class, "RESERVE_SEAT_SCRIPT");
+		releaseSeatScript = (RedisScript<Long>)ReflectionTestUtils.getField(
+			GatheringParticipationService.class, "RELEASE_SEAT_SCRIPT");
+		TransactionSynchronizationManager.initSynchronization();
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	@Test
+	@DisplayName("정원이 남아 있으면 좌석을 예약하고 저장하며, 커밋 후 참여자 수를 증가시킨다")
+	void join_reservesSeatAndIncrementsAfterCommit() {
+		// given
+		givenGathering(10);
+		givenReserveResults(1L);
+
+		// when
+		gatheringParticipationService.join(GATHERING_TSID, USER_TSID);
+
+		// then
+		verify(gatheringParticipantRepository).saveAndFlush(any(GatheringParticipantEntity.class));
+		verify(participantCountService, never()).increment(any());
+
+		completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+		verify(participantCountService).increment(GATHERING_TSID);
+		verify(gatheringFeedService).publish(any(GatheringSummary.class));
+		verify(gatheringTrendingService).recordJoin(any(GatheringEntity.class));
+		verify(redisAdapter, never()).executeScript(eq(releaseSeatScript), anyList(), any(Object[].class));
+	}
+
+	@Test
+	@DisplayName("정원이 가득 차면 저장하지 않고 거부한다")
+	void join_full() {
+		// given
+		givenGathering(10);
+		givenReserveResults(0L);
+
+		// when & then
+		assertThatThrownBy(() -> gatheringParticipationService.join(GATHERING_TSID, USER_TSID))
+			.isInstanceOf(BusinessException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.GATHERING_FULL);
+		verify(gatheringParticipantRepository, never()).saveAndFlush(any());
+	}
+
+	@Test
+	@DisplayName("좌석 수가 적재되지 않았으면 DB 참여자 수로 적재한 뒤 다시 예약한다")
+	void join_loadsSeatCountFromDatabase() {
+		// given
+		givenGathering(10);
+		givenReserveResults(-1L, 1L);
+		when(gatheringParticipantRepository.countByGatheringTsid(GATHERING_TSID)).thenReturn(7L);
+
+		// when
+		gatheringParticipationService.join(GATHERING_TSID, USER_TSID);
+
+		// then
+		verify(redisAdapter).setIfAbsent(SEATS_KEY, "7", Duration.ofSeconds(3600));
+		verify(redisAdapter, times(2)).executeScript(eq(reserveSeatScript), eq(List.of(SEATS_KEY)),
+			any(Object[].class));
+		verify(gatheringParticipantRepository).saveAndFlush(any(GatheringParticipantEntity.class));
+	}
+
+	@Test
+	@DisplayName("같은 사용자의 동시 요청으로 저장이 유니크 제약에 걸리면 좌석을 반환하고 거부한다")
+	void join_duplicateReleasesSeat() {
+		// given
+		givenGathering(10);
+		givenReserveResults(1L);
+		when(gatheringParticipantRepository.saveAndFlush(any()))
+			.thenThrow(new DataIntegrityViolationException("uk_gathering_user"));
+
+		// when & then
+		assertThatThrownBy(() -> gatheringParticipationService.join(GATHERING_TSID, USER_TSID))
+			.isInstanceOf(BusinessException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.GATHERING_ALREADY_JOINED);
+		verify(redisAdapter).executeScript(releaseSeatScript, List.of(SEATS_KEY));
+	}
+
+	@Test
+	@DisplayName("저장 후 트랜잭션이 롤백되면 좌석을 반환하고 참여자 수는 바꾸지 않는다")
+	void join_rollbackReleasesSeat() {
+		// given
+		givenGathering(10);
+		givenReserveResults(1L);
+
+		// when
+		gatheringParticipationService.join(GATHERING_TSID, USER_TSID);
+		completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		// then
+		verify(redisAdapter).executeScript(releaseSeatScript, List.of(SEATS_KEY));
+		verify(participantCountService, never()).increment(any());
+		verifyNoInteractions(gatheringFeedService, gatheringTrendingService);
+	}
+
+	@Test
+	@DisplayName("정원이 없는 모임은 좌석을 예약하지 않는다")
+	void join_unlimited() {
+		// given
+		givenGathering(null);
+
+		// when
+		gatheringParticipationService.join(GATHERING_TSID, USER_TSID);
+		completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+		// then
+		verifyNoInteractions(redisAdapter);
+		verify(participantCountService).increment(GATHERING_TSID);
+	}
+
+	@Test
+	@DisplayName("Redis 장애 시 정원을 확인할 수 없으므로 재시도 가능한 예외로 거부한다")
+	void join_redisFailure() {
+		// given
+		givenGathering(10);
+		when(redisAdapter.executeScript(eq(reserveSeatScript), anyList(), any(Object[].class)))
+			.thenThrow(new QueryTimeoutException("timeout"));
+
+		// when & then
+		assertThatThrownBy(() -> gatheringParticipationService.join(GATHERING_TSID, USER_TSID))
+			.isInstanceOf(RetryableException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.SEAT_RESERVATION_UNAVAILABLE);
+		verify(gatheringParticipantRepository, never()).saveAndFlush(any());
+	}
+
+	@Test
+	@DisplayName("이미 참여한 사용자는 좌석을 예약하지 않고 거부한다")
+	void join_alreadyJoined() {
+		// given
+		givenGathering(10);
+		when(gatheringParticipantRepository.existsByGatheringTsidAndUserTsid(GATHERING_TSID, USER_TSID))
+			.thenReturn(true);
+
+		// when & then
+		assertThatThrownBy(() -> gatheringParticipationService.join(GATHERING_TSID, USER_TSID))
+			.isInstanceOf(BusinessException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.GATHERING_ALREADY_JOINED);
+		verifyNoInteractions(redisAdapter);
+	}
+
+	@Test
+	@DisplayName("탈퇴가 커밋되면 참여자 수를 감소시키고 좌석을 반환하며 홈 피드를 갱신한다")
+	void leave_releasesSeatAfterCommit() {
+		// given
+		givenGathering(10);
+		when(participantCountService.getPendingDelta(GATHERING_TSID)).thenReturn(-1L);
+		GatheringParticipantEntity participant = participant(ParticipantRole.MEMBER);
+		when(gatheringParticipantRepository.findByGatheringTsidAndUserTsid(GATHERING_TSID, USER_TSID))
+			.thenReturn(Optional.of(participant));
+
+		// when
+		gatheringParticipationService.leave(GATHERING_TSID, USER_TSID);
+		completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+		// then
+		verify(gatheringParticipantRepository).delete(participant);
+		verify(participantCountService).decrement(GATHERING_TSID);
+		verify(redisAdapter).executeScript(releaseSeatScript, List.of(SEATS_KEY));
+		verify(gatheringFeedService).publish(argThat(summary -> summary.participantCount() == 2));
+	}
+
+	@Test
+	@DisplayName("모임장은 탈퇴할 수 없다")
+	void leave_ownerRejected() {
+		// given
+		givenGathering(10);
+		when(gatheringParticipantRepository.findByGatheringTsidAndUserTsid(GATHERING_TSID, USER_TSID))
+			.thenReturn(Optional.of(participant(ParticipantRole.OWNER)));
+
+		// when & then
+		assertThatThrownBy(() -> gatheringParticipationService.leave(GATHERING_TSID, USER_TSID))
+			.isInstanceOf(BusinessException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.GATHERING_OWNER_CANNOT_LEAVE);
+		verify(gatheringParticipantRepository, never()).delete(any());
+	}
+
+	private void givenGathering(Integer maxParticipants) {
+		when(gatheringRepository.findById(GATHERING_TSID)).thenReturn(Optional.of(GatheringEntity.builder()
+			.tsid(GATHERING_TSID)
+			.category(GatheringCategory.SPORTS)
+			.maxParticipants(maxParticipants)
+			.participantCount(3)
+			.build()));
+	}
+
+	private void givenReserveResults(Long first, Long... rest) {
+		when(redisAdapter.executeScript(eq(reserveSeatScript), eq(List.of(SEATS_KEY)), any(Object[].class)))
+			.thenReturn(first, rest);
+	}
+
+	private static GatheringParticipantEntity participant(ParticipantRole role) {
+		return GatheringParticipantEntity.builder()
+			.gatheringTsid(GATHERING_TSID)
+			.userTsid(USER_TSID)
+			.role(role)
+			.build();
+	}
+
+	private static void completeTransaction(int status) {
+		TransactionSynchronizationManager.getSynchronizations()
+			.forEach(synchronization -> synchronization.afterCompletion(status));
+	}
+}
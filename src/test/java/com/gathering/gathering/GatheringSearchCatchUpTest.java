@@ -0,0 +1,78 @@
+package com.gathering.gathering;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gathering.gathering.application.GatheringSearchService;
+import com.gathering.gathering.domain.model.GatheringCategory;
+import com.gathering.gathering.domain.model.GatheringEntity;
+import com.gathering.gathering.domain.repository.GatheringRepository;
+import com.gathering.gathering.presentation.dto.GatheringSummaryResponse;
+import com.gathering.region.domain.model.RegionEntity;
+import com.gathering.region.domain.repository.RegionRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 다른 인스턴스에서 커밋된 모임 변경이 따라잡기로 검색 색인에 반영되는지 확인하는 테스트
+ */
+@SpringBootTest(properties = "gathering.search.catch-up-interval-millis=3600000")
+@Transactional
+class GatheringSearchCatchUpTest {
+
+	@Autowired
+	private GatheringSearchService gatheringSearchService;
+
+	@Autowired
+	private GatheringRepository gatheringRepository;
+
+	@Autowired
+	private RegionRepository regionRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	@DisplayName("이 인스턴스의 리스너를 거치지 않은 변경도 updated_at 이후 변경분 조회로 색인에 반영한다")
+	void catchUp_indexesChangesFromOtherInstances() {
+		// given: 색인 구성 후 다른 인스턴스가 모임 이름을 변경한 상황 (JDBC로 직접 변경하여 리스너를 거치지 않음)
+		RegionEntity region = regionRepository.save(RegionEntity.builder()
+			.code("11")
+			.name("서울특별시")
+			.path("11")
+			.depth(1)
+			.build());
+		GatheringEntity gathering = gatheringRepository.save(GatheringEntity.builder()
+			.name("주말 축구")
+			.regionTsid(region.getTsid())
+			.category(GatheringCategory.SPORTS)
+			.build());
+		entityManager.flush();
+		gatheringSearchService.rebuild();
+
+		jdbcTemplate.update("UPDATE gatherings SET name = ?, updated_at = ? WHERE tsid = ?",
+			"주말 농구", Timestamp.from(Instant.now()), gathering.getTsid());
+		assertThat(gatheringSearchService.search("농구", null, null, null).getGatherings()).isEmpty();
+
+		// when
+		gatheringSearchService.catchUp();
+
+		// then
+		assertThat(gatheringSearchService.search("농구", null, null, null).getGatherings())
+			.extracting(GatheringSummaryResponse::getTsid)
+			.containsExactly(gathering.getTsid());
+		assertThat(gatheringSearchService.search("축구", null, null, null).getGatherings()).isEmpty();
+	}
+}
@@ -0,0 +1,138 @@
+package com.gathering.gathering;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gathering.gathering.application.GatheringService;
+import com.gathering.gathering.domain.model.GatheringCategory;
+import com.gathering.gathering.domain.model.GatheringSummary;
+import com.gathering.gathering.domain.repository.GatheringRepository;
+import com.gathering.gathering.presentation.dto.GatheringListResponse;
+import com.gathering.region.application.RegionService;
+
+/**
+ * GatheringService 목록 조회 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class GatheringServiceTest {
+
+	@InjectMocks
+	private GatheringService gatheringService;
+
+	@Mock
+	private GatheringRepository gatheringRepository;
+
+	@Mock
+	private RegionService regionService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(gatheringService, "defaultSize", 2);
+		ReflectionTestUtils.setField(gatheringService, "maxSize", 50);
+	}
+
+	@Test
+	@DisplayName("요청 크기보다 1건 더 조회되면 다음 페이지 cursor로 마지막 항목의 TSID를 반환한다")
+	void getGatherings_hasNext() {
+		// given
+		when(gatheringRepository.findSummaries(anyString(), eq(Limit.of(3))))
+			.thenReturn(summaries("0000000000003", "0000000000002", "0000000000001"));
+
+		// when
+		GatheringListResponse response = gatheringService.getGatherings(null, null, null, null);
+
+		// then
+		assertThat(response.getGatherings()).extracting("tsid")
+			.containsExactly("0000000000003", "0000000000002");
+		assertThat(response.isHasNext()).isTrue();
+		assertThat(response.getNextCursor()).isEqualTo("0000000000002");
+	}
+
+	@Test
+	@DisplayName("마지막 페이지는 nextCursor가 없다")
+	void getGatherings_lastPage() {
+		// given
+		when(gatheringRepository.findSummaries("0000000000002", Limit.of(3)))
+			.thenReturn(summaries("0000000000001"));
+
+		// when
+		GatheringListResponse response = gatheringService.getGatherings(null, null, "0000000000002", null);
+
+		// then
+		assertThat(response.getGatherings()).hasSize(1);
+		assertThat(response.isHasNext()).isFalse();
+		assertThat(response.getNextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("카테고리와 지역을 함께 지정하면 하위 지역까지 확장하여 복합 조건 쿼리를 사용한다")
+	void getGatherings_regionAndCategory() {
+		// given
+		List<String> subtree = List.of("REGION0000001", "REGION0000010", "REGION0000011");
+		when(regionService.findRootTsid("REGION0000001")).thenReturn("REGION0000000");
+		when(regionService.expandWithDescendants("REGION0000001")).thenReturn(subtree);
+		when(gatheringRepository.findSummariesByRegionsAndCategory(
+			eq(subtree), eq(GatheringCategory.SPORTS), anyString(), any(Limit.class)))
+			.thenReturn(List.of());
+
+		// when
+		GatheringListResponse response = gatheringService.getGatherings(
+			GatheringCategory.SPORTS, "REGION0000001", null, 10);
+
+		// then
+		assertThat(response.getGatherings()).isEmpty();
+		verify(gatheringRepository, never()).findSummaries(anyString(), any(Limit.class));
+	}
+
+	@Test
+	@DisplayName("최상위 지역은 하위 지역 목록 대신 최상위 지역 컬럼의 동등 조건으로 조회한다")
+	void getGatherings_rootRegion() {
+		// given
+		when(regionService.findRootTsid("REGION0000000")).thenReturn("REGION0000000");
+		when(gatheringRepository.findSummariesByRootRegionAndCategory(
+			eq("REGION0000000"), eq(GatheringCategory.SPORTS), anyString(), any(Limit.class)))
+			.thenReturn(List.of());
+
+		// when
+		gatheringService.getGatherings(GatheringCategory.SPORTS, "REGION0000000", null, 10);
+
+		// then
+		verify(regionService, never()).expandWithDescendants(anyString());
+	}
+
+	@Test
+	@DisplayName("최대 크기를 초과한 요청은 최대 크기로 제한한다")
+	void getGatherings_sizeCapped() {
+		// given
+		when(gatheringRepository.findSummariesByCategory(eq(GatheringCategory.STUDY), anyString(), any(Limit.class)))
+			.thenReturn(List.of());
+
+		// when
+		gatheringService.getGatherings(GatheringCategory.STUDY, null, null, 1000);
+
+		// then
+		verify(gatheringRepository).findSummariesByCategory(eq(GatheringCategory.STUDY), anyString(), eq(Limit.of(51)));
+	}
+
+	private List<GatheringSummary> summaries(String... tsids) {
+		return IntStream.range(0, tsids.length)
+			.mapToObj(i -> new GatheringSummary(tsids[i], "모임" + i, "REGION0000001", GatheringCategory.SPORTS,
+				null, 0, Instant.parse("2024-01-01T00:00:00Z")))
+			.toList();
+	}
+}
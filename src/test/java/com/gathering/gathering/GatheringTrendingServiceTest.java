@@ -0,0 +1,202 @@
+package com.gathering.gathering;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gathering.common.adapter.RedisAdapter;
+import com.gathering.common.exception.BusinessException;
+import com.gathering.common.exception.ErrorCode;
+import com.gathering.gathering.application.GatheringFeedService;
+import com.gathering.gathering.application.GatheringTrendingService;
+import com.gathering.gathering.domain.model.GatheringCategory;
+import com.gathering.gathering.domain.model.GatheringEntity;
+import com.gathering.gathering.domain.repository.GatheringRepository;
+import com.gathering.gathering.presentation.dto.GatheringListResponse;
+import com.gathering.region.application.RegionService;
+import com.gathering.region.domain.model.Region;
+
+/**
+ * GatheringTrendingService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class GatheringTrendingServiceTest {
+
+	private static final Region JONGNO = new Region("REGION0000002", "11110", "종로구", "11/11110", 2);
+	private static final String GATHERING_TSID = "GATHERING0001";
+	private static final String USER_TSID = "USER000000001";
+	private static final long HALF_LIFE_SECONDS = 86400;
+	private static final long EPOCH_SECONDS = 1_767_225_600L;
+
+	@Mock
+	private RedisAdapter redisAdapter;
+
+	@Mock
+	private GatheringRepository gatheringRepository;
+
+	@Mock
+	private RegionService regionService;
+
+	@Mock
+	private GatheringFeedService gatheringFeedService;
+
+	@InjectMocks
+	private GatheringTrendingService gatheringTrendingService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(gatheringTrendingService, "halfLifeSeconds", HALF_LIFE_SECONDS);
+		ReflectionTestUtils.setField(gatheringTrendingService, "joinWeight", 5.0);
+		ReflectionTestUtils.setField(gatheringTrendingService, "viewWeight", 1.0);
+		ReflectionTestUtils.setField(gatheringTrendingService, "viewDedupeSeconds", 1800L);
+		ReflectionTestUtils.setField(gatheringTrendingService, "maxSize", 1000L);
+		ReflectionTestUtils.setField(gatheringTrendingService, "minScore", 0.5);
+		ReflectionTestUtils.setField(gatheringTrendingService, "scopeCacheMaximumSize", 100L);
+		ReflectionTestUtils.setField(gatheringTrendingService, "scopeCacheTtlSeconds", 60L);
+		ReflectionTestUtils.setField(gatheringTrendingService, "defaultSize", 10);
+		ReflectionTestUtils.setField(gatheringTrendingService, "maxPageSize", 50);
+		gatheringTrendingService.init();
+	}
+
+	@Test
+	@DisplayName("참여 이벤트는 모임이 속한 모든 범위에 ln(가중치) + 경과 시간/tau 항을 범위별 스크립트 파이프라인으로 누적한다")
+	void recordJoin_accumulatesDecayedTerm() {
+		// given
+		when(regionService.findByTsid(JONGNO.tsid())).thenReturn(Optional.of(JONGNO));
+		double expectedTerm = Math.log(5.0) + elapsedTaus();
+
+		// when
+		gatheringTrendingService.recordJoin(gathering());
+
+		// then
+		verify(redisAdapter).executeScriptForEachKey(any(), eq(List.of(
+			"gathering:trending:ALL:ALL",
+			"gathering:trending:ALL:SPORTS",
+			"gathering:trending:11:ALL",
+			"gathering:trending:11:SPORTS",
+			"gathering:trending:11/11110:ALL",
+			"gathering:trending:11/11110:SPORTS"
+		)), eq(GATHERING_TSID), argThat(term -> Math.abs(Double.parseDouble(term) - expectedTerm) < 1e-3),
+			eq("1000"));
+	}
+
+	@Test
+	@DisplayName("조회 이벤트는 캐시된 범위를 사용하여 DB를 조회하지 않는다")
+	void recordView_usesCachedScopes() {
+		// given
+		when(regionService.findByTsid(JONGNO.tsid())).thenReturn(Optional.of(JONGNO));
+		when(redisAdapter.setIfAbsent(anyString(), anyString(), any())).thenReturn(true);
+		gatheringTrendingService.recordJoin(gathering());
+
+		// when
+		gatheringTrendingService.recordView(GATHERING_TSID, USER_TSID);
+
+		// then
+		verify(redisAdapter, times(2)).executeScriptForEachKey(any(), anyList(), any(String[].class));
+		verifyNoInteractions(gatheringRepository);
+	}
+
+	@Test
+	@DisplayName("캐시에 없는 모임은 한 번만 DB에서 범위를 읽고, 없는 모임도 캐시하여 반복 조회 시 DB를 다시 읽지 않는다")
+	void recordView_loadsScopesOnce() {
+		// given
+		when(gatheringRepository.findById(GATHERING_TSID)).thenReturn(Optional.of(gathering()));
+		when(gatheringRepository.findById("UNKNOWN000000")).thenReturn(Optional.empty());
+		when(redisAdapter.setIfAbsent(anyString(), anyString(), any())).thenReturn(true);
+
+		// when
+		gatheringTrendingService.recordView(GATHERING_TSID, USER_TSID);
+		gatheringTrendingService.recordView(GATHERING_TSID, "USER000000002");
+
+		// then
+		verify(gatheringRepository, times(1)).findById(GATHERING_TSID);
+		for (int i = 0; i < 2; i++) {
+			assertThatThrownBy(() -> gatheringTrendingService.recordView("UNKNOWN000000", USER_TSID))
+				.isInstanceOf(BusinessException.class)
+				.extracting("errorCode")
+				.isEqualTo(ErrorCode.GATHERING_NOT_FOUND);
+		}
+		verify(gatheringRepository, times(1)).findById("UNKNOWN000000");
+	}
+
+	@Test
+	@DisplayName("같은 사용자의 반복 조회는 중복 제거 키가 있는 동안 점수에 반영하지 않는다")
+	void recordView_dedupesPerViewer() {
+		// given
+		when(gatheringRepository.findById(GATHERING_TSID)).thenReturn(Optional.of(gathering()));
+		when(redisAdapter.setIfAbsent(eq("gathering:viewed:GATHERING0001:USER000000001"), eq("1"),
+			eq(Duration.ofSeconds(1800))))
+			.thenReturn(true)
+			.thenReturn(false);
+
+		// when
+		gatheringTrendingService.recordView(GATHERING_TSID, USER_TSID);
+		gatheringTrendingService.recordView(GATHERING_TSID, USER_TSID);
+
+		// then
+		verify(redisAdapter, times(1)).executeScriptForEachKey(any(), anyList(), any(String[].class));
+	}
+
+	@Test
+	@DisplayName("Redis 장애 시 이벤트를 버리고 예외를 던지지 않는다")
+	void recordJoin_redisFailure() {
+		// given
+		when(redisAdapter.executeScriptForEachKey(any(), anyList(), any(String[].class)))
+			.thenThrow(new QueryTimeoutException("timeout"));
+
+		// when & then
+		assertThatCode(() -> gatheringTrendingService.recordJoin(gathering())).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("조회 시점의 감쇠 점수가 최소 점수 이상인 모임만 점수 범위 조건으로 조회한다")
+	void getTrending_appliesDecayAtReadTime() {
+		// given
+		when(regionService.findByTsid(JONGNO.tsid())).thenReturn(Optional.of(JONGNO));
+		when(redisAdapter.getSortedSetReverseRangeByScore(
+			eq("gathering:trending:11/11110:SPORTS"), anyDouble(), eq(Double.POSITIVE_INFINITY), eq(0L), eq(5L)))
+			.thenReturn(List.of(GATHERING_TSID));
+		when(gatheringFeedService.getCards(List.of(GATHERING_TSID))).thenReturn(List.of());
+		double expectedMin = Math.log(0.5) + elapsedTaus();
+
+		// when
+		GatheringListResponse response = gatheringTrendingService.getTrending(
+			JONGNO.tsid(), GatheringCategory.SPORTS, 5);
+
+		// then
+		ArgumentCaptor<Double> min = ArgumentCaptor.forClass(Double.class);
+		verify(redisAdapter).getSortedSetReverseRangeByScore(anyString(), min.capture(), anyDouble(), anyLong(),
+			anyLong());
+		assertThat(min.getValue()).isCloseTo(expectedMin, within(1e-3));
+		assertThat(response.isHasNext()).isFalse();
+		verify(gatheringFeedService).getCards(List.of(GATHERING_TSID));
+	}
+
+	private static GatheringEntity gathering() {
+		return GatheringEntity.builder()
+			.tsid(GATHERING_TSID)
+			.regionTsid(JONGNO.tsid())
+			.category(GatheringCategory.SPORTS)
+			.build();
+	}
+
+	private static double elapsedTaus() {
+		double tauSeconds = HALF_LIFE_SECONDS / Math.log(2);
+		return (System.currentTimeMillis() / 1000.0 - EPOCH_SECONDS) / tauSeconds;
+	}
+}
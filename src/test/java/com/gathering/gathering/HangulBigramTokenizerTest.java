@@ -0,0 +1,36 @@
+package com.gathering.gathering;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.gathering.gathering.domain.search.HangulBigramTokenizer;
+
+/**
+ * HangulBigramTokenizer 단위 테스트
+ */
+class HangulBigramTokenizerTest {
+
+	@Test
+	@DisplayName("한글은 겹치는 2글자 단위로, 영문/숫자는 소문자 단어로 분리한다")
+	void tokenize_mixedText() {
+		assertThat(HangulBigramTokenizer.tokenize("주말 등산모임 with Java21!"))
+			.containsExactly("주말", "등산", "산모", "모임", "with", "java21");
+	}
+
+	@Test
+	@DisplayName("한글과 영문이 붙어 있으면 문자 종류가 바뀌는 곳에서 나눈다")
+	void tokenize_scriptBoundary() {
+		assertThat(HangulBigramTokenizer.tokenize("Spring스터디"))
+			.containsExactly("spring", "스터", "터디");
+	}
+
+	@Test
+	@DisplayName("한 글자 한글 구간은 그대로 토큰이 되고, 구분자만 있으면 빈 목록이다")
+	void tokenize_singleCharacterAndEmpty() {
+		assertThat(HangulBigramTokenizer.tokenize("책 모임")).containsExactly("책", "모임");
+		assertThat(HangulBigramTokenizer.tokenize(" ,.! ")).isEmpty();
+		assertThat(HangulBigramTokenizer.tokenize(null)).isEmpty();
+	}
+}
@@ -0,0 +1,99 @@
+package com.gathering.gathering;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.gathering.gathering.domain.model.GatheringCategory;
+import com.gathering.gathering.domain.search.InvertedIndex;
+import com.gathering.gathering.domain.search.SearchDocument;
+import com.gathering.gathering.domain.search.SearchHit;
+
+/**
+ * InvertedIndex 단위 테스트
+ */
+class InvertedIndexTest {
+
+	private InvertedIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new InvertedIndex();
+		index.upsert(new SearchDocument("GATHERING0001", "주말 등산모임", "북한산을 함께 오르는 모임입니다",
+			GatheringCategory.SPORTS, "REGION0000010"));
+		index.upsert(new SearchDocument("GATHERING0002", "직장인 독서모임", "등산 에세이를 읽고 이야기합니다",
+			GatheringCategory.BOOK, "REGION0000010"));
+		index.upsert(new SearchDocument("GATHERING0003", "초보 등산 동호회", "관악산 등산, 등산 장비 추천",
+			GatheringCategory.SPORTS, "REGION0000020"));
+	}
+
+	@Test
+	@DisplayName("단어 중간부터 입력해도 검색어의 모든 토큰을 포함한 모임을 찾는다")
+	void search_partialWord() {
+		// when
+		List<SearchHit> hits = index.search("산모임", null, null, 10);
+
+		// then
+		assertThat(hits).extracting(SearchHit::tsid).containsExactly("GATHERING0001");
+	}
+
+	@Test
+	@DisplayName("이름에 등장한 토큰은 설명에만 등장한 토큰보다 높은 점수를 받는다")
+	void search_namesRankHigher() {
+		// when
+		List<SearchHit> hits = index.search("등산", null, null, 10);
+
+		// then
+		assertThat(hits).extracting(SearchHit::tsid).hasSize(3).endsWith("GATHERING0002");
+		assertThat(hits.get(0).score()).isGreaterThan(hits.get(2).score());
+	}
+
+	@Test
+	@DisplayName("카테고리와 지역 필터를 함께 적용한다")
+	void search_filters() {
+		assertThat(index.search("등산", GatheringCategory.SPORTS, null, 10))
+			.extracting(SearchHit::tsid).containsExactlyInAnyOrder("GATHERING0001", "GATHERING0003");
+		assertThat(index.search("등산", GatheringCategory.SPORTS, Set.of("REGION0000020"), 10))
+			.extracting(SearchHit::tsid).containsExactly("GATHERING0003");
+		assertThat(index.search("등산", null, Set.of("REGION0000099"), 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("결과 수를 제한하면 점수가 높은 순으로 자른다")
+	void search_limit() {
+		// when
+		List<SearchHit> all = index.search("등산", null, null, 10);
+		List<SearchHit> top = index.search("등산", null, null, 1);
+
+		// then
+		assertThat(top).containsExactly(all.get(0));
+	}
+
+	@Test
+	@DisplayName("수정하면 이전 내용으로는 검색되지 않고, 삭제가 누적되어 재작성된 뒤에도 검색 결과가 유지된다")
+	void upsertAndRemove() {
+		// when
+		index.upsert(new SearchDocument("GATHERING0001", "주말 러닝크루", "한강에서 달립니다",
+			GatheringCategory.SPORTS, "REGION0000010"));
+		index.remove("GATHERING0002");
+
+		// then
+		assertThat(index.search("등산모임", null, null, 10)).isEmpty();
+		assertThat(index.search("러닝", null, null, 10)).extracting(SearchHit::tsid).containsExactly("GATHERING0001");
+		assertThat(index.search("등산", null, null, 10)).extracting(SearchHit::tsid).containsExactly("GATHERING0003");
+		assertThat(index.size()).isEqualTo(2);
+		assertThat(index.remove("GATHERING0002")).isFalse();
+	}
+
+	@Test
+	@DisplayName("색인에 없는 토큰이 있거나 검색어가 비어 있으면 빈 결과를 반환한다")
+	void search_noMatch() {
+		assertThat(index.search("등산 요가", null, null, 10)).isEmpty();
+		assertThat(index.search("  ", null, null, 10)).isEmpty();
+	}
+}
@@ -0,0 +1,148 @@
+package com.gathering.gathering;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gathering.gathering.application.GatheringService;
+import com.gathering.gathering.domain.model.GatheringCategory;
+import com.gathering.gathering.domain.model.GatheringEntity;
+import com.gathering.gathering.domain.model.GatheringParticipantEntity;
+import com.gathering.gathering.domain.model.ParticipantRole;
+import com.gathering.gathering.domain.repository.GatheringParticipantRepository;
+import com.gathering.gathering.domain.repository.GatheringRepository;
+import com.gathering.gathering.presentation.dto.GatheringListResponse;
+import com.gathering.gathering.presentation.dto.GatheringSummaryResponse;
+import com.gathering.region.application.RegionService;
+import com.gathering.region.domain.model.RegionEntity;
+import com.gathering.region.domain.repository.RegionRepository;
+import com.gathering.user.domain.model.UsersEntity;
+import com.gathering.user.domain.repository.UsersRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 내 모임 목록 조회 쿼리 수 테스트 (N+1 방지)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class MyGatheringsQueryCountTest {
+
+	private static final int GATHERING_COUNT = 500;
+	private static final int PAGE_SIZE = 50;
+
+	@Autowired
+	private GatheringService gatheringService;
+
+	@Autowired
+	private GatheringRepository gatheringRepository;
+
+	@Autowired
+	private GatheringParticipantRepository gatheringParticipantRepository;
+
+	@Autowired
+	private RegionRepository regionRepository;
+
+	@Autowired
+	private RegionService regionService;
+
+	@Autowired
+	private UsersRepository usersRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private String userTsid;
+
+	@BeforeEach
+	void setUp() {
+		RegionEntity region = regionRepository.save(RegionEntity.builder()
+			.code("11")
+			.name("서울특별시")
+			.path("11")
+			.depth(1)
+			.build());
+		userTsid = usersRepository.save(UsersEntity.builder()
+			.email("member@example.com")
+			.name("참여자")
+			.build()).getTsid();
+
+		List<GatheringEntity> gatherings = new ArrayList<>(GATHERING_COUNT);
+		for (int i = 0; i < GATHERING_COUNT; i++) {
+			gatherings.add(GatheringEntity.builder()
+				.name("모임 " + i)
+				.regionTsid(region.getTsid())
+				.category(GatheringCategory.SPORTS)
+				.build());
+		}
+		gatheringRepository.saveAll(gatherings);
+
+		gatheringParticipantRepository.saveAll(gatherings.stream()
+			.map(gathering -> GatheringParticipantEntity.builder()
+				.gatheringTsid(gathering.getTsid())
+				.userTsid(userTsid)
+				.role(ParticipantRole.MEMBER)
+				.build())
+			.toList());
+
+		entityManager.flush();
+		entityManager.clear();
+		regionService.reload();
+	}
+
+	@Test
+	@DisplayName("500개 모임에 참여한 사용자의 목록을 페이지마다 SQL 2회(참여 목록, 모임 IN 조회)로 조회한다")
+	void getMyGatherings_fixedStatementCountPerPage() {
+		// given
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		// when
+		Set<String> gatheringTsids = new HashSet<>();
+		String cursor = null;
+		int pageCount = 0;
+		do {
+			GatheringListResponse response = gatheringService.getMyGatherings(userTsid, cursor, PAGE_SIZE);
+			response.getGatherings().forEach(gathering -> {
+				gatheringTsids.add(gathering.getTsid());
+				assertThat(gathering.getRegionName()).isEqualTo("서울특별시");
+			});
+			cursor = response.getNextCursor();
+			pageCount++;
+		} while (cursor != null);
+
+		// then
+		assertThat(gatheringTsids).hasSize(GATHERING_COUNT);
+		assertThat(pageCount).isEqualTo(GATHERING_COUNT / PAGE_SIZE);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L * pageCount);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("최근에 참여한 모임부터 조회한다")
+	void getMyGatherings_orderedByJoinTime() {
+		// when
+		GatheringListResponse response = gatheringService.getMyGatherings(userTsid, null, PAGE_SIZE);
+
+		// then
+		assertThat(response.getGatherings()).extracting(GatheringSummaryResponse::getName)
+			.startsWith("모임 499", "모임 498", "모임 497");
+		assertThat(response.isHasNext()).isTrue();
+	}
+}
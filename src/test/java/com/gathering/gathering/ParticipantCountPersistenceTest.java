@@ -0,0 +1,79 @@
+package com.gathering.gathering;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gathering.gathering.application.ParticipantCountService;
+import com.gathering.gathering.domain.model.GatheringCategory;
+import com.gathering.gathering.domain.model.GatheringEntity;
+import com.gathering.gathering.domain.repository.GatheringRepository;
+import com.gathering.region.domain.model.RegionEntity;
+import com.gathering.region.domain.repository.RegionRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 참여자 수 반영과 모임 엔티티 수정이 서로 덮어쓰지 않는지 확인하는 테스트
+ */
+@SpringBootTest(properties = "gathering.participant-count.flush-interval-millis=3600000")
+@Transactional
+class ParticipantCountPersistenceTest {
+
+	@Autowired
+	private ParticipantCountService participantCountService;
+
+	@Autowired
+	private GatheringRepository gatheringRepository;
+
+	@Autowired
+	private RegionRepository regionRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	@DisplayName("증감분 반영 후 모임을 수정해도 반영된 참여자 수를 이전 값으로 덮어쓰지 않는다")
+	void editAfterFlush_keepsParticipantCount() {
+		// given: 참여자 수 0으로 읽어 둔 모임
+		RegionEntity region = regionRepository.save(RegionEntity.builder()
+			.code("11")
+			.name("서울특별시")
+			.path("11")
+			.depth(1)
+			.build());
+		GatheringEntity gathering = gatheringRepository.save(GatheringEntity.builder()
+			.name("모임")
+			.regionTsid(region.getTsid())
+			.category(GatheringCategory.SPORTS)
+			.build());
+		entityManager.flush();
+
+		participantCountService.increment(gathering.getTsid());
+		participantCountService.increment(gathering.getTsid());
+		participantCountService.increment(gathering.getTsid());
+		participantCountService.flush();
+
+		// when: 영속 상태의 모임 수정 (dirty checking으로 UPDATE)
+		ReflectionTestUtils.setField(gathering, "name", "수정된 모임");
+		entityManager.flush();
+		entityManager.clear();
+
+		// then
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT name FROM gatherings WHERE tsid = ?", String.class, gathering.getTsid()))
+			.isEqualTo("수정된 모임");
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT participant_count FROM gatherings WHERE tsid = ?", Integer.class, gathering.getTsid()))
+			.isEqualTo(3);
+	}
+}
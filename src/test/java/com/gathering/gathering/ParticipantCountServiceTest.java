@@ -0,0 +1,192 @@
+package com.gathering.gathering;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gathering.gathering.application.ParticipantCountService;
+
+/**
+ * ParticipantCountService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ParticipantCountServiceTest {
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@InjectMocks
+	private ParticipantCountService participantCountService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(participantCountService, "batchSize", 100);
+		ReflectionTestUtils.setField(participantCountService, "reconcileBatchSize", 2);
+	}
+
+	@Test
+	@DisplayName("모임별 증감분을 합쳐 한 번의 배치 UPDATE로 반영한다")
+	void flush_coalescesDeltas() {
+		// given
+		List<Object[]> batch = recordBatch();
+		participantCountService.increment("GATHERING0001");
+		participantCountService.increment("GATHERING0001");
+		participantCountService.decrement("GATHERING0001");
+		participantCountService.increment("GATHERING0002");
+		participantCountService.decrement("GATHERING0003");
+		participantCountService.increment("GATHERING0003");
+
+		// when
+		participantCountService.flush();
+
+		// then
+		assertThat(batch).hasSize(2);
+		assertThat(batch).anySatisfy(row -> assertThat(row).containsExactly(1L, "GATHERING0001"));
+		assertThat(batch).anySatisfy(row -> assertThat(row).containsExactly(1L, "GATHERING0002"));
+		assertThat(participantCountService.getPendingDelta("GATHERING0001")).isZero();
+	}
+
+	@Test
+	@DisplayName("반영에 실패하면 증감분을 되돌려 다음 주기에 다시 반영한다")
+	void flush_restoresDeltasOnFailure() {
+		// given
+		participantCountService.increment("GATHERING0001");
+		participantCountService.increment("GATHERING0001");
+		doThrow(new QueryTimeoutException("timeout"))
+			.when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+		// when
+		participantCountService.flush();
+
+		// then
+		assertThat(participantCountService.getPendingDelta("GATHERING0001")).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("증감분이 없으면 DB에 반영하지 않는다")
+	void flush_nothingPending() {
+		// given
+		participantCountService.increment("GATHERING0001");
+		participantCountService.flush();
+		clearInvocations(jdbcTemplate);
+
+		// when
+		participantCountService.flush();
+
+		// then
+		verifyNoInteractions(jdbcTemplate);
+	}
+
+	@Test
+	@DisplayName("두 주기 연속 증감이 없던 모임만 제거하고, 제거한 LongAdder에 늦게 기록된 증감은 다음 주기에 반영한다")
+	@SuppressWarnings("unchecked")
+	void flush_evictsIdleEntriesAndRecoversLateDeltas() {
+		// given
+		List<Object[]> batch = recordBatch();
+		Map<String, LongAdder> pendingDeltas =
+			(Map<String, LongAdder>)ReflectionTestUtils.getField(participantCountService, "pendingDeltas");
+		participantCountService.increment("GATHERING0001");
+		participantCountService.flush();
+		LongAdder evicted = pendingDeltas.get("GATHERING0001");
+
+		// when: 1주기 유휴 → 유지, 2주기 유휴 → 제거
+		participantCountService.flush();
+		assertThat(pendingDeltas).containsKey("GATHERING0001");
+		participantCountService.flush();
+		assertThat(pendingDeltas).doesNotContainKey("GATHERING0001");
+
+		// 제거 직전에 참조를 얻은 증감이 제거된 LongAdder에 늦게 기록됨
+		evicted.increment();
+		participantCountService.flush();
+
+		// then
+		assertThat(batch).hasSize(2);
+		assertThat(batch.get(1)).containsExactly(1L, "GATHERING0001");
+	}
+
+	@Test
+	@DisplayName("반영 중 증감이 없던 항목을 제거하는 동안 들어온 증감도 유실되지 않는다")
+	void flush_doesNotLoseConcurrentDeltas() throws Exception {
+		// given: 증가/감소를 같은 횟수로 반복하여 증감분이 자주 0이 되도록 함
+		List<Object[]> batch = recordBatch();
+		int threadCount = 4;
+		int iterations = 20_000;
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		List<Future<?>> futures = new ArrayList<>();
+
+		// when
+		for (int t = 0; t < threadCount; t++) {
+			futures.add(executor.submit(() -> {
+				for (int i = 0; i < iterations; i++) {
+					participantCountService.increment("GATHERING0001");
+					participantCountService.decrement("GATHERING0001");
+				}
+			}));
+		}
+		while (futures.stream().anyMatch(future -> !future.isDone())) {
+			participantCountService.flush();
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+		participantCountService.flush();
+
+		// then
+		long flushed = batch.stream().mapToLong(row -> (long)row[0]).sum();
+		assertThat(flushed + participantCountService.getPendingDelta("GATHERING0001")).isZero();
+	}
+
+	@Test
+	@DisplayName("정합성 보정은 증감분을 먼저 반영한 뒤 TSID 범위별로 실제 참여자 수와 맞춘다")
+	void reconcile_flushesThenCorrectsByRange() {
+		// given
+		participantCountService.increment("GATHERING0001");
+		when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(""), eq(2)))
+			.thenReturn(List.of("GATHERING0001", "GATHERING0002"));
+		when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("GATHERING0002"), eq(2)))
+			.thenReturn(List.of("GATHERING0003"));
+		when(jdbcTemplate.update(contains("COUNT(*)"), anyString(), anyString())).thenReturn(1);
+
+		// when
+		participantCountService.reconcile();
+
+		// then
+		InOrder inOrder = inOrder(jdbcTemplate);
+		inOrder.verify(jdbcTemplate).batchUpdate(contains("participant_count + ?"), anyList());
+		inOrder.verify(jdbcTemplate).update(contains("COUNT(*)"), eq("GATHERING0001"), eq("GATHERING0002"));
+		inOrder.verify(jdbcTemplate).update(contains("COUNT(*)"), eq("GATHERING0003"), eq("GATHERING0003"));
+	}
+
+	/**
+	 * 배치 UPDATE에 전달된 행 기록 (서비스가 실행 후 배치 목록을 비우므로 호출 시점에 복사)
+	 */
+	private List<Object[]> recordBatch() {
+		List<Object[]> rows = new ArrayList<>();
+		when(jdbcTemplate.batchUpdate(contains("participant_count + ?"), anyList())).thenAnswer(invocation -> {
+			rows.addAll(invocation.getArgument(1));
+			return new int[0];
+		});
+		return rows;
+	}
+}
@@ -0,0 +1,120 @@
+package com.gathering.region;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gathering.region.application.RegionDataLoader;
+import com.gathering.region.domain.model.RegionEntity;
+import com.gathering.region.domain.repository.RegionDataVersionRepository;
+import com.gathering.region.domain.repository.RegionRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * RegionDataLoader 통합 테스트 (체크섬 기반 생략, 코드 기준 UPSERT)
+ */
+@SpringBootTest
+@Transactional
+class RegionDataLoaderTest {
+
+	private static final String SOURCE = "test:regions.csv";
+
+	@Autowired
+	private RegionDataLoader regionDataLoader;
+
+	@Autowired
+	private RegionRepository regionRepository;
+
+	@Autowired
+	private RegionDataVersionRepository regionDataVersionRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	@DisplayName("처음 적재하면 모든 지역을 저장하고, 같은 원본은 다시 적재하지 않는다")
+	void loadIfChanged_skipsUnchangedSource() {
+		// given
+		Resource csv = csv("""
+			code,name,path,depth
+			11,서울특별시,11,1
+			11110,종로구,11/11110,2
+			""");
+
+		// when
+		boolean firstLoaded = regionDataLoader.loadIfChanged(SOURCE, csv);
+		boolean secondLoaded = regionDataLoader.loadIfChanged(SOURCE, csv);
+
+		// then
+		assertThat(firstLoaded).isTrue();
+		assertThat(secondLoaded).isFalse();
+		assertThat(regionRepository.findAll()).extracting(RegionEntity::getCode)
+			.containsExactlyInAnyOrder("11", "11110");
+		assertThat(regionDataVersionRepository.findById(SOURCE))
+			.hasValueSatisfying(version -> assertThat(version.getRowCount()).isEqualTo(2));
+	}
+
+	@Test
+	@DisplayName("원본이 바뀌면 기존 지역의 TSID를 유지한 채 변경분만 반영한다")
+	void loadIfChanged_upsertsByCode() {
+		// given
+		regionDataLoader.loadIfChanged(SOURCE, csv("""
+			code,name,path,depth
+			11,서울특별시,11,1
+			11110,종로구,11/11110,2
+			"""));
+		String jongnoTsid = findByCode("11110").getTsid();
+
+		// when
+		boolean loaded = regionDataLoader.loadIfChanged(SOURCE, csv("""
+			code,name,path,depth
+			11,서울특별시,11,1
+			11110,종로구청,11/11110,2
+			11140,중구,11/11140,2
+			"""));
+
+		// then (JDBC로 변경된 행을 다시 읽기 위해 영속성 컨텍스트 초기화)
+		entityManager.clear();
+		assertThat(loaded).isTrue();
+		RegionEntity jongno = findByCode("11110");
+		assertThat(jongno.getTsid()).isEqualTo(jongnoTsid);
+		assertThat(jongno.getName()).isEqualTo("종로구청");
+		assertThat(findByCode("11140").getTsid()).hasSize(13);
+	}
+
+	@Test
+	@DisplayName("경로와 깊이가 맞지 않는 행이 있으면 적재하지 않는다")
+	void loadIfChanged_invalidRow() {
+		// given
+		Resource csv = csv("""
+			code,name,path,depth
+			11110,종로구,11/11110,3
+			""");
+
+		// when & then
+		assertThatThrownBy(() -> regionDataLoader.loadIfChanged(SOURCE, csv))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("2행");
+		assertThat(regionDataVersionRepository.findById(SOURCE)).isEmpty();
+	}
+
+	private RegionEntity findByCode(String code) {
+		return regionRepository.findAll().stream()
+			.filter(region -> region.getCode().equals(code))
+			.findFirst()
+			.orElseThrow();
+	}
+
+	private static Resource csv(String content) {
+		return new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8));
+	}
+}
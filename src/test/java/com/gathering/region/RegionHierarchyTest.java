@@ -0,0 +1,67 @@
+package com.gathering.region;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.gathering.region.domain.model.Region;
+import com.gathering.region.domain.model.RegionHierarchy;
+
+/**
+ * RegionHierarchy 단위 테스트
+ */
+class RegionHierarchyTest {
+
+	private final RegionHierarchy hierarchy = RegionHierarchy.of(List.of(
+		new Region("SEOUL00000000", "11", "서울특별시", "11", 1),
+		new Region("JONGNO0000000", "11110", "종로구", "11/11110", 2),
+		new Region("JUNGGU0000000", "11140", "중구", "11/11140", 2),
+		new Region("CHEONGUN00000", "1111051500", "청운효자동", "11/11110/1111051500", 3),
+		new Region("GYEONGGI00000", "41", "경기도", "41", 1)
+	));
+
+	@Test
+	@DisplayName("TSID와 코드로 지역을 조회한다")
+	void findByTsidAndCode() {
+		assertThat(hierarchy.findByTsid("JONGNO0000000")).map(Region::name).hasValue("종로구");
+		assertThat(hierarchy.findByCode("41")).map(Region::tsid).hasValue("GYEONGGI00000");
+		assertThat(hierarchy.findByTsid("UNKNOWN000000")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("바로 아래 하위 지역만 코드순으로 반환한다")
+	void getChildren() {
+		assertThat(hierarchy.getChildren("SEOUL00000000")).extracting(Region::name)
+			.containsExactly("종로구", "중구");
+		assertThat(hierarchy.getRoots()).extracting(Region::code).containsExactly("11", "41");
+	}
+
+	@Test
+	@DisplayName("상위 지역을 최상위부터 반환한다")
+	void getAncestors() {
+		assertThat(hierarchy.getAncestors("CHEONGUN00000")).extracting(Region::name)
+			.containsExactly("서울특별시", "종로구");
+	}
+
+	@Test
+	@DisplayName("최상위 지역을 반환하고, 최상위 지역이거나 알 수 없는 지역이면 자기 자신을 반환한다")
+	void getRootTsid() {
+		assertThat(hierarchy.getRootTsid("CHEONGUN00000")).isEqualTo("SEOUL00000000");
+		assertThat(hierarchy.getRootTsid("JONGNO0000000")).isEqualTo("SEOUL00000000");
+		assertThat(hierarchy.getRootTsid("GYEONGGI00000")).isEqualTo("GYEONGGI00000");
+		assertThat(hierarchy.getRootTsid("UNKNOWN000000")).isEqualTo("UNKNOWN000000");
+	}
+
+	@Test
+	@DisplayName("지역 확장 시 자기 자신과 모든 하위 지역을 포함하고 다른 지역은 포함하지 않는다")
+	void getSubtreeTsids() {
+		assertThat(hierarchy.getSubtreeTsids("SEOUL00000000"))
+			.containsExactly("SEOUL00000000", "JONGNO0000000", "CHEONGUN00000", "JUNGGU0000000");
+		assertThat(hierarchy.getDescendants("JONGNO0000000")).extracting(Region::name)
+			.containsExactly("청운효자동");
+		assertThat(hierarchy.getSubtreeTsids("UNKNOWN000000")).containsExactly("UNKNOWN000000");
+	}
+}
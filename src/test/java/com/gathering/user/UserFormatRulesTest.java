@@ -0,0 +1,53 @@
+package com.gathering.user;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.gathering.user.application.UserFormatRules;
+
+/**
+ * UserFormatRules 단위 테스트
+ * 기존 정규식과 결과가 동일한지 경계값 위주로 비교
+ */
+class UserFormatRulesTest {
+
+	private static final Pattern EMAIL_REGEX = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
+	private static final Pattern PASSWORD_REGEX =
+		Pattern.compile("^(?=.*\\d)(?=.*[!@#$%^&*])[a-zA-Z0-9!@#$%^&*]{8,}$");
+	private static final Pattern PHONE_NUMBER_REGEX = Pattern.compile("^\\d{10,11}$");
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"test@example.com", "user.name@example.co.kr", "a@b.cd", "a@b.c", "a@.cd", "@b.cd", "a@b.c1",
+		"a@b..cd", "a@b-c.de", "a+b%c_d@x.io", "a@b@c.de", "a b@c.de", "a@b.cde.", "a@bcd", "테스트@b.cd",
+		"a@b.cd\n", "", "a@b_c.de", ".@..ab", "a@-.ab"
+	})
+	@DisplayName("이메일 검사 결과가 기존 정규식과 같다")
+	void email_sameAsRegex(String email) {
+		assertThat(UserFormatRules.isValidEmail(email)).isEqualTo(EMAIL_REGEX.matcher(email).matches());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"Password1!", "password1!", "Passw1!", "Password!!", "Password11", "12345678!", "!!!!!!!1",
+		"Pass word1!", "Password1!가", "Password1?", "Pass1!\n", "Pa1!Pa1!", "", "aaaaaaaaaaaaaaaaaaaaaaaaaaaa"
+	})
+	@DisplayName("비밀번호 검사 결과가 기존 정규식과 같다")
+	void password_sameAsRegex(String password) {
+		assertThat(UserFormatRules.isValidPassword(password)).isEqualTo(PASSWORD_REGEX.matcher(password).matches());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"01012345678", "0212345678", "012345678", "010123456789", "010-1234-5678", "0101234567a",
+		"０１０１２３４５６７８", ""})
+	@DisplayName("전화번호 검사 결과가 기존 정규식과 같다")
+	void phoneNumber_sameAsRegex(String phoneNumber) {
+		assertThat(UserFormatRules.isValidPhoneNumber(phoneNumber))
+			.isEqualTo(PHONE_NUMBER_REGEX.matcher(phoneNumber).matches());
+	}
+}
@@ -0,0 +1,76 @@
+package com.gathering.user;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gathering.user.application.UserImportService;
+import com.gathering.user.application.UserImportService.ImportResult;
+import com.gathering.user.application.UserImportService.ImportRow;
+import com.gathering.user.domain.model.UserStatus;
+import com.gathering.user.domain.model.UsersEntity;
+import com.gathering.user.domain.repository.UserSecurityRepository;
+import com.gathering.user.domain.repository.UsersRepository;
+
+/**
+ * UserImportService 통합 테스트 (JDBC 배치 INSERT)
+ */
+@SpringBootTest
+@Transactional
+class UserImportServiceTest {
+
+	@Autowired
+	private UserImportService userImportService;
+
+	@Autowired
+	private UsersRepository usersRepository;
+
+	@Autowired
+	private UserSecurityRepository userSecurityRepository;
+
+	@BeforeEach
+	void setUp() {
+		userSecurityRepository.deleteAll();
+		usersRepository.deleteAll();
+		usersRepository.save(UsersEntity.builder()
+			.email("existing@example.com")
+			.name("기존사용자")
+			.build());
+	}
+
+	@Test
+	@DisplayName("형식 오류와 중복 이메일을 제외하고 사용자와 보안 정보를 일괄 저장한다")
+	void importUsers() {
+		// given
+		List<ImportRow> rows = List.of(
+			new ImportRow("new1@example.com", "신규1", "nick1", "01012345678"),
+			new ImportRow("new2@example.com", "신규2", null, null),
+			new ImportRow("new1@example.com", "파일내중복", null, null),
+			new ImportRow("existing@example.com", "기존", null, null),
+			new ImportRow("invalid-email", "형식오류", null, null),
+			new ImportRow("new3@example.com", " ", null, null)
+		);
+
+		// when
+		ImportResult result = userImportService.importUsers(rows);
+
+		// then
+		assertThat(result).isEqualTo(new ImportResult(2, 2, 2));
+
+		UsersEntity imported = usersRepository.findByEmail("new1@example.com").orElseThrow();
+		assertThat(imported.getTsid()).hasSize(13);
+		assertThat(imported.getName()).isEqualTo("신규1");
+		assertThat(imported.getStatus()).isEqualTo(UserStatus.ACTIVE);
+		assertThat(imported.getCreatedAt()).isNotNull();
+		assertThat(userSecurityRepository.findByUserTsid(imported.getTsid()))
+			.hasValueSatisfying(security -> assertThat(security.getPasswordHash()).isNull());
+		assertThat(usersRepository.findByEmail("new2@example.com")).isPresent();
+	}
+}
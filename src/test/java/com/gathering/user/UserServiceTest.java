@@ -13,7 +13,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.gathering.auth.application.PrincipalCacheService;
 import com.gathering.auth.application.RefreshTokenService;
+import com.gathering.auth.application.UserRevocationService;
 import com.gathering.common.exception.BusinessException;
 import com.gathering.common.exception.ErrorCode;
 import com.gathering.user.application.UserService;
@@ -52,6 +54,12 @@ class UserServiceTest {
 	@Mock
 	private RefreshTokenService refreshTokenService;
 
+	@Mock
+	private PrincipalCacheService principalCacheService;
+
+	@Mock
+	private UserRevocationService userRevocationService;
+
 	@Test
 	@DisplayName("회원 탈퇴 시 users, user_security 테이블에서 삭제되고 Redis 토큰이 삭제된다")
 	void withdrawSuccess() {
@@ -87,6 +95,10 @@ class UserServiceTest {
 		verify(usersRepository, times(1)).deleteById(tsid);
 		// users 삭제 이후 세션에 대한 부분도 삭제되는가?
 		verify(refreshTokenService, times(1)).deleteAllRefreshTokensByTsid(tsid);
+		// 인증 사용자 캐시도 무효화되는가?
+		verify(principalCacheService, times(1)).evict(tsid);
+		// 클레임 인증 모드의 기존 액세스 토큰도 차단되는가?
+		verify(userRevocationService, times(1)).revokeAfterCommit(tsid);
 	}
 
 	@Test
@@ -142,6 +154,7 @@ class UserServiceTest {
 		verify(userSecurityRepository, never()).deleteById(anyString());
 		verify(usersRepository, never()).deleteById(anyString());
 		verify(refreshTokenService, never()).deleteAllRefreshTokensByTsid(anyString());
+		verify(userRevocationService, never()).revokeAfterCommit(anyString());
 	}
 
 	@Test
@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.gathering.common.exception.BusinessException;
 import com.gathering.common.exception.ErrorCode;
+import com.gathering.common.exception.ValidationResult;
 import com.gathering.user.application.UserValidator;
 import com.gathering.user.domain.model.UsersEntity;
 import com.gathering.user.domain.repository.UsersRepository;
@@ -218,5 +219,29 @@ class UserValidatorTest {
 				.isInstanceOf(BusinessException.class)
 				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.EMAIL_DUPLICATE);
 		}
+
+		@Test
+		@DisplayName("형식 검증은 모든 필드 오류를 한 번에 수집한다")
+		void validateJoinFormat_collectsAllErrors() {
+			// given
+			UserJoinRequest request = UserJoinRequest.builder()
+				.email("invalid-email")
+				.password("short")
+				.name("홍길동")
+				.phoneNumber("010-1234-5678")
+				.build();
+
+			// when
+			ValidationResult result = userValidator.validateJoinFormat(request);
+
+			// then
+			assertThat(result.isValid()).isFalse();
+			assertThat(result.getErrors()).extracting(ValidationResult.FieldError::errorCode)
+				.containsExactly(
+					ErrorCode.INVALID_EMAIL_FORMAT,
+					ErrorCode.INVALID_PHONE_NUMBER_FORMAT,
+					ErrorCode.INVALID_PASSWORD_FORMAT
+				);
+		}
 	}
 }